@@ -176,6 +176,7 @@ public interface Element {
     /**
      * Returns current the list of values hold by the element.
      * The return value can be null. Only multi-value elements will return a list of more than one value.
+     * The returned list may be unmodifiable, copy it before changing it and use {@link #setValue(java.util.List)} to change the element value.
      * 
      * @return List of values or null
      */
@@ -0,0 +1,97 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of validating a single element with {@link net.uniform.impl.AbstractForm#validateField(java.lang.String, java.util.List)}.
+ * It holds the element errors and the errors of the form validators that depend on the element.
+ *
+ * @author Eduardo Ramos
+ */
+public class FieldValidationResult {
+
+    private final String elementId;
+    private final String name;
+    private final List<String> errors;
+    private final List<String> formErrors;
+
+    public FieldValidationResult(String elementId, String name, List<String> errors, List<String> formErrors) {
+        if (elementId == null) {
+            throw new IllegalArgumentException("Element id cannot be null");
+        }
+        this.elementId = elementId;
+        this.name = name;
+        this.errors = errors != null ? Collections.unmodifiableList(new ArrayList<>(errors)) : Collections.<String>emptyList();
+        this.formErrors = formErrors != null ? Collections.unmodifiableList(new ArrayList<>(formErrors)) : Collections.<String>emptyList();
+    }
+
+    public String getElementId() {
+        return elementId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the errors of the element filters and validators.
+     *
+     * @return List of errors, never null
+     */
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Returns the errors of the form validators that depend on the element.
+     *
+     * @return List of errors, never null
+     */
+    public List<String> getFormErrors() {
+        return formErrors;
+    }
+
+    public boolean isValid() {
+        return errors.isEmpty() && formErrors.isEmpty();
+    }
+
+    /**
+     * Returns this result as a map of simple values, ready to be serialized as JSON.
+     * Keys are {@code id}, {@code name}, {@code valid}, {@code errors} and {@code formErrors}.
+     *
+     * @return Map of values
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("id", elementId);
+        map.put("name", name);
+        map.put("valid", isValid());
+        map.put("errors", errors);
+        map.put("formErrors", formErrors);
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return "FieldValidationResult{" + "elementId=" + elementId + ", name=" + name + ", errors=" + errors + ", formErrors=" + formErrors + '}';
+    }
+}
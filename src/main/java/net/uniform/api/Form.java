@@ -316,6 +316,7 @@ public interface Form {
     /**
      * Does the same as {@link #getFormDataConvertedToElementValueTypes()} but automatically sets any matching
      * bean property to the given object, by looking at the each property name and type class.
+     * Dotted element names like {@code address.street} are bound to nested beans, which are created if null.
      * 
      * @param bean Bean object to fill data
      * @return This form
@@ -0,0 +1,58 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.api;
+
+import net.uniform.api.annotations.FormBean;
+
+/**
+ * Creates the form of a Java bean class and copies values between the form and beans without reflection.
+ * Implementations are generated at build time for classes annotated with {@link FormBean}.
+ *
+ * @author Eduardo Ramos
+ * @param <T> Bean type
+ */
+public interface FormBeanBinder<T> {
+
+    /**
+     * Returns the bean class of this binder.
+     *
+     * @return Bean class
+     */
+    Class<T> getBeanClass();
+
+    /**
+     * Creates a new form with an element for each field of the bean.
+     *
+     * @return New form
+     */
+    Form createForm();
+
+    /**
+     * Sets the values of the bean into the elements of the form.
+     *
+     * @param form Form created by this binder
+     * @param bean Bean
+     */
+    void populate(Form form, T bean);
+
+    /**
+     * Sets the values of the form elements, converted to the field types, into the bean.
+     *
+     * @param form Form created by this binder
+     * @param bean Bean
+     */
+    void fillBean(Form form, T bean);
+}
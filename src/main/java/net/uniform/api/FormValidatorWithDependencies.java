@@ -0,0 +1,35 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.api;
+
+import java.util.Collection;
+
+/**
+ * A form validator that declares which elements it depends on.
+ * It will be run by {@link net.uniform.impl.AbstractForm#validateField(java.lang.String, java.util.List)} when validating any of those elements.
+ * The validated element keeps its current value in that case, so its candidate value must be read from the form data.
+ *
+ * @author Eduardo Ramos
+ */
+public interface FormValidatorWithDependencies extends FormValidator {
+
+    /**
+     * Returns the ids of the elements whose values are used by this validator.
+     *
+     * @return Element ids, never null
+     */
+    Collection<String> getDependentElementIds();
+}
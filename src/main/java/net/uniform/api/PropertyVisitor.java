@@ -0,0 +1,33 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.api;
+
+/**
+ * Visitor of properties, to read all the properties of an object without copying them.
+ *
+ * @author Eduardo Ramos
+ * @param <V> Properties value type
+ */
+public interface PropertyVisitor<V> {
+
+    /**
+     * Called once for each property.
+     *
+     * @param key Property key
+     * @param value Property value
+     */
+    void visit(String key, V value);
+}
@@ -0,0 +1,39 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.api;
+
+/**
+ * <p>
+ * A validator whose errors only depend on its own configuration and the given value, never on the element or any other state.
+ * </p>
+ *
+ * <p>
+ * Results of pure validators can be cached across requests when a {@code ValidationResultCache} is set in {@link ValidationResultCacheContext}.
+ * </p>
+ *
+ * @author Eduardo Ramos
+ * @param <T> Type of element supported by this validator
+ */
+public interface PureValidator<T extends Element> extends Validator<T> {
+
+    /**
+     * Returns an immutable key that identifies the configuration of this validator.
+     * Two validators with equal keys must return the same errors for the same value, and changing the configuration must change the key.
+     *
+     * @return Cache key, not null
+     */
+    Object getCacheKey();
+}
@@ -0,0 +1,93 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.api;
+
+import java.util.List;
+import java.util.Map;
+import net.uniform.html.elements.RepeatingGroup;
+
+/**
+ * <p>
+ * Element that holds a table of values, one row per repetition of a group of columns.
+ * Each cell is a single value identified by an indexed name in the form {@code name[row].column},
+ * where {@code name} is the {@code name} property of this element.
+ * </p>
+ *
+ * <p>
+ * Forms populate repeating elements from indexed names and include their cells in the form data with the same indexed names.
+ * The value of the element itself is its number of rows.
+ * </p>
+ *
+ * @author Eduardo Ramos
+ * @see RepeatingGroup
+ */
+public interface RepeatingElement extends Element {
+
+    /**
+     * Returns the ids of the columns of this element, in order.
+     *
+     * @return Column ids
+     */
+    List<String> getColumnIds();
+
+    /**
+     * Returns the number of rows of this element.
+     *
+     * @return Number of rows
+     */
+    int getRowCount();
+
+    /**
+     * Returns the maximum number of rows this element accepts. Cells for rows over the limit are ignored.
+     *
+     * @return Maximum number of rows
+     */
+    int getMaxRows();
+
+    /**
+     * Returns the value of a cell.
+     *
+     * @param row Row index
+     * @param columnId Column id
+     * @return Cell value or null
+     * @throws IllegalArgumentException If the column does not exist
+     */
+    String getCellValue(int row, String columnId);
+
+    /**
+     * Populates a cell, applying the filters of its column.
+     * Unknown columns, disabled columns and rows out of range are ignored since values usually come from a request.
+     *
+     * @param row Row index
+     * @param columnId Column id
+     * @param value Values, only the first one is kept
+     */
+    void populateCell(int row, String columnId, List<String> value);
+
+    /**
+     * Returns the values of all cells indexed by their indexed name {@code name[row].column}.
+     *
+     * @return Cell values by indexed name
+     */
+    Map<String, List<String>> getCellValues();
+
+    /**
+     * Returns the rows converted to the value type of this element, with each cell converted to the value type of its column.
+     *
+     * @return List of rows, never null
+     */
+    List<Object> getConvertedRows();
+}
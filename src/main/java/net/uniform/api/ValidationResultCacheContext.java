@@ -0,0 +1,50 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.api;
+
+import net.uniform.impl.ValidationResultCache;
+
+/**
+ * This class is responsible of holding the validation result cache shared by all elements for {@link PureValidator} instances.
+ * There is no cache by default.
+ *
+ * @author Eduardo Ramos
+ */
+public class ValidationResultCacheContext {
+
+    private static volatile ValidationResultCache cache;
+
+    private ValidationResultCacheContext() {
+    }
+
+    /**
+     * Returns the current validation result cache.
+     *
+     * @return Validation result cache or null if disabled
+     */
+    public static ValidationResultCache getValidationResultCache() {
+        return cache;
+    }
+
+    /**
+     * Sets the validation result cache to be used by Uniform.
+     *
+     * @param cache New cache or null to disable caching
+     */
+    public static void setValidationResultCache(ValidationResultCache cache) {
+        ValidationResultCacheContext.cache = cache;
+    }
+}
@@ -0,0 +1,34 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.api;
+
+/**
+ * Parses element string values into typed values and formats typed values back into element string values.
+ * Converters are registered by value type in {@link net.uniform.impl.utils.ConverterRegistry}.
+ *
+ * @author Eduardo Ramos
+ * @param <T> Type of the converted values
+ */
+public interface ValueConverter<T> extends ValueParser<T> {
+
+    /**
+     * Formats a value.
+     *
+     * @param value Non-null value
+     * @return String value
+     */
+    String format(T value);
+}
@@ -0,0 +1,35 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.api;
+
+/**
+ * Parses element string values into typed values.
+ * Parsers are used as keys for the parsed values that elements keep, so equal parsers must produce equal results.
+ *
+ * @author Eduardo Ramos
+ * @param <T> Type of the parsed values
+ */
+public interface ValueParser<T> {
+
+    /**
+     * Parses a value.
+     *
+     * @param value Trimmed, non-empty value
+     * @return Parsed value
+     * @throws IllegalArgumentException If the value is not valid for this parser
+     */
+    T parse(String value);
+}
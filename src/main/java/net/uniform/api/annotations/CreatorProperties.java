@@ -0,0 +1,40 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.api.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to declare the property name of each parameter of a public constructor or static factory method,
+ * so forms can create immutable beans with {@link net.uniform.api.Form#getFormDataAsBean(java.lang.Class)}.
+ * Constructors annotated with {@link java.beans.ConstructorProperties} are supported too.
+ *
+ * @author Eduardo Ramos
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.CONSTRUCTOR, ElementType.METHOD})
+public @interface CreatorProperties {
+
+    /**
+     * Property names, in parameters order.
+     *
+     * @return Property names
+     */
+    String[] value();
+}
@@ -0,0 +1,48 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.api.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import net.uniform.api.Form;
+import net.uniform.api.FormBeanBinder;
+import net.uniform.html.HTMLForm;
+
+/**
+ * <p>
+ * Annotation to declare a Java bean whose form and binding code are generated at build time by the {@code uniform-processor} annotation processor.
+ * For a bean class {@code Order}, the processor generates {@code OrderFormBinder} in the same package, implementing {@link FormBeanBinder}.
+ * </p>
+ *
+ * <p>
+ * Only the fields annotated with {@link FormField} are part of the form.
+ * </p>
+ *
+ * @author Eduardo Ramos
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface FormBean {
+
+    /**
+     * Form class to create, it must have a public default constructor.
+     *
+     * @return Form class
+     */
+    Class<? extends Form> form() default HTMLForm.class;
+}
@@ -0,0 +1,68 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.api.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import net.uniform.api.Element;
+
+/**
+ * <p>
+ * Annotation to declare a field of a {@link FormBean} as a form element.
+ * The generated binder accesses the field through its getter and setter, or directly if it has none and is not private.
+ * </p>
+ *
+ * <p>
+ * Supported field types are {@code String}, primitive types except {@code char} and their wrappers, {@code BigInteger}, {@code BigDecimal} and {@code Date}.
+ * </p>
+ *
+ * @author Eduardo Ramos
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.FIELD)
+public @interface FormField {
+
+    /**
+     * Id of the element, the field name if empty.
+     *
+     * @return Element id
+     */
+    String id() default "";
+
+    /**
+     * Label of the element, none if empty.
+     *
+     * @return Element label
+     */
+    String label() default "";
+
+    /**
+     * Indicates if the element is required.
+     *
+     * @return True if required
+     */
+    boolean required() default false;
+
+    /**
+     * Single-valued element class with a public constructor receiving the id.
+     * By default {@code Checkbox} for booleans, {@code DatePicker} for dates and {@code Input} for the rest.
+     *
+     * @return Element class
+     */
+    Class<? extends Element> element() default Element.class;
+}
@@ -16,6 +16,8 @@
 package net.uniform.api.html;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -200,6 +202,15 @@ public class OptionGroup {
         return this.getOptions(true);
     }
 
+    /**
+     * Returns an unmodifiable view of all the options in this group, in list order, without copying them.
+     *
+     * @return Unmodifiable options view
+     */
+    public Collection<Option> getOptionsView() {
+        return Collections.unmodifiableCollection(options.values());
+    }
+
     /**
      * Returns the options in this group that are not disabled, in list order.
      * If the group itself is disabled, options are also considered as disabled.
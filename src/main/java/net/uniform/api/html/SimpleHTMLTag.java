@@ -21,6 +21,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import net.uniform.api.PropertyVisitor;
 import net.uniform.impl.utils.HTMLRenderer;
 import net.uniform.impl.utils.HTMLRenderingUtils;
 import net.uniform.impl.utils.UniformUtils;
@@ -48,11 +49,11 @@ public class SimpleHTMLTag {
     /**
      * Empty properties to avoid creating many maps where not necessary.
      */
-    private final Map<String, String> EMPTY_PROPERTIES = Collections.unmodifiableMap(new HashMap<String, String>());
+    private static final Map<String, String> EMPTY_PROPERTIES = Collections.unmodifiableMap(new HashMap<String, String>());
     /**
      * Empty list of tags to avoid creating many lists where not necessary.
      */
-    private final List<SimpleHTMLTag> EMPTY_TAGS = Collections.unmodifiableList(new ArrayList<SimpleHTMLTag>());
+    private static final List<SimpleHTMLTag> EMPTY_TAGS = Collections.unmodifiableList(new ArrayList<SimpleHTMLTag>());
 
     protected String name;
     protected Map<String, String> properties;
@@ -155,6 +156,19 @@ public class SimpleHTMLTag {
         return new ArrayList<>(subTags);
     }
 
+    /**
+     * Returns an unmodifiable view of the subtags of this tag, without copying them.
+     *
+     * @return Unmodifiable list of tags, never null
+     */
+    public List<SimpleHTMLTag> getSubTagsView() {
+        if (subTags == null) {
+            return EMPTY_TAGS;
+        }
+
+        return Collections.unmodifiableList(subTags);
+    }
+
     /**
      * Clears all the subtags
      */
@@ -267,6 +281,32 @@ public class SimpleHTMLTag {
         return new HashMap<>(properties);
     }
 
+    /**
+     * Returns an unmodifiable view of the properties in this tag, without copying them.
+     *
+     * @return A properties view by key, never null
+     */
+    public Map<String, String> getPropertiesView() {
+        if (properties == null) {
+            return EMPTY_PROPERTIES;
+        }
+
+        return Collections.unmodifiableMap(properties);
+    }
+
+    /**
+     * Visits all the properties of this tag without copying them.
+     *
+     * @param visitor Property visitor
+     */
+    public void forEachProperty(PropertyVisitor<String> visitor) {
+        if (properties != null) {
+            for (Entry<String, String> entry : properties.entrySet()) {
+                visitor.visit(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
     /**
      * Sets the escape HTML flag for this tag's content.
      * By default escape is enabled.
@@ -68,7 +68,7 @@ public class HTMLForm extends AbstractForm {
         List<SimpleHTMLTag> innerTags = super.render();
         SimpleHTMLTag formTag = new SimpleHTMLTag("form");
 
-        formTag.setProperties(this.getProperties());
+        formTag.setProperties(this.getPropertiesView());
         for (SimpleHTMLTag innerTag : innerTags) {
             formTag.addSubTag(innerTag);
         }
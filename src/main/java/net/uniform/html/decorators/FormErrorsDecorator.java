@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.List;
 import net.uniform.api.Element;
 import net.uniform.api.Form;
+import net.uniform.api.annotations.StatelessDecorator;
 import net.uniform.api.html.SimpleHTMLTag;
 import net.uniform.impl.AbstractDecorator;
 
@@ -27,6 +28,7 @@ import net.uniform.impl.AbstractDecorator;
  *
  * @author Eduardo Ramos
  */
+@StatelessDecorator
 public class FormErrorsDecorator extends AbstractDecorator {
 
     public static final String DEFAULT_ERRORS_LIST_CLASS = "form-validation-errors";
@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Map;
 import net.uniform.api.Element;
 import net.uniform.api.Form;
+import net.uniform.api.annotations.StatelessDecorator;
 import net.uniform.api.html.SimpleHTMLTag;
 import net.uniform.impl.AbstractDecorator;
 
@@ -29,6 +30,7 @@ import net.uniform.impl.AbstractDecorator;
  *
  * @author Eduardo Ramos
  */
+@StatelessDecorator
 public class HTMLTagDecorator extends AbstractDecorator {
 
     public static final String PROPERTY_TAG_NAME = "tagName";
@@ -18,6 +18,7 @@ package net.uniform.html.decorators;
 import java.util.ArrayList;
 import java.util.List;
 import net.uniform.api.Element;
+import net.uniform.api.annotations.StatelessDecorator;
 import net.uniform.api.html.SimpleHTMLTag;
 import net.uniform.impl.AbstractSingleElementDecorator;
 
@@ -26,6 +27,7 @@ import net.uniform.impl.AbstractSingleElementDecorator;
  *
  * @author Eduardo Ramos
  */
+@StatelessDecorator
 public class LabelDecorator extends AbstractSingleElementDecorator {
 
     public static final String DEFAULT_CLASS = "element-label";
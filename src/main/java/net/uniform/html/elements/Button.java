@@ -84,7 +84,7 @@ public class Button extends AbstractHTMLElement {
 
     @Override
     public Renderer getDefaultRenderer() {
-        return new ButtonRenderer();
+        return ButtonRenderer.INSTANCE;
     }
 
     /**
@@ -93,6 +93,7 @@ public class Button extends AbstractHTMLElement {
      * @param escape True for enabling escaping of HTML, false for disabling it
      */
     public final void setEscape(boolean escape) {
+        checkNotFrozen();
         this.escape = escape;
     }
 
@@ -114,6 +114,6 @@ public class Checkbox extends AbstractHTMLElement implements ElementWithValueCon
 
     @Override
     public Renderer getDefaultRenderer() {
-        return new CheckboxRenderer();
+        return CheckboxRenderer.INSTANCE;
     }
 }
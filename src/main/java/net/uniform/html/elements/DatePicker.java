@@ -15,9 +15,9 @@
  */
 package net.uniform.html.elements;
 
-import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.List;
 import net.uniform.api.ElementWithValueConversion;
 import net.uniform.api.Renderer;
 import net.uniform.api.Validator;
@@ -25,6 +25,10 @@ import net.uniform.exceptions.UniformException;
 import net.uniform.html.renderers.InputRenderer;
 import net.uniform.html.validators.DateValidator;
 import net.uniform.impl.AbstractHTMLElement;
+import net.uniform.impl.utils.DateValueParser;
+import net.uniform.impl.utils.ThreadSafeDateFormat;
+import net.uniform.impl.utils.UniformUtils;
+import net.uniform.impl.utils.ValueParsers;
 
 /**
  * Element that represents an HTML date picker with the default HTML5 date format.
@@ -33,7 +37,8 @@ import net.uniform.impl.AbstractHTMLElement;
  */
 public class DatePicker extends AbstractHTMLElement implements ElementWithValueConversion<Date> {
 
-    private SimpleDateFormat dateFormat;
+    private ThreadSafeDateFormat dateFormat;
+    private DateValueParser dateParser;
 
     public static final String DEFAULT_DATE_FORMAT = "yyyy-MM-dd";
 
@@ -42,25 +47,43 @@ public class DatePicker extends AbstractHTMLElement implements ElementWithValueC
     }
 
     public DatePicker(String id, SimpleDateFormat dateFormat) {
-        super(id);
-        this.setProperty("type", "date");
-
-        this.dateFormat = dateFormat;
-        this.addValidator(new DateValidator(this.dateFormat));
+        this(id, new ThreadSafeDateFormat(dateFormat));
     }
 
     public DatePicker(String id, String dateFormat) {
-        super(id);
+        this(id, new ThreadSafeDateFormat(dateFormat));
+    }
 
-        SimpleDateFormat sdf = new SimpleDateFormat(dateFormat);
-        sdf.setLenient(false);
+    public DatePicker(String id, ThreadSafeDateFormat dateFormat) {
+        super(id);
+        if (dateFormat == null) {
+            throw new IllegalArgumentException("Date format cannot be null");
+        }
 
         this.setProperty("type", "date");
 
-        this.dateFormat = sdf;
+        this.dateFormat = dateFormat;
+        this.dateParser = new DateValueParser(dateFormat);
         this.addValidator(new DateValidator(this.dateFormat));
     }
 
+    /**
+     * Returns a copy of this element. Its date validators are copied too, since they follow the date format of the element.
+     *
+     * @return Copy of this element
+     */
+    @Override
+    public DatePicker copy() {
+        DatePicker copy = (DatePicker) super.copy();
+        for (int i = 0; i < copy.validators.size(); i++) {
+            Validator validator = copy.validators.get(i);
+            if (validator instanceof DateValidator) {
+                copy.validators.set(i, new DateValidator(((DateValidator) validator).getThreadSafeDateFormat()));
+            }
+        }
+        return copy;
+    }
+
     @Override
     public Class<?> getValueType() {
         return Date.class;
@@ -91,16 +114,24 @@ public class DatePicker extends AbstractHTMLElement implements ElementWithValueC
     public Date getConvertedValue() {
         String dateStr = this.getFirstValue();
 
-        if (dateStr != null && !dateStr.trim().isEmpty()) {
-            dateStr = dateStr.trim();
-            try {
-                return dateFormat.parse(dateStr);
-            } catch (ParseException ex) {
-                throw new UniformException(String.format("Could not parse date %s", dateStr), ex);
-            }
+        try {
+            return ValueParsers.parse(this, dateStr, dateParser);
+        } catch (IllegalArgumentException ex) {
+            throw new UniformException(ex.getMessage(), ex.getCause() != null ? ex.getCause() : ex);
         }
+    }
 
-        return null;
+    /**
+     * Converts the given values to a Date like {@link #getConvertedValue()}, without changing the value of this element.
+     * @param value List of values or null
+     * @return Date
+     */
+    public Date getConvertedValue(List<String> value) {
+        try {
+            return ValueParsers.parse(UniformUtils.firstValue(value), dateParser);
+        } catch (IllegalArgumentException ex) {
+            throw new UniformException(ex.getMessage(), ex.getCause() != null ? ex.getCause() : ex);
+        }
     }
 
     /**
@@ -109,9 +140,14 @@ public class DatePicker extends AbstractHTMLElement implements ElementWithValueC
      * @param dateFormat Date format
      * @return This element
      */
-    public DatePicker setDateFormat(SimpleDateFormat dateFormat) {
+    public DatePicker setDateFormat(ThreadSafeDateFormat dateFormat) {
+        checkNotFrozen();
+        if (dateFormat == null) {
+            throw new IllegalArgumentException("Date format cannot be null");
+        }
         this.dateFormat = dateFormat;
-        for (Validator validator : this.getValidators()) {
+        this.dateParser = new DateValueParser(dateFormat);
+        for (Validator validator : this.getValidatorsView()) {
             if (validator instanceof DateValidator) {
                 ((DateValidator) validator).setDateFormat(dateFormat);
             }
@@ -119,6 +155,16 @@ public class DatePicker extends AbstractHTMLElement implements ElementWithValueC
         return this;
     }
 
+    /**
+     * Sets the date format for this element.
+     * It also changes the date format for the date validator, if present.
+     * @param dateFormat Date format
+     * @return This element
+     */
+    public DatePicker setDateFormat(SimpleDateFormat dateFormat) {
+        return setDateFormat(new ThreadSafeDateFormat(dateFormat));
+    }
+
     /**
      * Sets the date format for this element.
      * It also changes the date format for the date validator, if present.
@@ -126,23 +172,29 @@ public class DatePicker extends AbstractHTMLElement implements ElementWithValueC
      * @return This element
      */
     public DatePicker setDateFormat(String dateFormat) {
-        SimpleDateFormat sdf = new SimpleDateFormat(dateFormat);
-        sdf.setLenient(false);
+        return setDateFormat(new ThreadSafeDateFormat(dateFormat));
+    }
 
-        return setDateFormat(sdf);
+    /**
+     * Returns a copy of the date format for this element. Changing it has no effect on the element.
+     *
+     * @return Date format copy
+     */
+    public SimpleDateFormat getDateFormat() {
+        return dateFormat.toSimpleDateFormat();
     }
 
     /**
-     * Returns the date format for this element.
+     * Returns the thread-safe date format for this element.
      *
      * @return Date format
      */
-    public SimpleDateFormat getDateFormat() {
+    public ThreadSafeDateFormat getThreadSafeDateFormat() {
         return dateFormat;
     }
 
     @Override
     public Renderer getDefaultRenderer() {
-        return new InputRenderer();
+        return InputRenderer.INSTANCE;
     }
 }
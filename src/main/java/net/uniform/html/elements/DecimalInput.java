@@ -0,0 +1,272 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.html.elements;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import net.uniform.api.ValueParser;
+import net.uniform.impl.AbstractNumberInput;
+
+/**
+ * <p>
+ * Element that represents an HTML number input for decimal values with a fixed scale, converted to {@code BigDecimal}.
+ * </p>
+ *
+ * <p>
+ * The value is parsed once into its unscaled {@code long} value, that can be read without boxing with {@link #getUnscaledValue()}.
+ * Values with more decimals than the scale are not valid, unless the extra decimals are zeros.
+ * </p>
+ *
+ * @author Eduardo Ramos
+ */
+public class DecimalInput extends AbstractNumberInput<BigDecimal> {
+
+    public static final int DEFAULT_SCALE = 2;
+    public static final int MAX_SCALE = 18;
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_SCALE + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final int scale;
+    private final UnscaledParser unscaledParser;
+
+    public DecimalInput(String id) {
+        this(id, DEFAULT_SCALE);
+    }
+
+    public DecimalInput(String id, int scale) {
+        super(id, BigDecimal.class, Long.MIN_VALUE, Long.MAX_VALUE);
+        if (scale < 0 || scale > MAX_SCALE) {
+            throw new IllegalArgumentException("Scale must be between 0 and " + MAX_SCALE);
+        }
+
+        this.scale = scale;
+        this.unscaledParser = new UnscaledParser(scale);
+        this.setProperty("step", BigDecimal.valueOf(1, scale).toPlainString());
+    }
+
+    @Override
+    public int getScale() {
+        return scale;
+    }
+
+    @Override
+    protected ValueParser<Long> getUnitsParser() {
+        return unscaledParser;
+    }
+
+    @Override
+    protected BigDecimal fromUnits(long units) {
+        return BigDecimal.valueOf(units, scale);
+    }
+
+    @Override
+    public String formatUnits(long units) {
+        return BigDecimal.valueOf(units, scale).toPlainString();
+    }
+
+    /**
+     * Returns the unscaled value of this element, that is the value multiplied by 10 to the power of the scale.
+     *
+     * @return Unscaled value
+     * @throws net.uniform.exceptions.UniformException If the value is empty or not a valid number
+     */
+    public long getUnscaledValue() {
+        return getUnits();
+    }
+
+    /**
+     * Returns the value of this element as a double.
+     *
+     * @return Value
+     * @throws net.uniform.exceptions.UniformException If the value is empty or not a valid number
+     */
+    public double getDouble() {
+        return (double) getUnits() / POWERS_OF_TEN[scale];
+    }
+
+    /**
+     * Sets the value of this element from its unscaled value.
+     *
+     * @param unscaledValue Value multiplied by 10 to the power of the scale
+     * @return This element
+     */
+    public DecimalInput setUnscaledValue(long unscaledValue) {
+        setUnits(unscaledValue);
+        return this;
+    }
+
+    /**
+     * Sets the value of this element.
+     *
+     * @param value Value with no more decimals than the scale of this element
+     * @return This element
+     */
+    public DecimalInput setValue(BigDecimal value) {
+        setUnits(toUnscaled(value));
+        return this;
+    }
+
+    /**
+     * Returns the minimum allowed value, inclusive.
+     *
+     * @return Minimum value
+     */
+    public BigDecimal getMin() {
+        return fromUnits(getMinUnits());
+    }
+
+    /**
+     * Sets the minimum allowed value, inclusive.
+     *
+     * @param min Minimum value with no more decimals than the scale of this element
+     * @return This element
+     */
+    public DecimalInput setMin(BigDecimal min) {
+        setMinUnits(toUnscaled(min));
+        return this;
+    }
+
+    /**
+     * Returns the maximum allowed value, inclusive.
+     *
+     * @return Maximum value
+     */
+    public BigDecimal getMax() {
+        return fromUnits(getMaxUnits());
+    }
+
+    /**
+     * Sets the maximum allowed value, inclusive.
+     *
+     * @param max Maximum value with no more decimals than the scale of this element
+     * @return This element
+     */
+    public DecimalInput setMax(BigDecimal max) {
+        setMaxUnits(toUnscaled(max));
+        return this;
+    }
+
+    private long toUnscaled(BigDecimal value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+
+        try {
+            BigDecimal scaled = value.setScale(scale, RoundingMode.UNNECESSARY);
+            if (scaled.unscaledValue().bitLength() > 63) {
+                throw new IllegalArgumentException("Value " + value + " is out of range");
+            }
+            return scaled.unscaledValue().longValue();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Value " + value + " has more than " + scale + " decimals", e);
+        }
+    }
+
+    /**
+     * Parses decimal values directly into their unscaled value, without intermediate objects.
+     */
+    private static final class UnscaledParser implements ValueParser<Long> {
+
+        private final int scale;
+
+        private UnscaledParser(int scale) {
+            this.scale = scale;
+        }
+
+        @Override
+        public Long parse(String value) {
+            int length = value.length();
+            int i = 0;
+            boolean negative = false;
+
+            char first = value.charAt(0);
+            if (first == '-' || first == '+') {
+                negative = first == '-';
+                i++;
+            }
+
+            //Accumulate as a negative number so Long.MIN_VALUE can be parsed:
+            long units = 0;
+            int digits = 0;
+            int decimals = -1;
+            for (; i < length; i++) {
+                char c = value.charAt(i);
+                if (c == '.' && decimals < 0) {
+                    decimals = 0;
+                    continue;
+                }
+                if (c < '0' || c > '9') {
+                    throw new NumberFormatException("Invalid decimal value: " + value);
+                }
+
+                digits++;
+                if (decimals >= 0 && ++decimals > scale) {
+                    if (c != '0') {
+                        throw new NumberFormatException("Too many decimals in value: " + value);
+                    }
+                    continue;
+                }
+                units = shift(units, c - '0', value);
+            }
+
+            if (digits == 0) {
+                throw new NumberFormatException("Invalid decimal value: " + value);
+            }
+
+            for (int d = Math.max(decimals, 0); d < scale; d++) {
+                units = shift(units, 0, value);
+            }
+
+            if (!negative) {
+                if (units == Long.MIN_VALUE) {
+                    throw new NumberFormatException("Value out of range: " + value);
+                }
+                units = -units;
+            }
+
+            return units;
+        }
+
+        private static long shift(long negativeUnits, int digit, String value) {
+            if (negativeUnits < Long.MIN_VALUE / 10) {
+                throw new NumberFormatException("Value out of range: " + value);
+            }
+
+            long shifted = negativeUnits * 10;
+            if (shifted < Long.MIN_VALUE + digit) {
+                throw new NumberFormatException("Value out of range: " + value);
+            }
+            return shifted - digit;
+        }
+
+        @Override
+        public int hashCode() {
+            return scale;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof UnscaledParser && ((UnscaledParser) obj).scale == scale;
+        }
+    }
+}
@@ -19,6 +19,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import net.uniform.api.Element;
+import net.uniform.api.PropertyVisitor;
 import net.uniform.api.Renderer;
 import net.uniform.api.annotations.IgnoreDefaultFormDecorators;
 import net.uniform.api.html.SimpleHTMLTag;
@@ -33,7 +34,7 @@ import net.uniform.impl.AbstractElement;
 @IgnoreDefaultFormDecorators
 public class HTMLElement extends AbstractElement {
 
-    private final SimpleHTMLTag elementTag;
+    private SimpleHTMLTag elementTag;
 
     public static final boolean DEFAULT_ESCAPE_CONTENT = false;
 
@@ -82,11 +83,13 @@ public class HTMLElement extends AbstractElement {
     }
 
     public HTMLElement setName(String name) {
+        checkNotFrozen();
         elementTag.setName(name);
         return this;
     }
 
     public HTMLElement setContent(String content) {
+        checkNotFrozen();
         elementTag.setContent(content);
         return this;
     }
@@ -103,19 +106,37 @@ public class HTMLElement extends AbstractElement {
         return elementTag.getSubTags();
     }
 
+    public List<SimpleHTMLTag> getSubTagsView() {
+        return elementTag.getSubTagsView();
+    }
+
     public HTMLElement addSubTag(SimpleHTMLTag tag) {
+        checkNotFrozen();
         this.elementTag.addSubTag(tag);
         return this;
     }
 
     @Override
     public HTMLElement setProperty(String key, String value) {
+        checkNotFrozen();
         elementTag.setProperty(key, value);
+        if ("name".equalsIgnoreCase(key)) {
+            nameOrValueTypeChanged();
+        }
         return this;
     }
 
+    @Override
+    public HTMLElement copy() {
+        HTMLElement copy = (HTMLElement) super.copy();
+        copy.elementTag = new SimpleHTMLTag(elementTag);
+        return copy;
+    }
+
     public HTMLElement setProperties(Map<String, String> properties) {
+        checkNotFrozen();
         elementTag.setProperties(properties);
+        nameOrValueTypeChanged();
         return this;
     }
 
@@ -129,7 +150,18 @@ public class HTMLElement extends AbstractElement {
         return elementTag.getProperties();
     }
 
+    @Override
+    public Map<String, String> getPropertiesView() {
+        return elementTag.getPropertiesView();
+    }
+
+    @Override
+    public void forEachProperty(PropertyVisitor<String> visitor) {
+        elementTag.forEachProperty(visitor);
+    }
+
     public HTMLElement setEscapeContent(boolean escapeContent) {
+        checkNotFrozen();
         elementTag.setEscapeContent(escapeContent);
         return this;
     }
@@ -140,17 +172,24 @@ public class HTMLElement extends AbstractElement {
 
     @Override
     public Renderer getDefaultRenderer() {
-        return new Renderer<HTMLElement>() {
-
-            @Override
-            public List<SimpleHTMLTag> render(HTMLElement element) {
-                return Arrays.asList(new SimpleHTMLTag(elementTag));
-            }
-        };
+        return RENDERER;
     }
 
+    private static final Renderer<HTMLElement> RENDERER = new Renderer<HTMLElement>() {
+
+        @Override
+        public List<SimpleHTMLTag> render(HTMLElement element) {
+            return Arrays.asList(new SimpleHTMLTag(element.elementTag));
+        }
+    };
+
     @Override
     public List<String> getValidationErrors() {
         return null;
     }
+
+    @Override
+    public List<String> getValidationErrorsForValue(List<String> value) {
+        return null;
+    }
 }
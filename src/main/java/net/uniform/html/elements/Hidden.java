@@ -40,7 +40,7 @@ public class Hidden extends AbstractHTMLElement {
 
     @Override
     public Renderer getDefaultRenderer() {
-        return new HiddenRenderer();
+        return HiddenRenderer.INSTANCE;
     }
 
     @Override
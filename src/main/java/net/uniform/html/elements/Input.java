@@ -33,6 +33,6 @@ public class Input extends AbstractHTMLElement {
 
     @Override
     public Renderer getDefaultRenderer() {
-        return new InputRenderer();
+        return InputRenderer.INSTANCE;
     }
 }
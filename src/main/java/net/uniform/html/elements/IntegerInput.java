@@ -0,0 +1,116 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.html.elements;
+
+import net.uniform.api.ValueParser;
+import net.uniform.impl.AbstractNumberInput;
+import net.uniform.impl.utils.ValueConverters;
+
+/**
+ * Element that represents an HTML number input for integer values, converted to {@code Integer}.
+ * The value is parsed once and can be read without boxing with {@link #getInt()}.
+ *
+ * @author Eduardo Ramos
+ */
+public class IntegerInput extends AbstractNumberInput<Integer> {
+
+    private static final ValueParser<Long> UNITS_PARSER = new ValueParser<Long>() {
+        @Override
+        public Long parse(String value) {
+            return (long) ValueConverters.INTEGER.parseInt(value);
+        }
+    };
+
+    public IntegerInput(String id) {
+        super(id, Integer.class, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    @Override
+    protected ValueParser<Long> getUnitsParser() {
+        return UNITS_PARSER;
+    }
+
+    @Override
+    protected Integer fromUnits(long units) {
+        return Integer.valueOf((int) units);
+    }
+
+    @Override
+    public String formatUnits(long units) {
+        return ValueConverters.INTEGER.format((int) units);
+    }
+
+    /**
+     * Returns the value of this element.
+     *
+     * @return Value
+     * @throws net.uniform.exceptions.UniformException If the value is empty or not a valid number
+     */
+    public int getInt() {
+        return (int) getUnits();
+    }
+
+    /**
+     * Sets the value of this element.
+     *
+     * @param value Value
+     * @return This element
+     */
+    public IntegerInput setValue(int value) {
+        setUnits(value);
+        return this;
+    }
+
+    /**
+     * Returns the minimum allowed value, inclusive.
+     *
+     * @return Minimum value
+     */
+    public int getMin() {
+        return (int) getMinUnits();
+    }
+
+    /**
+     * Sets the minimum allowed value, inclusive.
+     *
+     * @param min Minimum value
+     * @return This element
+     */
+    public IntegerInput setMin(int min) {
+        setMinUnits(min);
+        return this;
+    }
+
+    /**
+     * Returns the maximum allowed value, inclusive.
+     *
+     * @return Maximum value
+     */
+    public int getMax() {
+        return (int) getMaxUnits();
+    }
+
+    /**
+     * Sets the maximum allowed value, inclusive.
+     *
+     * @param max Maximum value
+     * @return This element
+     */
+    public IntegerInput setMax(int max) {
+        setMaxUnits(max);
+        return this;
+    }
+}
@@ -0,0 +1,109 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.html.elements;
+
+import net.uniform.api.ValueParser;
+import net.uniform.impl.AbstractNumberInput;
+import net.uniform.impl.utils.ValueConverters;
+
+/**
+ * Element that represents an HTML number input for long integer values, converted to {@code Long}.
+ * The value is parsed once and can be read without boxing with {@link #getLong()}.
+ *
+ * @author Eduardo Ramos
+ */
+public class LongInput extends AbstractNumberInput<Long> {
+
+    public LongInput(String id) {
+        super(id, Long.class, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    @Override
+    protected ValueParser<Long> getUnitsParser() {
+        return ValueConverters.LONG;
+    }
+
+    @Override
+    protected Long fromUnits(long units) {
+        return Long.valueOf(units);
+    }
+
+    @Override
+    public String formatUnits(long units) {
+        return ValueConverters.LONG.format(units);
+    }
+
+    /**
+     * Returns the value of this element.
+     *
+     * @return Value
+     * @throws net.uniform.exceptions.UniformException If the value is empty or not a valid number
+     */
+    public long getLong() {
+        return getUnits();
+    }
+
+    /**
+     * Sets the value of this element.
+     *
+     * @param value Value
+     * @return This element
+     */
+    public LongInput setValue(long value) {
+        setUnits(value);
+        return this;
+    }
+
+    /**
+     * Returns the minimum allowed value, inclusive.
+     *
+     * @return Minimum value
+     */
+    public long getMin() {
+        return getMinUnits();
+    }
+
+    /**
+     * Sets the minimum allowed value, inclusive.
+     *
+     * @param min Minimum value
+     * @return This element
+     */
+    public LongInput setMin(long min) {
+        setMinUnits(min);
+        return this;
+    }
+
+    /**
+     * Returns the maximum allowed value, inclusive.
+     *
+     * @return Maximum value
+     */
+    public long getMax() {
+        return getMaxUnits();
+    }
+
+    /**
+     * Sets the maximum allowed value, inclusive.
+     *
+     * @param max Maximum value
+     * @return This element
+     */
+    public LongInput setMax(long max) {
+        setMaxUnits(max);
+        return this;
+    }
+}
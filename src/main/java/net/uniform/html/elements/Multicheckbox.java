@@ -39,6 +39,6 @@ public class Multicheckbox extends MultioptionInputElement {
 
     @Override
     public Renderer getDefaultRenderer() {
-        return new MultioptionInputRenderer(MultioptionInputRenderer.InputType.CHECKBOX);
+        return MultioptionInputRenderer.CHECKBOX_INSTANCE;
     }
 }
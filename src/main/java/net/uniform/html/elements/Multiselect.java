@@ -39,6 +39,6 @@ public class Multiselect extends ElementWithOptions {
 
     @Override
     public Renderer getDefaultRenderer() {
-        return new SelectRenderer();
+        return SelectRenderer.INSTANCE;
     }
 }
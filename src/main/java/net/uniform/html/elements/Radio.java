@@ -34,6 +34,6 @@ public class Radio extends MultioptionInputElement {
 
     @Override
     public Renderer getDefaultRenderer() {
-        return new MultioptionInputRenderer(MultioptionInputRenderer.InputType.RADIO);
+        return MultioptionInputRenderer.RADIO_INSTANCE;
     }
 }
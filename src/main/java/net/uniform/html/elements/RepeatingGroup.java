@@ -0,0 +1,476 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.html.elements;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import net.uniform.api.Element;
+import net.uniform.api.ElementWithValueConversion;
+import net.uniform.api.Filter;
+import net.uniform.api.RepeatingElement;
+import net.uniform.api.Renderer;
+import net.uniform.api.ValueParser;
+import net.uniform.exceptions.UniformException;
+import net.uniform.html.renderers.RepeatingGroupRenderer;
+import net.uniform.impl.AbstractElement;
+import net.uniform.impl.AbstractHTMLElement;
+import net.uniform.impl.utils.UniformUtils;
+import net.uniform.impl.utils.ValueParsers;
+
+/**
+ * <p>
+ * Element that represents an editable grid, with a row for each repetition of a group of columns.
+ * Each column is defined by a prototype element, such as an {@link Input} or a {@link Select}, whose filters, validators, renderer and decorators are shared by all the cells of the column.
+ * Cell values are stored column-wise in compact arrays instead of one element per cell.
+ * </p>
+ *
+ * <p>
+ * Cells are named {@code name[row].column}, where {@code name} is the {@code name} property of the group and {@code column} is the id of the column prototype.
+ * The value type of the group is the type of its rows: a {@link Map} by column id (default) or a Java bean class with a default constructor,
+ * so {@code getFormDataIntoBean} fills a {@code List} of rows.
+ * The value of the group itself is its number of rows, so {@code setRequired(true)} requires at least one row.
+ * </p>
+ *
+ * <p>
+ * Column prototypes are changed while rendering and converting values, so they should not be part of any form.
+ * Repeating groups keep their rows in the element and cannot be part of a frozen form.
+ * </p>
+ *
+ * @author Eduardo Ramos
+ */
+public class RepeatingGroup extends AbstractHTMLElement implements RepeatingElement {
+
+    public static final int DEFAULT_MAX_ROWS = 10000;
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private List<Element> columns = new ArrayList<>();
+    private Map<String, Integer> columnIndexes = new HashMap<>();
+    private String[][] cells = new String[0][];
+    private int capacity = 0;
+    private int rowCount = 0;
+    private int maxRows = DEFAULT_MAX_ROWS;
+
+    private Map<String, List<String>> cellValidationErrors = Collections.emptyMap();
+
+    public RepeatingGroup(String id) {
+        this(id, Map.class);
+    }
+
+    public RepeatingGroup(String id, Class<?> rowType) {
+        super(id);
+        this.setValueType(rowType);
+    }
+
+    /**
+     * Adds a column to this group.
+     *
+     * @param column Single-valued prototype element of the column, its id is the column id
+     * @return This element
+     */
+    public RepeatingGroup addColumn(Element column) {
+        checkNotFrozen();
+        if (column == null) {
+            throw new IllegalArgumentException("Column cannot be null");
+        }
+
+        String columnId = column.getId();
+        if (columnIndexes.containsKey(columnId)) {
+            throw new IllegalArgumentException("The column id '" + columnId + "' is already present in this element");
+        }
+        if (columnId.contains("[") || columnId.contains("]")) {
+            throw new IllegalArgumentException("Column id '" + columnId + "' cannot be in array form");
+        }
+        if (column.isMultiValue()) {
+            throw new IllegalArgumentException("Column '" + columnId + "' cannot be multi-valued");
+        }
+
+        columnIndexes.put(columnId, columns.size());
+        columns.add(column);
+        cells = Arrays.copyOf(cells, columns.size());
+        cells[cells.length - 1] = new String[capacity];
+
+        return this;
+    }
+
+    /**
+     * Adds several columns to this group.
+     *
+     * @param columns Single-valued prototype elements
+     * @return This element
+     */
+    public RepeatingGroup addColumns(Element... columns) {
+        for (Element column : columns) {
+            addColumn(column);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the prototype elements of the columns, in order.
+     *
+     * @return Unmodifiable list of columns
+     */
+    public List<Element> getColumns() {
+        return Collections.unmodifiableList(columns);
+    }
+
+    /**
+     * Returns the prototype element of a column.
+     *
+     * @param columnId Column id
+     * @return Column prototype or null if not found
+     */
+    public Element getColumn(String columnId) {
+        Integer index = columnIndexes.get(columnId);
+        return index != null ? columns.get(index) : null;
+    }
+
+    @Override
+    public List<String> getColumnIds() {
+        List<String> columnIds = new ArrayList<>(columns.size());
+        for (Element column : columns) {
+            columnIds.add(column.getId());
+        }
+        return columnIds;
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getMaxRows() {
+        return maxRows;
+    }
+
+    /**
+     * Sets the maximum number of rows this group accepts, so requests cannot make it allocate any number of rows.
+     * Rows over the new limit are removed.
+     *
+     * @param maxRows Maximum number of rows
+     * @return This element
+     */
+    public RepeatingGroup setMaxRows(int maxRows) {
+        checkNotFrozen();
+        if (maxRows < 1) {
+            throw new IllegalArgumentException("Maximum number of rows must be positive");
+        }
+
+        this.maxRows = maxRows;
+        if (rowCount > maxRows) {
+            for (String[] columnCells : cells) {
+                Arrays.fill(columnCells, maxRows, rowCount, null);
+            }
+            rowCount = maxRows;
+        }
+        return this;
+    }
+
+    /**
+     * Returns the indexed name of a cell.
+     *
+     * @param row Row index
+     * @param columnId Column id
+     * @return Cell name as {@code name[row].column}
+     */
+    public String getCellName(int row, String columnId) {
+        return getProperty("name") + "[" + row + "]." + columnId;
+    }
+
+    @Override
+    public String getCellValue(int row, String columnId) {
+        int column = requireColumnIndex(columnId);
+        return row >= 0 && row < rowCount ? cells[column][row] : null;
+    }
+
+    /**
+     * Sets the value of a cell, applying the filters of its column.
+     *
+     * @param row Row index
+     * @param columnId Column id
+     * @param value Cell value
+     * @return This element
+     * @throws IllegalArgumentException If the column does not exist or the row is out of range
+     */
+    public RepeatingGroup setCellValue(int row, String columnId, String value) {
+        int column = requireColumnIndex(columnId);
+        if (row < 0 || row >= maxRows) {
+            throw new IllegalArgumentException("Row " + row + " is out of range");
+        }
+
+        storeCell(row, column, value);
+        return this;
+    }
+
+    @Override
+    public void populateCell(int row, String columnId, List<String> value) {
+        Integer column = columnIndexes.get(columnId);
+        if (column == null || row < 0 || row >= maxRows || hasProperty("disabled") || columns.get(column).hasProperty("disabled")) {
+            return;
+        }
+
+        storeCell(row, column, value != null && !value.isEmpty() ? value.get(0) : null);
+    }
+
+    private void storeCell(int row, int column, String value) {
+        ensureCapacity(row + 1);
+
+        for (Filter filter : AbstractElement.filtersView(columns.get(column))) {
+            if (filter != null) {
+                value = filter.filter(value);
+            }
+        }
+
+        cells[column][row] = value;
+        if (row >= rowCount) {
+            rowCount = row + 1;
+        }
+    }
+
+    private void ensureCapacity(int rows) {
+        if (rows > capacity) {
+            int newCapacity = Math.min(Math.max(rows, Math.max(capacity * 2, INITIAL_CAPACITY)), maxRows);
+            for (int i = 0; i < cells.length; i++) {
+                cells[i] = Arrays.copyOf(cells[i], newCapacity);
+            }
+            capacity = newCapacity;
+        }
+    }
+
+    private int requireColumnIndex(String columnId) {
+        Integer column = columnIndexes.get(columnId);
+        if (column == null) {
+            throw new IllegalArgumentException("Column with id '" + columnId + "' not found");
+        }
+        return column;
+    }
+
+    /**
+     * Removes all the rows of this group.
+     *
+     * @return This element
+     */
+    public RepeatingGroup clearRows() {
+        for (String[] columnCells : cells) {
+            Arrays.fill(columnCells, 0, rowCount, null);
+        }
+        rowCount = 0;
+        cellValidationErrors = Collections.emptyMap();
+        return this;
+    }
+
+    @Override
+    public Map<String, List<String>> getCellValues() {
+        Map<String, List<String>> values = new LinkedHashMap<>();
+        for (int row = 0; row < rowCount; row++) {
+            for (int column = 0; column < columns.size(); column++) {
+                String cell = cells[column][row];
+                values.put(getCellName(row, columns.get(column).getId()), cell != null ? Collections.singletonList(cell) : null);
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public List<String> getValue() {
+        return rowCount > 0 ? Collections.singletonList(Integer.toString(rowCount)) : null;
+    }
+
+    @Override
+    public String getFirstValue() {
+        return rowCount > 0 ? Integer.toString(rowCount) : null;
+    }
+
+    /**
+     * The value of a repeating group is its number of rows, only a null value is accepted to remove all rows.
+     *
+     * @param value Null or empty list
+     * @return This element
+     */
+    @Override
+    public Element setValue(List<String> value) {
+        if (value != null && !value.isEmpty()) {
+            throw new IllegalArgumentException("The rows of a repeating group are set by cell, the group value cannot be set");
+        }
+        return clearRows();
+    }
+
+    @Override
+    public Element populate(List<String> value) {
+        //Only cells are populated:
+        return this;
+    }
+
+    /**
+     * Validates the group itself with its number of rows as value, and then each column with one loop over its cells.
+     * Errors of each cell are also available in {@link #getCellValidationErrors()}.
+     *
+     * @return Group errors and cell errors prefixed with the cell name
+     */
+    @Override
+    public List<String> getValidationErrors() {
+        super.setValue(getValue());
+        List<String> errors = new ArrayList<>(super.getValidationErrors());
+
+        Map<String, List<String>> cellErrors = new LinkedHashMap<>();
+        for (int column = 0; column < columns.size(); column++) {
+            Element prototype = columns.get(column);
+            String[] columnCells = cells[column];
+
+            for (int row = 0; row < rowCount; row++) {
+                String cell = columnCells[row];
+                List<String> errorsOfCell = AbstractElement.validationErrorsForValue(prototype, cell != null ? Collections.singletonList(cell) : null);
+                if (errorsOfCell != null && !errorsOfCell.isEmpty()) {
+                    String cellName = getCellName(row, prototype.getId());
+                    cellErrors.put(cellName, errorsOfCell);
+                    for (String error : errorsOfCell) {
+                        errors.add(cellName + ": " + error);
+                    }
+                }
+            }
+        }
+
+        this.cellValidationErrors = cellErrors;
+        return errors;
+    }
+
+    /**
+     * Returns the errors of each cell found in the last validation of this group.
+     *
+     * @return Errors by cell name, only for cells with errors
+     */
+    public Map<String, List<String>> getCellValidationErrors() {
+        return Collections.unmodifiableMap(cellValidationErrors);
+    }
+
+    @Override
+    public Element reset() {
+        super.reset();
+        cellValidationErrors = Collections.emptyMap();
+        return this;
+    }
+
+    @Override
+    public List<Object> getConvertedRows() {
+        Class<?> rowType = getValueType();
+        boolean mapRows = rowType == null || Map.class.isAssignableFrom(rowType);
+
+        List<Map<String, Object>> rowValues = new ArrayList<>(rowCount);
+        for (int row = 0; row < rowCount; row++) {
+            rowValues.add(new LinkedHashMap<String, Object>());
+        }
+
+        Map<String, Class<?>> columnTypes = new HashMap<>();
+        for (int column = 0; column < columns.size(); column++) {
+            Element prototype = columns.get(column);
+            columnTypes.put(prototype.getId(), prototype.getValueType());
+            convertColumn(prototype, cells[column], rowValues);
+        }
+
+        List<Object> rows = new ArrayList<>(rowCount);
+        for (Map<String, Object> values : rowValues) {
+            if (mapRows) {
+                rows.add(values);
+            } else {
+                Object bean = newRow(rowType);
+                UniformUtils.fillBeanProperties(bean, values, columnTypes);
+                rows.add(bean);
+            }
+        }
+
+        return rows;
+    }
+
+    private void convertColumn(Element prototype, String[] columnCells, List<Map<String, Object>> rowValues) {
+        String columnId = prototype.getId();
+
+        if (prototype instanceof ElementWithValueConversion) {
+            List<String> previousValue = prototype.getValue();
+            try {
+                for (int row = 0; row < rowCount; row++) {
+                    prototype.setValue(columnCells[row] != null ? Collections.singletonList(columnCells[row]) : null);
+                    rowValues.get(row).put(columnId, ((ElementWithValueConversion) prototype).getConvertedValue());
+                }
+            } finally {
+                prototype.setValue(previousValue);
+            }
+            return;
+        }
+
+        Class<?> type = prototype.getValueType();
+        if (type == null || String.class.equals(type)) {
+            for (int row = 0; row < rowCount; row++) {
+                rowValues.get(row).put(columnId, columnCells[row]);
+            }
+            return;
+        }
+
+        ValueParser<?> parser = ValueParsers.forType(type);
+        if (parser == null) {
+            throw new UnsupportedOperationException("Could not convert value to unknown type: " + type.getName());
+        }
+
+        for (int row = 0; row < rowCount; row++) {
+            String cell = columnCells[row];
+            try {
+                rowValues.get(row).put(columnId, ValueParsers.parse(prototype, cell, parser));
+            } catch (IllegalArgumentException e) {
+                throw new UniformException(String.format("Error while converting value %s to data type %s. Make sure the element has correct values and/or validators", cell.trim(), type.getName()), e);
+            }
+        }
+    }
+
+    private static Object newRow(Class<?> rowType) {
+        try {
+            return rowType.newInstance();
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new UniformException("The row type '" + rowType.getName() + "' does not have an accessible default constructor", e);
+        }
+    }
+
+    /**
+     * Returns a copy of this group with copies of its column prototypes and rows.
+     *
+     * @return Copy of this element
+     */
+    @Override
+    public RepeatingGroup copy() {
+        RepeatingGroup copy = (RepeatingGroup) super.copy();
+        copy.columns = new ArrayList<>(columns.size());
+        for (Element column : columns) {
+            copy.columns.add(column instanceof AbstractElement ? ((AbstractElement) column).copy() : column);
+        }
+        copy.columnIndexes = new HashMap<>(columnIndexes);
+        copy.cells = new String[cells.length][];
+        for (int i = 0; i < cells.length; i++) {
+            copy.cells[i] = cells[i].clone();
+        }
+        copy.cellValidationErrors = Collections.emptyMap();
+        return copy;
+    }
+
+    @Override
+    public Renderer getDefaultRenderer() {
+        return RepeatingGroupRenderer.INSTANCE;
+    }
+}
@@ -34,6 +34,6 @@ public class Select extends ElementWithOptions {
 
     @Override
     public Renderer getDefaultRenderer() {
-        return new SelectRenderer();
+        return SelectRenderer.INSTANCE;
     }
 }
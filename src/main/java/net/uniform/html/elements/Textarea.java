@@ -32,6 +32,6 @@ public class Textarea extends AbstractHTMLElement {
 
     @Override
     public Renderer getDefaultRenderer() {
-        return new TextareaRenderer();
+        return TextareaRenderer.INSTANCE;
     }
 }
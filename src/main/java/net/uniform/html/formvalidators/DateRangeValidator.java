@@ -16,21 +16,27 @@
 package net.uniform.html.formvalidators;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import net.uniform.api.Element;
 import net.uniform.api.ElementWithValueConversion;
 import net.uniform.api.Form;
-import net.uniform.api.FormValidator;
+import net.uniform.api.FormValidatorWithDependencies;
 import net.uniform.api.TranslationEngineContext;
+import net.uniform.api.annotations.CommutativeValidator;
+import net.uniform.html.elements.DatePicker;
+import net.uniform.impl.AbstractElement;
 
 /**
  * Form validator for making sure that date ranges are correct.
  *
  * @author Eduardo Ramos
  */
-public class DateRangeValidator implements FormValidator {
+@CommutativeValidator
+public class DateRangeValidator implements FormValidatorWithDependencies {
 
     private String dateStartId;
     private String dateEndId;
@@ -46,9 +52,13 @@ public class DateRangeValidator implements FormValidator {
         ElementWithValueConversion<Date> dateStartElement = findDateElement(form, dateStartId);
         ElementWithValueConversion<Date> dateEndElement = findDateElement(form, dateEndId);
 
-        if (dateStartElement.isValid() && dateEndElement.isValid()) {
-            Date dateStart = dateStartElement.getConvertedValue();
-            Date dateEnd = dateEndElement.getConvertedValue();
+        //Form data can hold a value not set in the element, see AbstractForm#validateField:
+        List<String> dateStartValue = findValue(dateStartElement, formData);
+        List<String> dateEndValue = findValue(dateEndElement, formData);
+
+        if (isValid(dateStartElement, dateStartValue) && isValid(dateEndElement, dateEndValue)) {
+            Date dateStart = convert(dateStartElement, dateStartValue);
+            Date dateEnd = convert(dateEndElement, dateEndValue);
 
             if (dateStart == null || dateEnd == null) {
                 return null;//Some of the dates might not be required
@@ -74,6 +84,33 @@ public class DateRangeValidator implements FormValidator {
         return null;
     }
 
+    private List<String> findValue(Element element, Map<String, List<String>> formData) {
+        String name = element.getProperty("name");
+        if (formData != null && name != null && formData.containsKey(name)) {
+            return formData.get(name);
+        }
+        return element.getValue();
+    }
+
+    private boolean isValid(Element element, List<String> value) {
+        if (element.validationPerformed() && Objects.equals(value, element.getValue())) {
+            return element.isValid();
+        }
+
+        List<String> errors = AbstractElement.validationErrorsForValue(element, value);
+        return errors == null || errors.isEmpty();
+    }
+
+    private Date convert(ElementWithValueConversion<Date> element, List<String> value) {
+        if (Objects.equals(value, element.getValue())) {
+            return element.getConvertedValue();
+        }
+        if (element instanceof DatePicker) {
+            return ((DatePicker) element).getConvertedValue(value);
+        }
+        return null;//Other elements can only convert their own value
+    }
+
     private ElementWithValueConversion<Date> findDateElement(Form form, String id) {
         Element element = form.getElement(id);
         if (element == null) {
@@ -87,6 +124,11 @@ public class DateRangeValidator implements FormValidator {
         return (ElementWithValueConversion<Date>) element;
     }
 
+    @Override
+    public Collection<String> getDependentElementIds() {
+        return Arrays.asList(dateStartId, dateEndId);
+    }
+
     @Override
     public boolean breakChainOnError() {
         return false;
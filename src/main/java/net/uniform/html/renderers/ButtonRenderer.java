@@ -30,10 +30,15 @@ import net.uniform.html.elements.Button;
  */
 public class ButtonRenderer implements Renderer<Button> {
 
+    /**
+     * Shared instance, this renderer does not keep any state.
+     */
+    public static final ButtonRenderer INSTANCE = new ButtonRenderer();
+
     @Override
     public List<SimpleHTMLTag> render(Button button) {
         Map<String, String> finalProps = new HashMap<>();
-        finalProps.putAll(button.getProperties());
+        finalProps.putAll(button.getPropertiesView());
 
         SimpleHTMLTag tag = new SimpleHTMLTag("button", finalProps);
         tag.setContent(button.getLabelTranslated());
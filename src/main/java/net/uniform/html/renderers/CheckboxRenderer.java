@@ -30,10 +30,15 @@ import net.uniform.html.elements.Checkbox;
  */
 public class CheckboxRenderer implements Renderer<Checkbox> {
 
+    /**
+     * Shared instance, this renderer does not keep any state.
+     */
+    public static final CheckboxRenderer INSTANCE = new CheckboxRenderer();
+
     @Override
     public List<SimpleHTMLTag> render(Checkbox checkbox) {
         Map<String, String> finalProps = new HashMap<>();
-        finalProps.putAll(checkbox.getProperties());
+        finalProps.putAll(checkbox.getPropertiesView());
         finalProps.put("type", "checkbox");
         finalProps.remove("checked");
         if (checkbox.isRequired()) {
@@ -30,10 +30,15 @@ import net.uniform.html.elements.Hidden;
  */
 public class HiddenRenderer implements Renderer<Hidden> {
 
+    /**
+     * Shared instance, this renderer does not keep any state.
+     */
+    public static final HiddenRenderer INSTANCE = new HiddenRenderer();
+
     @Override
     public List<SimpleHTMLTag> render(Hidden hidden) {
         Map<String, String> finalProps = new HashMap<>();
-        finalProps.putAll(hidden.getProperties());
+        finalProps.putAll(hidden.getPropertiesView());
         finalProps.put("value", hidden.getFirstValue());
         finalProps.put("type", "hidden");
 
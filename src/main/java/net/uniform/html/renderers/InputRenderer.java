@@ -23,6 +23,7 @@ import net.uniform.api.Element;
 import net.uniform.api.Renderer;
 import net.uniform.api.html.SimpleHTMLTag;
 import net.uniform.html.elements.Input;
+import net.uniform.impl.AbstractElement;
 
 /**
  * Default renderer for {@link Input} element.
@@ -31,10 +32,15 @@ import net.uniform.html.elements.Input;
  */
 public class InputRenderer implements Renderer<Element> {
 
+    /**
+     * Shared instance, this renderer does not keep any state.
+     */
+    public static final InputRenderer INSTANCE = new InputRenderer();
+
     @Override
     public List<SimpleHTMLTag> render(Element input) {
         Map<String, String> finalProps = new HashMap<>();
-        finalProps.putAll(input.getProperties());
+        finalProps.putAll(AbstractElement.propertiesView(input));
 
         String value = input.getFirstValue();
         finalProps.put("value", value != null ? value : "");
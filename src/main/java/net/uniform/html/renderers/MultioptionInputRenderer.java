@@ -21,6 +21,7 @@ import java.util.Map;
 import java.util.Set;
 import net.uniform.api.Renderer;
 import net.uniform.api.html.Option;
+import net.uniform.api.html.OptionGroup;
 import net.uniform.api.html.SimpleHTMLTag;
 import net.uniform.html.elements.Multicheckbox;
 import net.uniform.html.elements.Radio;
@@ -48,6 +49,16 @@ public class MultioptionInputRenderer implements Renderer<MultioptionInputElemen
         }
     }
 
+    /**
+     * Shared radio renderer instance, this renderer does not keep any state.
+     */
+    public static final MultioptionInputRenderer RADIO_INSTANCE = new MultioptionInputRenderer(InputType.RADIO);
+
+    /**
+     * Shared checkbox renderer instance, this renderer does not keep any state.
+     */
+    public static final MultioptionInputRenderer CHECKBOX_INSTANCE = new MultioptionInputRenderer(InputType.CHECKBOX);
+
     protected final InputType inputType;
 
     public MultioptionInputRenderer(InputType inputType) {
@@ -69,7 +80,6 @@ public class MultioptionInputRenderer implements Renderer<MultioptionInputElemen
             currentValues = new ArrayList<>();
         }
 
-        List<Option> options = multi.getOptions();//We don't support option groups here
         Set<String> enabledValues = multi.getEnabledOptionValues();//Do this to take into account disabled groups also, not only disabled options
 
         boolean prependOptionLabels = multi.isPrependOptionLabels();
@@ -83,17 +93,19 @@ public class MultioptionInputRenderer implements Renderer<MultioptionInputElemen
             separatorTag.setContent(separator);
         }
 
-        Map<String, String> finalProps = multi.getProperties();
+        Map<String, String> finalProps = multi.getPropertiesView();
 
-        //Finally add each option:
-        for (Option option : options) {
-            result.add(getOptionTag(option, enabledValues, finalProps, required, currentValues, prependOptionLabels, escapeOptionLabels));
-            if (separatorTag != null) {
-                result.add(separatorTag);
+        //Finally add each option, we don't support option groups here:
+        for (OptionGroup group : multi.getOptionGroupsView()) {
+            for (Option option : group.getOptionsView()) {
+                result.add(getOptionTag(option, enabledValues, finalProps, required, currentValues, prependOptionLabels, escapeOptionLabels));
+                if (separatorTag != null) {
+                    result.add(separatorTag);
+                }
             }
         }
 
-        if (separator != null) {
+        if (separatorTag != null && !result.isEmpty()) {
             result.remove(result.size() - 1);//Remove unnecesary separator after last element
         }
 
@@ -0,0 +1,111 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.html.renderers;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.uniform.api.Element;
+import net.uniform.api.Renderer;
+import net.uniform.api.html.SimpleHTMLTag;
+import net.uniform.html.elements.RepeatingGroup;
+
+/**
+ * Default renderer for {@link RepeatingGroup} element.
+ * Renders a table with a header with the column labels and a row for each group row.
+ * Cells are rendered column by column with the column prototype, setting its name, id and value for each cell.
+ *
+ * @author Eduardo Ramos
+ */
+public class RepeatingGroupRenderer implements Renderer<RepeatingGroup> {
+
+    /**
+     * Shared instance, this renderer does not keep any state.
+     */
+    public static final RepeatingGroupRenderer INSTANCE = new RepeatingGroupRenderer();
+
+    @Override
+    public List<SimpleHTMLTag> render(RepeatingGroup group) {
+        SimpleHTMLTag tableTag = new SimpleHTMLTag("table", group.getPropertiesView());
+        tableTag.removeProperty("name");
+
+        List<Element> columns = group.getColumns();
+
+        SimpleHTMLTag headerRowTag = new SimpleHTMLTag("tr");
+        for (Element column : columns) {
+            String label = column.getLabelTranslated();
+            headerRowTag.addSubTag(new SimpleHTMLTag("th", label != null ? label : ""));
+        }
+        tableTag.addSubTag(new SimpleHTMLTag("thead").addSubTag(headerRowTag));
+
+        int rowCount = group.getRowCount();
+        List<SimpleHTMLTag> rowTags = new ArrayList<>(rowCount);
+        SimpleHTMLTag bodyTag = new SimpleHTMLTag("tbody");
+        for (int row = 0; row < rowCount; row++) {
+            SimpleHTMLTag rowTag = new SimpleHTMLTag("tr");
+            rowTags.add(rowTag);
+            bodyTag.addSubTag(rowTag);
+        }
+
+        for (Element column : columns) {
+            renderColumn(group, column, rowTags);
+        }
+        tableTag.addSubTag(bodyTag);
+
+        List<SimpleHTMLTag> result = new ArrayList<>();
+        result.add(tableTag);
+
+        return result;
+    }
+
+    private void renderColumn(RepeatingGroup group, Element column, List<SimpleHTMLTag> rowTags) {
+        String columnId = column.getId();
+        String originalId = column.getProperty("id");
+        String originalName = column.getProperty("name");
+        List<String> originalValue = column.getValue();
+
+        try {
+            for (int row = 0; row < rowTags.size(); row++) {
+                String cellName = group.getCellName(row, columnId);
+                String cell = group.getCellValue(row, columnId);
+
+                column.setProperty("id", cellName);
+                column.setProperty("name", cellName);
+                column.setValue(cell);
+
+                SimpleHTMLTag cellTag = new SimpleHTMLTag("td");
+                List<SimpleHTMLTag> cellTags = column.render();
+                if (cellTags != null) {
+                    for (SimpleHTMLTag tag : cellTags) {
+                        cellTag.addSubTag(tag);
+                    }
+                }
+                rowTags.get(row).addSubTag(cellTag);
+            }
+        } finally {
+            restoreProperty(column, "id", originalId);
+            restoreProperty(column, "name", originalName);
+            column.setValue(originalValue);
+        }
+    }
+
+    private static void restoreProperty(Element column, String key, String value) {
+        if (value != null) {
+            column.setProperty(key, value);
+        } else {
+            column.removeProperty(key);
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package net.uniform.html.renderers;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -34,10 +35,15 @@ import net.uniform.impl.ElementWithOptions;
  */
 public class SelectRenderer implements Renderer<ElementWithOptions> {
 
+    /**
+     * Shared instance, this renderer does not keep any state.
+     */
+    public static final SelectRenderer INSTANCE = new SelectRenderer();
+
     @Override
     public List<SimpleHTMLTag> render(ElementWithOptions select) {
         SimpleHTMLTag selectTag = new SimpleHTMLTag("select");
-        selectTag.setProperties(select.getProperties());
+        selectTag.setProperties(select.getPropertiesView());
 
         if (select.isMultiValue()) {
             selectTag.setProperty("multiple", "multiple");
@@ -53,7 +59,7 @@ public class SelectRenderer implements Renderer<ElementWithOptions> {
             currentValues.addAll(valuesList);
         }
 
-        List<OptionGroup> optionGroups = select.getOptionGroups();
+        Collection<OptionGroup> optionGroups = select.getOptionGroupsView();
 
         for (OptionGroup optionGroup : optionGroups) {
             if (optionGroup.hasOptions()) {
@@ -87,7 +93,7 @@ public class SelectRenderer implements Renderer<ElementWithOptions> {
             groupTag = new SimpleHTMLTag();//Empty tag, not rendered
         }
 
-        for (Option option : optionGroup.getOptions()) {
+        for (Option option : optionGroup.getOptionsView()) {
             String optionText = option.getText();
             String optionValue = option.getValue();
             SimpleHTMLTag optionTag = new SimpleHTMLTag("option", optionText);
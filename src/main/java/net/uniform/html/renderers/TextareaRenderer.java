@@ -30,10 +30,15 @@ import net.uniform.html.elements.Textarea;
  */
 public class TextareaRenderer implements Renderer<Textarea> {
 
+    /**
+     * Shared instance, this renderer does not keep any state.
+     */
+    public static final TextareaRenderer INSTANCE = new TextareaRenderer();
+
     @Override
     public List<SimpleHTMLTag> render(Textarea textarea) {
         Map<String, String> finalProps = new HashMap<>();
-        finalProps.putAll(textarea.getProperties());
+        finalProps.putAll(textarea.getPropertiesView());
 
         if (textarea.isRequired()) {
             finalProps.put("required", "required");
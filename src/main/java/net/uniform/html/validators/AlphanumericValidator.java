@@ -18,8 +18,9 @@ package net.uniform.html.validators;
 import java.util.Arrays;
 import java.util.List;
 import net.uniform.api.Element;
+import net.uniform.api.PureValidator;
 import net.uniform.api.TranslationEngineContext;
-import net.uniform.api.Validator;
+import net.uniform.api.annotations.CommutativeValidator;
 import net.uniform.impl.utils.UniformUtils;
 
 /**
@@ -27,7 +28,8 @@ import net.uniform.impl.utils.UniformUtils;
  *
  * @author Eduardo Ramos
  */
-public class AlphanumericValidator implements Validator<Element> {
+@CommutativeValidator
+public class AlphanumericValidator implements PureValidator<Element> {
 
     @Override
     public List<String> getValidationErrors(Element element, List<String> value) {
@@ -51,6 +53,11 @@ public class AlphanumericValidator implements Validator<Element> {
         return true;
     }
 
+    @Override
+    public Object getCacheKey() {
+        return getClass();
+    }
+
     @Override
     public boolean breakChainOnError() {
         return false;
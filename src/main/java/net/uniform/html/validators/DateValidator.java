@@ -15,23 +15,31 @@
  */
 package net.uniform.html.validators;
 
-import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
 import net.uniform.api.Element;
+import net.uniform.api.PureValidator;
 import net.uniform.api.TranslationEngineContext;
-import net.uniform.api.Validator;
+import net.uniform.api.annotations.CommutativeValidator;
+import net.uniform.impl.utils.DateValueParser;
+import net.uniform.impl.utils.ThreadSafeDateFormat;
 import net.uniform.impl.utils.UniformUtils;
+import net.uniform.impl.utils.ValueParsers;
 
 /**
  * Validator for date single-value inputs, with date format.
+ * It is thread-safe, so it can be shared by form definitions used from many threads.
  *
  * @author Eduardo Ramos
  */
-public class DateValidator implements Validator<Element> {
+@CommutativeValidator
+public class DateValidator implements PureValidator<Element> {
 
-    private SimpleDateFormat dateFormat;
+    private ThreadSafeDateFormat dateFormat;
+    private DateValueParser dateParser;
+    private Object cacheKey;
 
     public static final String DEFAULT_DATE_FORMAT = "yyyy-MM-dd";
 
@@ -40,46 +48,78 @@ public class DateValidator implements Validator<Element> {
     }
 
     public DateValidator(String dateFormat) {
-        SimpleDateFormat sdf = new SimpleDateFormat(dateFormat);
-        sdf.setLenient(false);
-        this.dateFormat = sdf;
+        this(new ThreadSafeDateFormat(dateFormat));
     }
 
     public DateValidator(SimpleDateFormat dateFormat) {
+        this(new ThreadSafeDateFormat(dateFormat));
+    }
+
+    public DateValidator(ThreadSafeDateFormat dateFormat) {
+        if (dateFormat == null) {
+            throw new IllegalArgumentException("Date format cannot be null");
+        }
         this.dateFormat = dateFormat;
+        this.dateParser = new DateValueParser(dateFormat);
+        this.cacheKey = Arrays.asList(getClass(), dateFormat);
     }
 
     @Override
     public List<String> getValidationErrors(Element element, List<String> value) {
         String dateStr = UniformUtils.firstValue(value);
         if (dateStr != null && !dateStr.isEmpty()) {//May be not required
-            dateStr = dateStr.trim();
+            Date date;
             try {
-                dateFormat.parse(dateStr);
-            } catch (ParseException ex) {
-                return Arrays.asList(TranslationEngineContext.getTranslationEngine().translate("uniform.validators.date.invalid", dateStr, dateFormat.toPattern()));
+                date = ValueParsers.parse(element, dateStr, dateParser);
+            } catch (IllegalArgumentException ex) {
+                date = null;
+            }
+
+            if (date == null) {
+                return Arrays.asList(TranslationEngineContext.getTranslationEngine().translate("uniform.validators.date.invalid", dateStr.trim(), dateFormat.toPattern()));
             }
         }
 
         return null;
     }
 
+    @Override
+    public Object getCacheKey() {
+        return cacheKey;
+    }
+
     @Override
     public boolean breakChainOnError() {
         return true;
     }
 
+    /**
+     * Returns a copy of the date format of this validator. Changing it has no effect on the validator.
+     *
+     * @return Date format copy
+     */
     public SimpleDateFormat getDateFormat() {
+        return dateFormat.toSimpleDateFormat();
+    }
+
+    public ThreadSafeDateFormat getThreadSafeDateFormat() {
         return dateFormat;
     }
 
-    public void setDateFormat(SimpleDateFormat dateFormat) {
+    public void setDateFormat(ThreadSafeDateFormat dateFormat) {
+        if (dateFormat == null) {
+            throw new IllegalArgumentException("Date format cannot be null");
+        }
         this.dateFormat = dateFormat;
+        this.dateParser = new DateValueParser(dateFormat);
+        this.cacheKey = Arrays.asList(getClass(), dateFormat);
+    }
+
+    public void setDateFormat(SimpleDateFormat dateFormat) {
+        this.setDateFormat(new ThreadSafeDateFormat(dateFormat));
     }
 
     public void setDateFormat(String dateFormat) {
-        SimpleDateFormat sdf = new SimpleDateFormat(dateFormat);
-        sdf.setLenient(false);
-        this.setDateFormat(sdf);
+        this.setDateFormat(new ThreadSafeDateFormat(dateFormat));
     }
 }
@@ -15,13 +15,17 @@
  */
 package net.uniform.html.validators;
 
+import java.util.AbstractSet;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import net.uniform.api.Element;
+import net.uniform.api.PureValidator;
 import net.uniform.api.TranslationEngineContext;
-import net.uniform.api.Validator;
+import net.uniform.api.annotations.CommutativeValidator;
 import net.uniform.impl.utils.UniformUtils;
 
 /**
@@ -29,17 +33,25 @@ import net.uniform.impl.utils.UniformUtils;
  *
  * @author Eduardo Ramos
  */
-public class InSetValidator implements Validator<Element> {
+@CommutativeValidator
+public class InSetValidator implements PureValidator<Element> {
 
-    protected final Set<String> valuesSet = new HashSet<>();
+    //Immutable snapshot, replaced on every change so the cache key always matches the values:
+    private volatile ValuesKey valuesKey = new ValuesKey(getClass(), Collections.<String>emptySet());
+
+    /**
+     * Live view of the valid values, changes through it replace the values snapshot like the valid values methods.
+     *
+     * @deprecated Use {@link #getValuesSet()} and the valid values methods instead
+     */
+    @Deprecated
+    protected final Set<String> valuesSet = new ValuesSetView();
 
     public InSetValidator() {
     }
 
     public InSetValidator(Set<String> validValues) {
-        if (validValues != null) {
-            this.valuesSet.addAll(validValues);
-        }
+        setValidValues(validValues);
     }
 
     @Override
@@ -47,7 +59,7 @@ public class InSetValidator implements Validator<Element> {
         String firstValue = UniformUtils.firstValue(value);
         if (firstValue != null && !firstValue.isEmpty()) {
             for (String val : value) {
-                if (!valuesSet.contains(val)) {
+                if (!valuesKey.values.contains(val)) {
                     return Arrays.asList(TranslationEngineContext.getTranslationEngine().translate("uniform.validators.inset.invalid", val));
                 }
             }
@@ -56,31 +68,143 @@ public class InSetValidator implements Validator<Element> {
         return null;
     }
 
+    /**
+     * Returns a key made of the validator class and its current set of values,
+     * so validators built for each form or request with the same values share cached results.
+     *
+     * @return Cache key
+     */
+    @Override
+    public Object getCacheKey() {
+        return valuesKey;
+    }
+
     @Override
     public boolean breakChainOnError() {
         return true;
     }
 
-    public void setValidValues(Set<String> validValues) {
-        this.valuesSet.clear();
-        if (validValues != null) {
-            this.valuesSet.addAll(validValues);
-        }
+    public synchronized void setValidValues(Set<String> validValues) {
+        setValues(validValues != null ? new HashSet<>(validValues) : new HashSet<String>());
     }
 
-    public void addValidValue(String value) {
-        this.valuesSet.add(value);
+    public synchronized void addValidValue(String value) {
+        Set<String> values = new HashSet<>(valuesKey.values);
+        values.add(value);
+        setValues(values);
     }
 
-    public void removeValidValue(String value) {
-        this.valuesSet.remove(value);
+    public synchronized void removeValidValue(String value) {
+        Set<String> values = new HashSet<>(valuesKey.values);
+        values.remove(value);
+        setValues(values);
     }
 
-    public void clearValidValues() {
-        this.valuesSet.clear();
+    public synchronized void clearValidValues() {
+        setValues(new HashSet<String>());
+    }
+
+    private void setValues(Set<String> values) {
+        this.valuesKey = new ValuesKey(getClass(), Collections.unmodifiableSet(values));
     }
 
     public Set<String> getValuesSet() {
-        return new HashSet<>(valuesSet);
+        return new HashSet<>(valuesKey.values);
+    }
+
+    private final class ValuesSetView extends AbstractSet<String> {
+
+        @Override
+        public Iterator<String> iterator() {
+            final Iterator<String> iterator = valuesKey.values.iterator();
+            return new Iterator<String>() {
+
+                private String last;
+
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public String next() {
+                    last = iterator.next();
+                    return last;
+                }
+
+                @Override
+                public void remove() {
+                    removeValidValue(last);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return valuesKey.values.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return valuesKey.values.contains(o);
+        }
+
+        @Override
+        public boolean add(String value) {
+            synchronized (InSetValidator.this) {
+                boolean added = !valuesKey.values.contains(value);
+                addValidValue(value);
+                return added;
+            }
+        }
+
+        @Override
+        public boolean remove(Object value) {
+            synchronized (InSetValidator.this) {
+                boolean removed = valuesKey.values.contains(value);
+                if (removed) {
+                    removeValidValue((String) value);
+                }
+                return removed;
+            }
+        }
+
+        @Override
+        public void clear() {
+            clearValidValues();
+        }
+    }
+
+    /**
+     * Immutable snapshot of the valid values, with its hash computed once.
+     */
+    private static final class ValuesKey {
+
+        private final Class<?> validatorClass;
+        private final Set<String> values;
+        private final int hash;
+
+        private ValuesKey(Class<?> validatorClass, Set<String> values) {
+            this.validatorClass = validatorClass;
+            this.values = values;
+            this.hash = 31 * validatorClass.hashCode() + values.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ValuesKey)) {
+                return false;
+            }
+            ValuesKey other = (ValuesKey) obj;
+            return hash == other.hash && validatorClass == other.validatorClass && values.equals(other.values);
+        }
     }
 }
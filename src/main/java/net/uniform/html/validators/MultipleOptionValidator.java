@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Set;
 import net.uniform.api.TranslationEngineContext;
 import net.uniform.api.Validator;
+import net.uniform.api.annotations.CommutativeValidator;
 import net.uniform.html.elements.Multicheckbox;
 import net.uniform.html.elements.Multiselect;
 import net.uniform.impl.ElementWithOptions;
@@ -31,6 +32,7 @@ import net.uniform.impl.utils.UniformUtils;
  * Used by default in {@link Multiselect} and {@link Multicheckbox} elements.
  * @author Eduardo Ramos
  */
+@CommutativeValidator
 public class MultipleOptionValidator implements Validator<ElementWithOptions> {
 
     @Override
@@ -0,0 +1,77 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.html.validators;
+
+import java.util.Arrays;
+import java.util.List;
+import net.uniform.api.TranslationEngineContext;
+import net.uniform.api.Validator;
+import net.uniform.api.annotations.CommutativeValidator;
+import net.uniform.impl.AbstractNumberInput;
+import net.uniform.impl.utils.UniformUtils;
+
+/**
+ * Validator for numeric input elements, that checks the number and its range with the units kept by the element.
+ * It has no configuration, so a single instance is shared by all elements.
+ *
+ * @author Eduardo Ramos
+ */
+@CommutativeValidator
+public class NumberInputValidator implements Validator<AbstractNumberInput<?>> {
+
+    public static final NumberInputValidator INSTANCE = new NumberInputValidator();
+
+    @Override
+    public List<String> getValidationErrors(AbstractNumberInput<?> element, List<String> value) {
+        String firstValue = UniformUtils.firstValue(value);
+        if (firstValue == null) {
+            return null;
+        }
+
+        Long units;
+        try {
+            units = element.parseUnits(firstValue);
+        } catch (IllegalArgumentException e) {
+            if (element.getScale() > 0) {
+                return translate("uniform.validators.numeric.invalid.number", firstValue.trim());
+            } else {
+                return translate("uniform.validators.numeric.invalid.integer", firstValue.trim());
+            }
+        }
+        if (units == null) {
+            return null;
+        }
+
+        long number = units;
+        if (number < element.getMinUnits()) {
+            return translate("uniform.validators.numeric.greaterequal", firstValue.trim(), element.formatUnits(element.getMinUnits()));
+        }
+        if (number > element.getMaxUnits()) {
+            return translate("uniform.validators.numeric.lessequal", firstValue.trim(), element.formatUnits(element.getMaxUnits()));
+        }
+
+        return null;
+    }
+
+    private List<String> translate(String code, Object... args) {
+        return Arrays.asList(TranslationEngineContext.getTranslationEngine().translate(code, args));
+    }
+
+    @Override
+    public boolean breakChainOnError() {
+        return true;
+    }
+}
@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Set;
 import net.uniform.api.TranslationEngineContext;
 import net.uniform.api.Validator;
+import net.uniform.api.annotations.CommutativeValidator;
 import net.uniform.impl.ElementWithOptions;
 import net.uniform.impl.utils.UniformUtils;
 
@@ -29,6 +30,7 @@ import net.uniform.impl.utils.UniformUtils;
  *
  * @author Eduardo Ramos
  */
+@CommutativeValidator
 public class NumberOfSelectedOptionsValidator implements Validator<ElementWithOptions> {
 
     private Integer min = null;
@@ -20,7 +20,10 @@ import java.util.List;
 import net.uniform.api.Element;
 import net.uniform.api.TranslationEngineContext;
 import net.uniform.api.Validator;
+import net.uniform.api.ValueParser;
+import net.uniform.api.annotations.CommutativeValidator;
 import net.uniform.impl.utils.UniformUtils;
+import net.uniform.impl.utils.ValueParsers;
 
 /**
  * Validator for any single-value numeric input. It supports:
@@ -32,6 +35,7 @@ import net.uniform.impl.utils.UniformUtils;
  *
  * @author Eduardo Ramos
  */
+@CommutativeValidator
 public class NumericValidator implements Validator<Element> {
 
     private boolean allowDecimals;
@@ -53,19 +57,20 @@ public class NumericValidator implements Validator<Element> {
 
         double numberValue;
         try {
-            firstValue = firstValue.trim();
-            if (allowDecimals) {
-                numberValue = Double.parseDouble(firstValue);
-            } else {
-                numberValue = Long.parseLong(firstValue);
+            Number number = ValueParsers.parse(element, firstValue, getNumberParser(element));
+            if (number == null) {
+                throw new NumberFormatException("Empty value");
             }
-        } catch (NumberFormatException e) {
+            numberValue = number.doubleValue();
+        } catch (IllegalArgumentException e) {
+            firstValue = firstValue.trim();
             if (allowDecimals) {
                 return translate("uniform.validators.numeric.invalid.number", firstValue);
             } else {
                 return translate("uniform.validators.numeric.invalid.integer", firstValue);
             }
         }
+        firstValue = firstValue.trim();
 
         if (min != null) {
             if (minInclusive) {
@@ -90,6 +95,17 @@ public class NumericValidator implements Validator<Element> {
         return null;
     }
 
+    /**
+     * Returns the parser to use for the element value.
+     * Integers are always checked in the long range, whatever the element value type. Parsed values are shared with elements converting to the same type.
+     *
+     * @param element Element to validate
+     * @return Number parser
+     */
+    protected ValueParser<? extends Number> getNumberParser(Element element) {
+        return allowDecimals ? ValueParsers.DOUBLE : ValueParsers.LONG;
+    }
+
     protected List<String> translate(String code, Object... args) {
         return Arrays.asList(TranslationEngineContext.getTranslationEngine().translate(code, args));
     }
@@ -19,8 +19,9 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Pattern;
 import net.uniform.api.Element;
+import net.uniform.api.PureValidator;
 import net.uniform.api.TranslationEngineContext;
-import net.uniform.api.Validator;
+import net.uniform.api.annotations.CommutativeValidator;
 import net.uniform.impl.utils.UniformUtils;
 
 /**
@@ -28,9 +29,11 @@ import net.uniform.impl.utils.UniformUtils;
  *
  * @author Eduardo Ramos
  */
-public class RegexValidator implements Validator<Element> {
+@CommutativeValidator
+public class RegexValidator implements PureValidator<Element> {
 
     protected Pattern regexPattern;
+    private volatile Object cacheKey;
 
     public RegexValidator(Pattern regexPattern) {
         if (regexPattern == null) {
@@ -58,6 +61,16 @@ public class RegexValidator implements Validator<Element> {
         return null;
     }
 
+    @Override
+    public Object getCacheKey() {
+        Object key = cacheKey;
+        if (key == null) {
+            key = Arrays.asList(getClass(), regexPattern.pattern(), regexPattern.flags());
+            cacheKey = key;
+        }
+        return key;
+    }
+
     @Override
     public boolean breakChainOnError() {
         return true;
@@ -72,6 +85,7 @@ public class RegexValidator implements Validator<Element> {
             throw new IllegalArgumentException("Regex pattern cannot be null");
         }
         this.regexPattern = regexPattern;
+        this.cacheKey = null;
     }
 
     public void setRegexPattern(String regexPattern) {
@@ -79,5 +93,6 @@ public class RegexValidator implements Validator<Element> {
             throw new IllegalArgumentException("Regex pattern cannot be null");
         }
         this.regexPattern = Pattern.compile(regexPattern);
+        this.cacheKey = null;
     }
 }
@@ -19,6 +19,7 @@ import java.util.Arrays;
 import java.util.List;
 import net.uniform.api.TranslationEngineContext;
 import net.uniform.api.Validator;
+import net.uniform.api.annotations.CommutativeValidator;
 import net.uniform.html.elements.Radio;
 import net.uniform.html.elements.Select;
 import net.uniform.impl.ElementWithOptions;
@@ -29,6 +30,7 @@ import net.uniform.impl.utils.UniformUtils;
  * Used by default in {@link Select} and {@link Radio} elements.
  * @author Eduardo Ramos
  */
+@CommutativeValidator
 public class SingleOptionValidator implements Validator<ElementWithOptions> {
 
     @Override
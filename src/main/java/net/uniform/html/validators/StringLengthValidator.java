@@ -18,8 +18,9 @@ package net.uniform.html.validators;
 import java.util.Arrays;
 import java.util.List;
 import net.uniform.api.Element;
+import net.uniform.api.PureValidator;
 import net.uniform.api.TranslationEngineContext;
-import net.uniform.api.Validator;
+import net.uniform.api.annotations.CommutativeValidator;
 import net.uniform.impl.utils.UniformUtils;
 
 /**
@@ -27,10 +28,12 @@ import net.uniform.impl.utils.UniformUtils;
  *
  * @author Eduardo Ramos
  */
-public class StringLengthValidator implements Validator<Element> {
+@CommutativeValidator
+public class StringLengthValidator implements PureValidator<Element> {
 
     protected Integer minLength;
     protected Integer maxLength;
+    private volatile Object cacheKey;
 
     public StringLengthValidator(Integer minLength, Integer maxLength) {
         this.minLength = minLength;
@@ -62,6 +65,16 @@ public class StringLengthValidator implements Validator<Element> {
         return null;
     }
 
+    @Override
+    public Object getCacheKey() {
+        Object key = cacheKey;
+        if (key == null) {
+            key = Arrays.asList(getClass(), minLength, maxLength);
+            cacheKey = key;
+        }
+        return key;
+    }
+
     @Override
     public boolean breakChainOnError() {
         return false;
@@ -73,6 +86,7 @@ public class StringLengthValidator implements Validator<Element> {
 
     public StringLengthValidator setMinLength(Integer minLength) {
         this.minLength = minLength;
+        this.cacheKey = null;
         return this;
     }
 
@@ -82,6 +96,7 @@ public class StringLengthValidator implements Validator<Element> {
 
     public StringLengthValidator setMaxLength(Integer maxLength) {
         this.maxLength = maxLength;
+        this.cacheKey = null;
         return this;
     }
 }
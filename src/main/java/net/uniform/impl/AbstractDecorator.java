@@ -15,6 +15,7 @@
  */
 package net.uniform.impl;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import net.uniform.api.Decorator;
@@ -24,14 +25,62 @@ import net.uniform.api.Decorator;
  *
  * @author Eduardo Ramos
  */
-public abstract class AbstractDecorator implements Decorator {
+public abstract class AbstractDecorator implements Decorator, Cloneable {
 
     protected Map<String, Object> properties;
 
+    private boolean immutable = false;
+
     public AbstractDecorator() {
         this.properties = new HashMap<>();
     }
 
+    /**
+     * Returns a copy of this decorator with the same properties, without using reflection or calling any constructor.
+     *
+     * @return Copy of this decorator
+     */
+    public AbstractDecorator copy() {
+        try {
+            AbstractDecorator copy = (AbstractDecorator) super.clone();
+            copy.properties = new HashMap<>(properties);
+            copy.immutable = false;
+            return copy;
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns an immutable copy of this decorator that can be shared by many elements.
+     * Any attempt to change its properties will throw an {@link UnsupportedOperationException}, use {@link #copy()} to obtain a mutable copy.
+     * The {@code properties} map of the copy is unmodifiable too, so subclasses cannot change it either.
+     *
+     * @return Immutable copy of this decorator
+     * @see net.uniform.api.annotations.StatelessDecorator
+     */
+    public AbstractDecorator immutableCopy() {
+        AbstractDecorator copy = copy();
+        copy.properties = Collections.unmodifiableMap(copy.properties);
+        copy.immutable = true;
+        return copy;
+    }
+
+    /**
+     * Indicates if this decorator is an immutable instance shared by many elements.
+     *
+     * @return True if immutable
+     */
+    public boolean isImmutable() {
+        return immutable;
+    }
+
+    private void checkMutable() {
+        if (immutable) {
+            throw new UnsupportedOperationException("This decorator is shared and immutable, use copy() to change its properties");
+        }
+    }
+
     @Override
     public Object getProperty(String key) {
         return properties.get(key);
@@ -44,18 +93,21 @@ public abstract class AbstractDecorator implements Decorator {
 
     @Override
     public Decorator setProperty(String key, Object value) {
+        checkMutable();
         properties.put(key, value);
         return this;
     }
 
     @Override
     public Decorator removeProperty(String key) {
+        checkMutable();
         properties.remove(key);
         return this;
     }
 
     @Override
     public Decorator setProperties(Map<String, Object> properties) {
+        checkMutable();
         this.properties.clear();
         if (properties != null) {
             this.properties.putAll(properties);
@@ -71,6 +123,7 @@ public abstract class AbstractDecorator implements Decorator {
 
     @Override
     public Decorator clearProperties() {
+        checkMutable();
         properties.clear();
         return this;
     }
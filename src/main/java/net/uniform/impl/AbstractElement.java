@@ -15,34 +15,56 @@
  */
 package net.uniform.impl;
 
+import java.util.AbstractList;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
 import net.uniform.api.Decorator;
 import net.uniform.api.Element;
 import net.uniform.api.Filter;
 import net.uniform.api.Form;
+import net.uniform.api.PropertyVisitor;
+import net.uniform.api.PureValidator;
 import net.uniform.api.Renderer;
 import net.uniform.api.TranslationEngineContext;
+import net.uniform.api.ValidationResultCacheContext;
 import net.uniform.api.Validator;
+import net.uniform.api.ValueParser;
 import net.uniform.api.html.SimpleHTMLTag;
 import net.uniform.html.validators.RequiredValidator;
 import net.uniform.impl.utils.HTMLRenderingUtils;
 import net.uniform.impl.utils.UniformUtils;
+import net.uniform.impl.utils.ValueParsers;
 
 /**
  * Abstract element implementation that contains all generic logic that any element should have.
  *
  * @author Eduardo Ramos
  */
-public abstract class AbstractElement implements Element {
+public abstract class AbstractElement implements Element, Cloneable {
+
+    //Element classes that keep the default populate and setValue methods, so trusted values can be stored directly:
+    private static final ClassValue<Boolean> DEFAULT_POPULATE = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("populate", List.class).getDeclaringClass() == AbstractElement.class
+                        && type.getMethod("setValue", List.class).getDeclaringClass() == AbstractElement.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
 
-    protected final Map<String, String> properties;
-    protected final List<Validator> validators;
-    protected final List<Filter> filters;
+    protected Map<String, String> properties;
+    protected List<Validator> validators;
+    protected List<Filter> filters;
     protected List<Decorator> decorators;
     protected final String id;
     protected String label;
@@ -51,16 +73,33 @@ public abstract class AbstractElement implements Element {
 
     protected List<String> value;
     protected Renderer renderer;
+    protected AdaptiveValidatorOrdering validatorOrdering;
 
     private boolean required = false;
     private boolean validationPerformed = false;
     private Class<?> valueType = String.class;
 
+    private ParsedValue parsedValue;
+    private ParsedValue previousParsedValue;
+
+    //Collections are shared (empty or default ones) until this element changes them, to keep large forms small:
+    private boolean propertiesShared = true;
+    private boolean validatorsShared = true;
+    private boolean filtersShared = true;
+    private boolean decoratorsShared = true;
+
+    //Forms containing this element, notified when its name changes:
+    private List<AbstractForm> containingForms;
+
+    //Frozen form definition owning this element, values are then kept by its FormState instances:
+    private AbstractForm stateOwner;
+    private int stateIndex = -1;
+
     public AbstractElement(String id) {
-        this.properties = new HashMap<>();
-        this.validators = new ArrayList<>();
-        this.filters = new ArrayList<>();
-        this.decorators = new ArrayList<>();
+        this.properties = Collections.emptyMap();
+        this.validators = Collections.emptyList();
+        this.filters = Collections.emptyList();
+        this.decorators = Collections.emptyList();
         this.id = id;
 
         if (id == null) {
@@ -77,6 +116,55 @@ public abstract class AbstractElement implements Element {
     protected void setupDefaultFilters() {
     }
 
+    /**
+     * Uses the given filters list for this element, shared with other elements until this element changes its filters.
+     * Intended to set up a default filter chain without allocating it per element.
+     *
+     * @param sharedFilters Unmodifiable list of stateless filters
+     */
+    protected void setSharedFilters(List<Filter> sharedFilters) {
+        checkNotFrozen();
+        if (sharedFilters == null) {
+            throw new IllegalArgumentException("Filters cannot be null");
+        }
+        this.filters = sharedFilters;
+        this.filtersShared = true;
+    }
+
+    private Map<String, String> mutableProperties() {
+        if (propertiesShared) {
+            Map<String, String> ownProperties = new HashMap<>(8);
+            ownProperties.putAll(properties);
+            properties = ownProperties;
+            propertiesShared = false;
+        }
+        return properties;
+    }
+
+    private List<Validator> mutableValidators() {
+        if (validatorsShared) {
+            validators = new ArrayList<>(validators);
+            validatorsShared = false;
+        }
+        return validators;
+    }
+
+    private List<Filter> mutableFilters() {
+        if (filtersShared) {
+            filters = new ArrayList<>(filters);
+            filtersShared = false;
+        }
+        return filters;
+    }
+
+    private List<Decorator> mutableDecorators() {
+        if (decoratorsShared) {
+            decorators = new ArrayList<>(decorators);
+            decoratorsShared = false;
+        }
+        return decorators;
+    }
+
     @Override
     public String getId() {
         return id;
@@ -112,6 +200,7 @@ public abstract class AbstractElement implements Element {
 
     @Override
     public Element setLabel(String label) {
+        checkNotFrozen();
         this.label = label;
 
         return this;
@@ -119,6 +208,7 @@ public abstract class AbstractElement implements Element {
 
     @Override
     public Element setDescription(String description) {
+        checkNotFrozen();
         this.description = description;
 
         return this;
@@ -126,26 +216,42 @@ public abstract class AbstractElement implements Element {
 
     @Override
     public List<String> getValue() {
-        return value;
+        return currentValue();
     }
 
     @Override
     public String getFirstValue() {
-        return UniformUtils.firstValue(value);
+        return UniformUtils.firstValue(currentValue());
     }
 
     @Override
     public Element setValue(List<String> value) {
+        storeValue(filterValue(value));
+
+        return this;
+    }
+
+    /**
+     * Applies the element filters to the given values, keeping only the first value if the element is not multi-value.
+     *
+     * @param value List of values or null
+     * @return Filtered values or null if there are no values
+     */
+    protected List<String> filterValue(List<String> value) {
         if (value == null || value.isEmpty()) {
-            this.value = null;
-            return this;
+            return null;
         }
 
         if (!isMultiValue() && value.size() > 1) {
             value = value.subList(0, 1);
         }
 
-        List<String> filteredValues = new ArrayList<>();
+        if (value.size() == 1) {
+            //Single values are kept without a growable list:
+            return Collections.singletonList(filterSingleValue(value.get(0)));
+        }
+
+        List<String> filteredValues = new ArrayList<>(value.size());
 
         for (String current : value) {
             for (Filter filter : filters) {
@@ -157,9 +263,16 @@ public abstract class AbstractElement implements Element {
             filteredValues.add(current);
         }
 
-        this.value = filteredValues;
+        return filteredValues;
+    }
 
-        return this;
+    private String filterSingleValue(String current) {
+        for (Filter filter : filters) {
+            if (filter != null) {
+                current = filter.filter(current);
+            }
+        }
+        return current;
     }
 
     @Override
@@ -167,6 +280,79 @@ public abstract class AbstractElement implements Element {
         return this.setValue(Arrays.asList(value));
     }
 
+    /**
+     * <p>
+     * Returns a value parsed with the given parser.
+     * The element keeps the last parsed values, so validators and value conversion parse each value only once.
+     * </p>
+     *
+     * <p>
+     * Use {@link net.uniform.impl.utils.ValueParsers#parse(net.uniform.api.Element, java.lang.String, net.uniform.api.ValueParser)} to support any kind of element.
+     * </p>
+     *
+     * @param <T> Parsed type
+     * @param value Value to parse, it will be trimmed
+     * @param parser Parser
+     * @return Parsed value or null if the value is null or empty
+     * @throws IllegalArgumentException If the value is not valid for the parser
+     */
+    public <T> T getParsedValue(String value, ValueParser<T> parser) {
+        if (parser == null) {
+            throw new IllegalArgumentException("Parser cannot be null");
+        }
+        if (value == null) {
+            return null;
+        }
+
+        ParsedValue parsed;
+        FormState state = boundState();
+        if (state != null) {
+            int slot = stateIndex * 2;
+            parsed = parsedValue(value, parser, (ParsedValue) state.parsedValues[slot], (ParsedValue) state.parsedValues[slot + 1]);
+            if (parsed != state.parsedValues[slot]) {
+                state.parsedValues[slot + 1] = state.parsedValues[slot];
+                state.parsedValues[slot] = parsed;
+            }
+        } else if (stateOwner != null) {
+            //Shared frozen definition without a bound state, do not keep anything:
+            parsed = new ParsedValue(value, parser);
+        } else {
+            parsed = parsedValue(value, parser, parsedValue, previousParsedValue);
+            if (parsed != parsedValue) {
+                previousParsedValue = parsedValue;
+                parsedValue = parsed;
+            }
+        }
+
+        if (parsed.error != null) {
+            throw parsed.error;
+        }
+        return (T) parsed.value;
+    }
+
+    private static ParsedValue parsedValue(String value, ValueParser<?> parser, ParsedValue last, ParsedValue previous) {
+        if (last != null && last.matches(value, parser)) {
+            return last;
+        }
+        if (previous != null && previous.matches(value, parser)) {
+            return previous;
+        }
+        return new ParsedValue(value, parser);
+    }
+
+    /**
+     * Returns the first value of this element parsed with the given parser.
+     *
+     * @param <T> Parsed type
+     * @param parser Parser
+     * @return Parsed value or null if the element has no value
+     * @throws IllegalArgumentException If the value is not valid for the parser
+     * @see #getParsedValue(java.lang.String, net.uniform.api.ValueParser)
+     */
+    public <T> T getParsedValue(ValueParser<T> parser) {
+        return getParsedValue(getFirstValue(), parser);
+    }
+
     @Override
     public boolean isMultiValue() {
         return false;
@@ -181,6 +367,32 @@ public abstract class AbstractElement implements Element {
         return this;
     }
 
+    /**
+     * Populates the element like {@link #populate(java.util.List)} but without applying filters, for values that come from the application instead of user input.
+     * Elements that change how they are populated or how values are set are populated normally.
+     * The given list is kept by the element and should not be modified afterwards.
+     *
+     * @param value List of values or null
+     * @return This element
+     */
+    Element populateTrusted(List<String> value) {
+        if (!DEFAULT_POPULATE.get(getClass())) {
+            return populate(value);
+        }
+
+        if (!hasProperty("disabled")) {
+            if (value == null || value.isEmpty()) {
+                value = null;
+            } else if (value.size() == 1 || !isMultiValue()) {
+                value = Collections.singletonList(value.get(0));
+            }
+
+            storeValue(value);
+        }
+
+        return this;
+    }
+
     @Override
     public boolean hasProperty(String key) {
         key = UniformUtils.checkPropertyNameAndLowerCase(key);
@@ -193,6 +405,61 @@ public abstract class AbstractElement implements Element {
         return new HashMap<>(properties);
     }
 
+    /**
+     * Returns an unmodifiable view of the properties of the element indexed by key, without copying them.
+     *
+     * @return Unmodifiable properties view, will never be null
+     */
+    public Map<String, String> getPropertiesView() {
+        //Reads through the field, since the properties map is only allocated on first change:
+        return new AbstractMap<String, String>() {
+
+            @Override
+            public Set<Map.Entry<String, String>> entrySet() {
+                return Collections.unmodifiableMap(properties).entrySet();
+            }
+
+            @Override
+            public String get(Object key) {
+                return properties.get(key);
+            }
+
+            @Override
+            public boolean containsKey(Object key) {
+                return properties.containsKey(key);
+            }
+
+            @Override
+            public int size() {
+                return properties.size();
+            }
+        };
+    }
+
+    /**
+     * Returns the properties of any element, without copying them when it extends {@link AbstractElement}.
+     *
+     * @param element Element
+     * @return Properties, must not be modified
+     */
+    public static Map<String, String> propertiesView(Element element) {
+        if (element instanceof AbstractElement) {
+            return ((AbstractElement) element).getPropertiesView();
+        }
+        return element.getProperties();
+    }
+
+    /**
+     * Visits all the properties of the element without copying them.
+     *
+     * @param visitor Property visitor
+     */
+    public void forEachProperty(PropertyVisitor<String> visitor) {
+        for (Map.Entry<String, String> entry : properties.entrySet()) {
+            visitor.visit(entry.getKey(), entry.getValue());
+        }
+    }
+
     @Override
     public String getProperty(String key) {
         key = UniformUtils.checkPropertyNameAndLowerCase(key);
@@ -202,17 +469,27 @@ public abstract class AbstractElement implements Element {
 
     @Override
     public Element setProperty(String key, String value) {
+        checkNotFrozen();
         key = UniformUtils.checkPropertyNameAndLowerCase(key);
 
-        properties.put(key, value);
+        mutableProperties().put(key, value);
+        if ("name".equals(key)) {
+            nameOrValueTypeChanged();
+        }
         return this;
     }
 
     @Override
     public Element removeProperty(String key) {
+        checkNotFrozen();
         key = UniformUtils.checkPropertyNameAndLowerCase(key);
 
-        properties.remove(key);
+        if (properties.containsKey(key)) {
+            mutableProperties().remove(key);
+        }
+        if ("name".equals(key)) {
+            nameOrValueTypeChanged();
+        }
         return this;
     }
 
@@ -221,29 +498,65 @@ public abstract class AbstractElement implements Element {
         return new ArrayList<>(validators);
     }
 
+    /**
+     * Returns the validators of any element, without copying them when it extends {@link AbstractElement}.
+     *
+     * @param element Element
+     * @return Validators, must not be modified
+     */
+    public static List<Validator> validatorsView(Element element) {
+        if (element instanceof AbstractElement) {
+            return ((AbstractElement) element).getValidatorsView();
+        }
+        return element.getValidators();
+    }
+
+    /**
+     * Returns an unmodifiable view of the validators of this element, without copying them.
+     *
+     * @return Unmodifiable validators view
+     */
+    public List<Validator> getValidatorsView() {
+        return new LiveListView<Validator>() {
+
+            @Override
+            List<Validator> list() {
+                return validators;
+            }
+        };
+    }
+
     @Override
     public Element addValidator(Validator validator) {
-        validators.add(validator);
+        checkNotFrozen();
+        mutableValidators().add(validator);
         return this;
     }
 
     @Override
     public Element removeValidator(Validator validator) {
-        validators.remove(validator);
+        checkNotFrozen();
+        if (!validators.isEmpty()) {
+            mutableValidators().remove(validator);
+        }
         return this;
     }
 
     @Override
     public Element clearValidators() {
-        validators.clear();
+        checkNotFrozen();
+        validators = Collections.emptyList();
+        validatorsShared = true;
         return this;
     }
 
     @Override
     public Element setValidators(List<Validator> validators) {
-        this.validators.clear();
-        if (validators != null) {
-            this.validators.addAll(validators);
+        checkNotFrozen();
+        this.validators = Collections.emptyList();
+        this.validatorsShared = true;
+        if (validators != null && !validators.isEmpty()) {
+            mutableValidators().addAll(validators);
         }
         return this;
     }
@@ -255,47 +568,94 @@ public abstract class AbstractElement implements Element {
 
     @Override
     public Element setRenderer(Renderer renderer) {
+        checkNotFrozen();
         this.renderer = renderer;
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     * Shared immutable decorators are replaced by private copies first, so the returned decorators can be changed unless this element is frozen.
+     */
     @Override
     public List<Decorator> getDecorators() {
+        for (int i = 0; i < decorators.size(); i++) {
+            ownDecorator(i);
+        }
         return new ArrayList<>(decorators);
     }
 
+    /**
+     * Returns the decorators of any element, without copying them when it extends {@link AbstractElement}.
+     *
+     * @param element Element
+     * @return Decorators, must not be modified
+     */
+    public static List<Decorator> decoratorsView(Element element) {
+        if (element instanceof AbstractElement) {
+            return ((AbstractElement) element).getDecoratorsView();
+        }
+        return element.getDecorators();
+    }
+
+    /**
+     * Returns an unmodifiable view of the decorators of this element, without copying them.
+     * Unlike {@link #getDecorators()}, decorators in the view can be immutable instances shared by many elements,
+     * see {@link AbstractDecorator#immutableCopy()}. They are meant for reading and rendering.
+     *
+     * @return Unmodifiable decorators view
+     */
+    public List<Decorator> getDecoratorsView() {
+        return new LiveListView<Decorator>() {
+
+            @Override
+            List<Decorator> list() {
+                return decorators;
+            }
+        };
+    }
+
     @Override
     public Element addDecorator(Decorator decorator) {
-        decorators.add(decorator);
+        checkNotFrozen();
+        mutableDecorators().add(decorator);
         return this;
     }
 
     @Override
     public Element setDecorators(List decorators) {
-        this.decorators.clear();
-        if (decorators != null) {
-            this.decorators.addAll(decorators);
+        checkNotFrozen();
+        this.decorators = Collections.emptyList();
+        this.decoratorsShared = true;
+        if (decorators != null && !decorators.isEmpty()) {
+            mutableDecorators().addAll(decorators);
         }
         return this;
     }
 
     @Override
     public Element removeDecorator(Decorator decorator) {
-        this.decorators.remove(decorator);
+        checkNotFrozen();
+        if (!decorators.isEmpty()) {
+            mutableDecorators().remove(decorator);
+        }
         return this;
     }
 
     @Override
     public Element clearDecorators() {
-        this.decorators.clear();
+        checkNotFrozen();
+        this.decorators = Collections.emptyList();
+        this.decoratorsShared = true;
         return this;
     }
 
     @Override
     public Decorator getDecorator(Class<?> clazz) {
-        for (Decorator decorator : decorators) {
+        for (int i = 0; i < decorators.size(); i++) {
+            Decorator decorator = decorators.get(i);
             if (decorator != null && decorator.getClass().equals(clazz)) {
-                return decorator;
+                return ownDecorator(i);
             }
         }
 
@@ -304,19 +664,31 @@ public abstract class AbstractElement implements Element {
 
     @Override
     public Decorator getLastDecorator(Class<?> clazz) {
-        Decorator last = null;
+        int last = -1;
 
-        for (Decorator decorator : decorators) {
+        for (int i = 0; i < decorators.size(); i++) {
+            Decorator decorator = decorators.get(i);
             if (decorator != null && decorator.getClass().equals(clazz)) {
-                last = decorator;
+                last = i;
             }
         }
 
-        return last;
+        return last != -1 ? ownDecorator(last) : null;
+    }
+
+    private Decorator ownDecorator(int index) {
+        Decorator decorator = decorators.get(index);
+        //Shared immutable decorators are replaced by a private copy, so the returned decorator can be changed unless this element is frozen:
+        if (stateOwner == null && decorator instanceof AbstractDecorator && ((AbstractDecorator) decorator).isImmutable()) {
+            decorator = ((AbstractDecorator) decorator).copy();
+            mutableDecorators().set(index, decorator);
+        }
+        return decorator;
     }
 
     @Override
     public void setDecoratorProperty(Class<?> clazz, String key, Object value) {
+        checkNotFrozen();
         Decorator decorator = this.getDecorator(clazz);
         if (decorator != null) {
             decorator.setProperty(key, value);
@@ -327,6 +699,7 @@ public abstract class AbstractElement implements Element {
 
     @Override
     public void setLastDecoratorProperty(Class<?> clazz, String key, Object value) {
+        checkNotFrozen();
         Decorator decorator = this.getLastDecorator(clazz);
         if (decorator != null) {
             decorator.setProperty(key, value);
@@ -337,6 +710,7 @@ public abstract class AbstractElement implements Element {
 
     @Override
     public Element setRequired(boolean required) {
+        checkNotFrozen();
         this.required = required;
         return this;
     }
@@ -353,11 +727,54 @@ public abstract class AbstractElement implements Element {
 
     @Override
     public List<String> getValidationErrors() {
-        validationPerformed = true;
+        setValidationPerformed(true);
+
+        return validate(currentValue());
+    }
 
-        List<String> currentValue = value;
+    /**
+     * Filters and validates the given values as if they were populated to this element, without changing the element values or validation state.
+     *
+     * @param value List of values or null
+     * @return List of errors (may be empty) or null
+     */
+    public List<String> getValidationErrorsForValue(List<String> value) {
+        return validate(filterValue(value));
+    }
+
+    /**
+     * Filters and validates the given values as if they were populated to any element.
+     * Elements that do not extend {@link AbstractElement} are validated by setting the values temporarily, restoring their value and validation state after.
+     *
+     * @param element Element
+     * @param value List of values or null
+     * @return List of errors (may be empty) or null
+     */
+    public static List<String> validationErrorsForValue(Element element, List<String> value) {
+        if (element instanceof AbstractElement) {
+            return ((AbstractElement) element).getValidationErrorsForValue(value);
+        }
+
+        List<String> previousValue = element.getValue();
+        boolean validationPerformed = element.validationPerformed();
+        try {
+            element.setValue(value);
+            return element.getValidationErrors();
+        } finally {
+            element.setValue(previousValue);
+            if (!validationPerformed) {
+                element.clearValidation();
+            }
+        }
+    }
+
+    private List<String> validate(List<String> currentValue) {
         List<String> elementErrors = new ArrayList<>();
 
+        if (validatorOrdering != null) {
+            return getValidationErrorsWithOrdering(currentValue, elementErrors);
+        }
+
         List<Validator> finalValidators = new ArrayList<>();
         if (required) {
             finalValidators.add(new RequiredValidator());
@@ -365,7 +782,7 @@ public abstract class AbstractElement implements Element {
         finalValidators.addAll(validators);
 
         for (Validator validator : finalValidators) {
-            List<String> validatorErrors = validator.getValidationErrors(this, currentValue);
+            List<String> validatorErrors = invokeValidator(validator, currentValue);
             if (validatorErrors != null && !validatorErrors.isEmpty()) {
                 elementErrors.addAll(validatorErrors);
 
@@ -378,6 +795,81 @@ public abstract class AbstractElement implements Element {
         return elementErrors;
     }
 
+    private List<String> getValidationErrorsWithOrdering(List<String> currentValue, List<String> elementErrors) {
+        if (required) {
+            RequiredValidator requiredValidator = new RequiredValidator();
+            List<String> validatorErrors = requiredValidator.getValidationErrors(this, currentValue);
+            if (validatorErrors != null && !validatorErrors.isEmpty()) {
+                elementErrors.addAll(validatorErrors);
+
+                if (requiredValidator.breakChainOnError()) {
+                    return elementErrors;
+                }
+            }
+        }
+
+        //Errors are reported in declared order, whatever the execution order:
+        List<List<String>> errorsByIndex = new ArrayList<>(Collections.<List<String>>nCopies(validators.size(), null));
+        for (int index : validatorOrdering.getExecutionOrder(validators)) {
+            Validator validator = validators.get(index);
+
+            long start = System.nanoTime();
+            List<String> validatorErrors = invokeValidator(validator, currentValue);
+            boolean failed = validatorErrors != null && !validatorErrors.isEmpty();
+            boolean breakChainOnError = validator.breakChainOnError();
+            validatorOrdering.record(index, validator, System.nanoTime() - start, failed, breakChainOnError);
+
+            if (failed) {
+                errorsByIndex.set(index, validatorErrors);
+
+                if (breakChainOnError) {
+                    break;
+                }
+            }
+        }
+
+        for (List<String> validatorErrors : errorsByIndex) {
+            if (validatorErrors != null) {
+                elementErrors.addAll(validatorErrors);
+            }
+        }
+
+        return elementErrors;
+    }
+
+    private List<String> invokeValidator(Validator validator, List<String> currentValue) {
+        if (validator instanceof PureValidator) {
+            ValidationResultCache cache = ValidationResultCacheContext.getValidationResultCache();
+            if (cache != null) {
+                return cache.getValidationErrors((PureValidator) validator, this, currentValue);
+            }
+        }
+
+        return validator.getValidationErrors(this, currentValue);
+    }
+
+    /**
+     * Returns the adaptive validator ordering of this element, if any.
+     *
+     * @return Validator ordering or null if validators run in insertion order
+     */
+    public AdaptiveValidatorOrdering getValidatorOrdering() {
+        return validatorOrdering;
+    }
+
+    /**
+     * Sets an adaptive validator ordering for this element.
+     * The same instance should be reused for every instance of the same element definition, so statistics accumulate across requests.
+     *
+     * @param validatorOrdering Validator ordering or null to run validators in insertion order
+     * @return This element
+     */
+    public Element setValidatorOrdering(AdaptiveValidatorOrdering validatorOrdering) {
+        checkNotFrozen();
+        this.validatorOrdering = validatorOrdering;
+        return this;
+    }
+
     @Override
     public boolean isValid() {
         List<String> errors = getValidationErrors();
@@ -389,44 +881,180 @@ public abstract class AbstractElement implements Element {
         return new ArrayList<>(filters);
     }
 
+    /**
+     * Returns the filters of any element, without copying them when it extends {@link AbstractElement}.
+     *
+     * @param element Element
+     * @return Filters, must not be modified
+     */
+    public static List<Filter> filtersView(Element element) {
+        if (element instanceof AbstractElement) {
+            return ((AbstractElement) element).getFiltersView();
+        }
+        return element.getFilters();
+    }
+
+    /**
+     * Returns an unmodifiable view of the filters of this element, without copying them.
+     *
+     * @return Unmodifiable filters view
+     */
+    public List<Filter> getFiltersView() {
+        return new LiveListView<Filter>() {
+
+            @Override
+            List<Filter> list() {
+                return filters;
+            }
+        };
+    }
+
     @Override
     public Element addFilter(Filter filter) {
-        filters.add(filter);
+        checkNotFrozen();
+        mutableFilters().add(filter);
         return this;
     }
 
     @Override
     public Element removeFilter(Filter filter) {
-        filters.remove(filter);
+        checkNotFrozen();
+        if (!filters.isEmpty()) {
+            mutableFilters().remove(filter);
+        }
         return this;
     }
 
     @Override
     public Element clearFilters() {
-        filters.clear();
+        checkNotFrozen();
+        filters = Collections.emptyList();
+        filtersShared = true;
         return this;
     }
 
     @Override
     public Element setFilters(List<Filter> filters) {
-        this.filters.clear();
-        if (filters != null) {
-            this.filters.addAll(filters);
+        checkNotFrozen();
+        this.filters = Collections.emptyList();
+        this.filtersShared = true;
+        if (filters != null && !filters.isEmpty()) {
+            mutableFilters().addAll(filters);
         }
         return this;
     }
 
     @Override
     public boolean validationPerformed() {
-        return validationPerformed;
+        FormState state = boundState();
+        return state != null ? state.validationPerformed[stateIndex] : validationPerformed;
     }
 
     @Override
     public Element clearValidation() {
-        validationPerformed = false;
+        setValidationPerformed(false);
         return this;
     }
 
+    private void setValidationPerformed(boolean validationPerformed) {
+        if (stateOwner != null) {
+            requireBoundState().validationPerformed[stateIndex] = validationPerformed;
+        } else {
+            this.validationPerformed = validationPerformed;
+        }
+    }
+
+    private List<String> currentValue() {
+        FormState state = boundState();
+        return state != null ? state.values[stateIndex] : value;
+    }
+
+    private void storeValue(List<String> value) {
+        if (stateOwner != null) {
+            requireBoundState().values[stateIndex] = value;
+        } else {
+            this.value = value;
+        }
+    }
+
+    /**
+     * Sets the value without applying filters, used to leave the element exactly as it was.
+     *
+     * @param value Value
+     */
+    void restoreValue(List<String> value) {
+        storeValue(value);
+    }
+
+    /**
+     * Restores the value without applying filters and forgets the last parsed values, used to reuse elements of pooled forms.
+     *
+     * @param value Initial value
+     */
+    void restoreInitialValue(List<String> value) {
+        storeValue(value);
+        parsedValue = null;
+        previousParsedValue = null;
+    }
+
+    private FormState boundState() {
+        return stateOwner != null ? FormState.current(stateOwner) : null;
+    }
+
+    private FormState requireBoundState() {
+        FormState state = FormState.current(stateOwner);
+        if (state == null) {
+            throw new IllegalStateException("Element '" + id + "' belongs to a frozen form definition, its value and validation can only change through a FormState");
+        }
+        return state;
+    }
+
+    /**
+     * Attaches this element to a frozen form definition.
+     *
+     * @param form Frozen form
+     * @param index Index of the element values in the form states
+     */
+    void attachToFrozenForm(AbstractForm form, int index) {
+        if (stateOwner != null && stateOwner != form) {
+            throw new IllegalStateException("Element '" + id + "' already belongs to another frozen form definition");
+        }
+        if (value != null) {
+            value = Collections.unmodifiableList(value);
+        }
+        for (int i = 0; i < decorators.size(); i++) {
+            Decorator decorator = decorators.get(i);
+            if (decorator instanceof AbstractDecorator && !((AbstractDecorator) decorator).isImmutable()) {
+                mutableDecorators().set(i, ((AbstractDecorator) decorator).immutableCopy());
+            }
+        }
+        parsedValue = null;
+        previousParsedValue = null;
+        stateIndex = index;
+        stateOwner = form;
+    }
+
+    /**
+     * Indicates if this element belongs to a frozen form definition, so its configuration cannot change anymore.
+     *
+     * @return True if frozen
+     * @see AbstractForm#freeze()
+     */
+    public boolean isFrozen() {
+        return stateOwner != null;
+    }
+
+    /**
+     * Makes sure the configuration of this element can still be changed.
+     *
+     * @throws IllegalStateException If the element belongs to a frozen form definition
+     */
+    protected void checkNotFrozen() {
+        if (stateOwner != null) {
+            throw new IllegalStateException("Element '" + id + "' belongs to a frozen form definition and cannot be changed");
+        }
+    }
+
     protected Renderer getRendererToApply() {
         if (renderer != null) {
             return renderer;
@@ -475,7 +1103,7 @@ public abstract class AbstractElement implements Element {
         if (!hasProperty("disabled")) {
             this.setValue((List<String>) null);
         }
-        this.validationPerformed = false;
+        setValidationPerformed(false);
 
         return this;
     }
@@ -487,10 +1115,37 @@ public abstract class AbstractElement implements Element {
 
     @Override
     public void setValueType(Class<?> valueType) {
+        checkNotFrozen();
         if (valueType == null) {
             throw new IllegalArgumentException("valueType cannot be null");
         }
         this.valueType = valueType;
+        nameOrValueTypeChanged();
+    }
+
+    /**
+     * Notifies the forms containing this element that its name or value type changed, so they can update their index of elements by name.
+     * Subclasses that store the name property elsewhere must call it when the name changes.
+     */
+    protected void nameOrValueTypeChanged() {
+        if (containingForms != null) {
+            for (AbstractForm form : containingForms) {
+                form.elementNameChanged(this);
+            }
+        }
+    }
+
+    void addContainingForm(AbstractForm form) {
+        if (containingForms == null) {
+            containingForms = new ArrayList<>(1);
+        }
+        containingForms.add(form);
+    }
+
+    void removeContainingForm(AbstractForm form) {
+        if (containingForms != null) {
+            containingForms.remove(form);
+        }
     }
 
     @Override
@@ -500,6 +1155,7 @@ public abstract class AbstractElement implements Element {
 
     @Override
     public Element setTranslationEnabled(boolean translationEnabled) {
+        checkNotFrozen();
         this.translationEnabled = translationEnabled;
         return this;
     }
@@ -509,6 +1165,76 @@ public abstract class AbstractElement implements Element {
         return setTranslationEnabled(true);
     }
 
+    /**
+     * <p>
+     * Returns a copy of this element with the same configuration and value, without running the element setup again.
+     * </p>
+     *
+     * <p>
+     * Properties and decorators are copied, while validators, filters, the renderer and immutable decorators are shared with this element,
+     * so they should not be changed after copying. The copy never belongs to a frozen form.
+     * </p>
+     *
+     * @return Copy of this element
+     */
+    public AbstractElement copy() {
+        AbstractElement copy;
+        try {
+            copy = (AbstractElement) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+
+        //Shared collections stay shared, the rest are copied:
+        if (!propertiesShared) {
+            copy.properties = new HashMap<>(properties);
+        }
+        if (!validatorsShared) {
+            copy.validators = new ArrayList<>(validators);
+        }
+        if (!filtersShared) {
+            copy.filters = new ArrayList<>(filters);
+        }
+        if (!decoratorsShared) {
+            copy.decorators = new ArrayList<>(decorators.size());
+            for (Decorator decorator : decorators) {
+                copy.decorators.add(copyDecorator(decorator));
+            }
+        }
+        copy.value = value != null && value.size() > 1 ? new ArrayList<>(value) : value;//Single values are immutable
+        copy.containingForms = null;
+        copy.stateOwner = null;
+        copy.stateIndex = -1;
+
+        return copy;
+    }
+
+    /**
+     * Copies a decorator with its properties.
+     *
+     * @param decorator Decorator to copy, may be null
+     * @return Copy of the decorator
+     * @throws IllegalStateException If the decorator is not an {@link AbstractDecorator} and does not have a default constructor
+     */
+    static Decorator copyDecorator(Decorator decorator) {
+        if (decorator == null) {
+            return null;
+        }
+        if (decorator instanceof AbstractDecorator) {
+            AbstractDecorator abstractDecorator = (AbstractDecorator) decorator;
+            return abstractDecorator.isImmutable() ? abstractDecorator : abstractDecorator.copy();
+        }
+
+        Class<?> clazz = decorator.getClass();
+        try {
+            Decorator copy = (Decorator) clazz.newInstance();
+            copy.setProperties(decorator.getProperties());
+            return copy;
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new IllegalStateException("The decorator with class '" + clazz.getName() + "' does not have a default constructor, cannot be copied", e);
+        }
+    }
+
     @Override
     public String toString() {
         Renderer rendererToApply = getRendererToApply();
@@ -518,4 +1244,49 @@ public abstract class AbstractElement implements Element {
             return getClass().getName() + ":" + properties.toString();
         }
     }
+
+    /**
+     * Unmodifiable list view reading through a collection field, since shared collections are replaced on first change.
+     */
+    private abstract static class LiveListView<T> extends AbstractList<T> implements RandomAccess {
+
+        abstract List<T> list();
+
+        @Override
+        public T get(int index) {
+            return list().get(index);
+        }
+
+        @Override
+        public int size() {
+            return list().size();
+        }
+    }
+
+    private static final class ParsedValue {
+
+        private final String source;
+        private final ValueParser<?> parser;
+        private final Object value;
+        private final IllegalArgumentException error;
+
+        private ParsedValue(String source, ValueParser<?> parser) {
+            this.source = source;
+            this.parser = parser;
+
+            Object parsed = null;
+            IllegalArgumentException parseError = null;
+            try {
+                parsed = ValueParsers.parse(source, parser);
+            } catch (IllegalArgumentException e) {
+                parseError = e;
+            }
+            this.value = parsed;
+            this.error = parseError;
+        }
+
+        private boolean matches(String value, ValueParser<?> parser) {
+            return (this.parser == parser || this.parser.equals(parser)) && source.equals(value);
+        }
+    }
 }
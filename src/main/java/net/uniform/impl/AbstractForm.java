@@ -15,58 +15,98 @@
  */
 package net.uniform.impl;
 
-import java.math.BigDecimal;
-import java.math.BigInteger;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.Stack;
+import java.util.concurrent.ConcurrentHashMap;
 import net.uniform.api.Decorator;
 import net.uniform.api.Element;
 import net.uniform.api.ElementWithValueConversion;
+import net.uniform.api.FieldValidationResult;
 import net.uniform.api.Form;
 import net.uniform.api.FormValidator;
+import net.uniform.api.FormValidatorWithDependencies;
+import net.uniform.api.PropertyVisitor;
+import net.uniform.api.RepeatingElement;
 import net.uniform.api.Renderer;
 import net.uniform.api.Validator;
+import net.uniform.api.ValueParser;
 import net.uniform.api.annotations.IgnoreDefaultFormDecorators;
+import net.uniform.api.annotations.StatelessDecorator;
 import net.uniform.api.html.SimpleHTMLTag;
 import net.uniform.exceptions.UniformException;
+import net.uniform.impl.utils.BeanBinder;
+import net.uniform.impl.utils.ConverterRegistry;
 import net.uniform.impl.utils.HTMLRenderingUtils;
 import net.uniform.impl.utils.UniformUtils;
+import net.uniform.impl.utils.UrlEncodedParser;
+import net.uniform.impl.utils.ValueParsers;
 
 /**
  * Abstract form implementation that contains all generic logic that any form should have.
  *
  * @author Eduardo Ramos
  */
-public abstract class AbstractForm implements Form {
+public abstract class AbstractForm implements Form, Cloneable {
 
     /**
      * Elements indexed by id
      */
-    protected final Map<String, Element> formElements;
+    protected Map<String, Element> formElements;
     /**
      * Decorators indexed by id
      */
-    protected final Map<String, Decorator> formDecorators;
+    protected Map<String, Decorator> formDecorators;
     /**
      * Form properties
      */
-    protected final Map<String, String> properties;
-    protected final List<FormValidator> validators;
+    protected Map<String, String> properties;
+    protected List<FormValidator> validators;
     protected boolean validationPeformed = false;
     protected boolean autoEnableElementsTranslation = false;
+    protected AdaptiveValidatorOrdering validatorOrdering;
 
     protected Map<Class<? extends Element>, Renderer> defaultRenderers;
     protected Map<Class<? extends Element>, List<Decorator>> defaultElementDecorators;
 
-    protected final List<Object> renderingParts;
+    protected List<Object> renderingParts;
 
-    protected final Stack<String> openDecorators;
+    protected Stack<String> openDecorators;
+
+    //Resolved default renderers and decorators by element class, cleared whenever the defaults change:
+    private static final Object NO_DEFAULT = new Object();
+    private Map<Class<?>, Object> resolvedDefaultRenderers = new ConcurrentHashMap<>();
+    private Map<Class<?>, Object> resolvedDefaultDecorators = new ConcurrentHashMap<>();
+
+    //Immutable copies of default decorator prototypes annotated with StatelessDecorator:
+    private Map<Decorator, AbstractDecorator> sharedDefaultDecorators = new IdentityHashMap<>();
+
+    //Index of elements by name in rendering order, kept up to date as elements are added, removed or renamed:
+    private Map<String, List<Element>> nameIndex = new HashMap<>();
+    private Map<Element, String> indexedNames = new IdentityHashMap<>();
+    private Map<String, String> nameIndexErrors = new HashMap<>();
+    private int untrackedElements = 0;
+
+    //Compiled tree of the rendering parts, rebuilt only when they change:
+    private volatile RenderNode renderPlan;
+
+    private volatile boolean frozen = false;
+    private AbstractElement[] stateElements;
 
     public AbstractForm() {
         this.formElements = new HashMap<>();
@@ -76,7 +116,7 @@ public abstract class AbstractForm implements Form {
         this.defaultElementDecorators = new HashMap<>();
 
         this.formDecorators = new HashMap<>();
-        this.renderingParts = new ArrayList<>();
+        this.renderingParts = new RenderingParts();
 
         this.openDecorators = new Stack<>();
 
@@ -97,6 +137,7 @@ public abstract class AbstractForm implements Form {
 
     @Override
     public Form addElement(Element element, boolean useDefaultDecorators) {
+        checkNotFrozen();
         String id = element.getId();
 
         if (this.formElements.containsKey(id)) {
@@ -111,7 +152,7 @@ public abstract class AbstractForm implements Form {
         }
 
         if (useDefaultDecorators && !element.getClass().isAnnotationPresent(IgnoreDefaultFormDecorators.class)) {
-            List<Decorator> decorators = element.getDecorators();
+            List<Decorator> decorators = AbstractElement.decoratorsView(element);
             if (decorators == null || decorators.isEmpty()) {
                 element.setDecorators(this.buildDefaultDecoratorsForElement(element));
             }
@@ -123,6 +164,13 @@ public abstract class AbstractForm implements Form {
 
         this.formElements.put(id, element);
         this.renderingParts.add(element);
+
+        if (element instanceof AbstractElement) {
+            ((AbstractElement) element).addContainingForm(this);
+            indexElement(element);
+        } else {
+            untrackedElements++;
+        }
         return this;
     }
 
@@ -151,6 +199,7 @@ public abstract class AbstractForm implements Form {
 
     @Override
     public Form addDefaultDecoratorForElementClass(Class<? extends Element> clazz, Decorator decorator) {
+        checkNotFrozen();
         if (!this.defaultElementDecorators.containsKey(clazz)) {
             this.defaultElementDecorators.put(clazz, new ArrayList<Decorator>());
         }
@@ -158,12 +207,14 @@ public abstract class AbstractForm implements Form {
         if (decorator != null) {
             this.defaultElementDecorators.get(clazz).add(decorator);
         }
+        resolvedDefaultDecorators.clear();
 
         return this;
     }
 
     @Override
     public Form setDefaultDecoratorsForElementClass(Class<? extends Element> clazz, List<Decorator> decorators) {
+        checkNotFrozen();
         ArrayList<Decorator> list = new ArrayList<>();
 
         if (decorators != null) {
@@ -175,6 +226,7 @@ public abstract class AbstractForm implements Form {
             }
         }
         this.defaultElementDecorators.put(clazz, list);
+        resolvedDefaultDecorators.clear();
 
         return this;
     }
@@ -196,13 +248,17 @@ public abstract class AbstractForm implements Form {
 
     @Override
     public Form removeDefaultDecoratorsForElementClass(Class<? extends Element> clazz) {
+        checkNotFrozen();
         this.defaultElementDecorators.remove(clazz);
+        resolvedDefaultDecorators.clear();
         return this;
     }
 
     @Override
     public Form setDefaultRendererForElementClass(Class<? extends Element> clazz, Renderer renderer) {
+        checkNotFrozen();
         this.defaultRenderers.put(clazz, renderer);
+        resolvedDefaultRenderers.clear();
         return this;
     }
 
@@ -228,6 +284,11 @@ public abstract class AbstractForm implements Form {
             List<Decorator> copiedDecorators = new ArrayList<>();
             for (Decorator original : originalDecorators) {
                 if (original != null) {
+                    if (original instanceof AbstractDecorator) {
+                        copiedDecorators.add(sharedOrCopiedDecorator((AbstractDecorator) original));
+                        continue;
+                    }
+
                     Class<?> clazz = original.getClass();
                     try {
                         Decorator copy = (Decorator) clazz.newInstance();
@@ -246,8 +307,40 @@ public abstract class AbstractForm implements Form {
         }
     }
 
+    /**
+     * Returns the shared immutable instance of a default decorator prototype if its class is annotated with {@link StatelessDecorator},
+     * or a copy of the prototype otherwise.
+     * The shared instance is created again if the prototype properties changed.
+     *
+     * @param prototype Default decorator prototype
+     * @return Decorator for a new element
+     */
+    private AbstractDecorator sharedOrCopiedDecorator(AbstractDecorator prototype) {
+        if (!prototype.getClass().isAnnotationPresent(StatelessDecorator.class)) {
+            return prototype.copy();
+        }
+
+        AbstractDecorator shared = sharedDefaultDecorators.get(prototype);
+        if (shared == null || !shared.properties.equals(prototype.properties)) {
+            shared = prototype.immutableCopy();
+            sharedDefaultDecorators.put(prototype, shared);
+        }
+        return shared;
+    }
+
     @Override
     public List<Decorator> getDefaultDecoratorsAppliedToElementClass(Class<? extends Element> clazz) {
+        Object resolved = resolvedDefaultDecorators.get(clazz);
+        if (resolved == null) {
+            List<Decorator> decorators = resolveDefaultDecorators(clazz);
+            resolved = decorators != null ? decorators : NO_DEFAULT;
+            resolvedDefaultDecorators.put(clazz, resolved);
+        }
+
+        return resolved != NO_DEFAULT ? (List<Decorator>) resolved : null;
+    }
+
+    private List<Decorator> resolveDefaultDecorators(Class<? extends Element> clazz) {
         if (defaultElementDecorators.containsKey(clazz)) {
             List<Decorator> decorators = defaultElementDecorators.get(clazz);
 
@@ -261,7 +354,7 @@ public abstract class AbstractForm implements Form {
         } else {
             Class<?> superClass = clazz.getSuperclass();
             if (Element.class.isAssignableFrom(superClass)) {
-                return getDefaultDecoratorsAppliedToElementClass((Class<? extends Element>) superClass);
+                return resolveDefaultDecorators((Class<? extends Element>) superClass);
             } else {
                 //No specific decorators for the class, return whatever is configured for all elements
                 return defaultElementDecorators.get(Element.class);
@@ -275,12 +368,23 @@ public abstract class AbstractForm implements Form {
 
     @Override
     public Renderer getDefaultRendererAppliedToElementClass(Class<? extends Element> clazz) {
+        Object resolved = resolvedDefaultRenderers.get(clazz);
+        if (resolved == null) {
+            Renderer renderer = resolveDefaultRenderer(clazz);
+            resolved = renderer != null ? renderer : NO_DEFAULT;
+            resolvedDefaultRenderers.put(clazz, resolved);
+        }
+
+        return resolved != NO_DEFAULT ? (Renderer) resolved : null;
+    }
+
+    private Renderer resolveDefaultRenderer(Class<? extends Element> clazz) {
         if (defaultRenderers.containsKey(clazz)) {
             return defaultRenderers.get(clazz);
         } else {
             Class<?> superClass = clazz.getSuperclass();
             if (Element.class.isAssignableFrom(superClass)) {
-                return getDefaultRendererAppliedToElementClass((Class<? extends Element>) superClass);
+                return resolveDefaultRenderer((Class<? extends Element>) superClass);
             } else {
                 //No specific decorators for the class, return whatever is configured for all elements
                 return defaultRenderers.get(Element.class);
@@ -297,19 +401,78 @@ public abstract class AbstractForm implements Form {
 
     @Override
     public Form removeElement(String id) {
+        checkNotFrozen();
         Element removed = this.formElements.remove(id);
 
         if (removed != null) {
             renderingParts.remove(removed);
+
+            if (removed instanceof AbstractElement) {
+                ((AbstractElement) removed).removeContainingForm(this);
+                unindexElement(removed);
+            } else {
+                untrackedElements--;
+            }
         }
         return this;
     }
 
+    /**
+     * Moves an element of this form just before another element in the rendering order.
+     * The moved element will be decorated by the form decorators that surround its new position.
+     *
+     * @param id Id of the element to move
+     * @param anchorId Id of the element that will follow the moved element
+     * @return This form
+     * @throws IllegalArgumentException If any of the elements is not found
+     */
+    public Form moveElementBefore(String id, String anchorId) {
+        checkNotFrozen();
+        Element element = getExistingElement(id);
+        ((RenderingParts) renderingParts).moveBefore(element, getExistingElement(anchorId));
+        elementMoved(element);
+        return this;
+    }
+
+    /**
+     * Moves an element of this form just after another element in the rendering order.
+     * The moved element will be decorated by the form decorators that surround its new position.
+     *
+     * @param id Id of the element to move
+     * @param anchorId Id of the element that will precede the moved element
+     * @return This form
+     * @throws IllegalArgumentException If any of the elements is not found
+     */
+    public Form moveElementAfter(String id, String anchorId) {
+        checkNotFrozen();
+        Element element = getExistingElement(id);
+        ((RenderingParts) renderingParts).moveAfter(element, getExistingElement(anchorId));
+        elementMoved(element);
+        return this;
+    }
+
+    private Element getExistingElement(String id) {
+        Element element = formElements.get(id);
+        if (element == null) {
+            throw new IllegalArgumentException("Element with id '" + id + "' not found");
+        }
+        return element;
+    }
+
     @Override
     public Map<String, Element> getElements() {
         return new HashMap<>(formElements);
     }
 
+    /**
+     * Returns an unmodifiable view of the elements in this form indexed by id, without copying them.
+     *
+     * @return Unmodifiable view of form elements
+     */
+    public Map<String, Element> getElementsView() {
+        return Collections.unmodifiableMap(formElements);
+    }
+
     @Override
     public Element getElement(String id) {
         return this.formElements.get(id);
@@ -317,18 +480,20 @@ public abstract class AbstractForm implements Form {
 
     @Override
     public Form startDecorator(String id, Decorator decorator) {
+        checkNotFrozen();
         if (formDecorators.containsKey(id)) {
             throw new IllegalArgumentException("Decorator id '" + id + "' already in use");
         }
 
-        this.formDecorators.put(id, decorator);
         this.renderingParts.add(decorator);
+        this.formDecorators.put(id, decorator);
         this.openDecorators.add(id);
         return this;
     }
 
     @Override
     public Form endDecorator() {
+        checkNotFrozen();
         if (openDecorators.isEmpty()) {
             throw new IllegalStateException("No open decorators in the form");
         }
@@ -339,16 +504,12 @@ public abstract class AbstractForm implements Form {
 
     @Override
     public Form removeDecorator(String id) {
+        checkNotFrozen();
         Decorator removed = this.formDecorators.remove(id);
 
         if (removed != null) {
             renderingParts.remove(removed);
-            for (Object part : renderingParts) {
-                if (part instanceof String && ((String) part).equals(END_DECORATOR_PREFIX + id)) {
-                    this.renderingParts.remove(part);
-                    break;
-                }
-            }
+            renderingParts.remove(END_DECORATOR_PREFIX + id);
         }
         return this;
     }
@@ -369,46 +530,78 @@ public abstract class AbstractForm implements Form {
             throw new IllegalStateException("There are decorators not closed: " + openDecorators.peek());
         }
 
-        List<SimpleHTMLTag> tags = render(this.renderingParts);
+        List<SimpleHTMLTag> tags = new ArrayList<>();
+        render(getRenderPlan(), tags, null);
 
         return tags;
     }
 
-    private List<SimpleHTMLTag> render(List<Object> renderingParts) {
-        Stack<Decorator> activeDecorators = new Stack<>();
-        Stack<List<SimpleHTMLTag>> activeDecoratorsContent = new Stack<>();
-        Stack<List<Element>> activeDecoratorsElements = new Stack<>();
-
-        List<SimpleHTMLTag> result = new ArrayList<>();
-        for (Object obj : renderingParts) {
-            if (obj instanceof Decorator) {
-                activeDecorators.push((Decorator) obj);
-                activeDecoratorsContent.push(new ArrayList<SimpleHTMLTag>());
-                activeDecoratorsElements.push(new ArrayList<Element>());
-            } else if (obj instanceof Element) {
-                Element element = (Element) obj;
-
-                List<SimpleHTMLTag> elementResult = element.render(this);
+    /**
+     * Renders the children of a node of the render plan.
+     *
+     * @param node Render plan node
+     * @param result List to add the rendered tags
+     * @param renderedElements List to add the rendered elements, or null if not needed
+     */
+    private void render(RenderNode node, List<SimpleHTMLTag> result, List<Element> renderedElements) {
+        for (RenderNode child : node.children) {
+            if (child.element != null) {
+                List<SimpleHTMLTag> elementResult = child.element.render(this);
                 if (elementResult != null) {
-                    if (activeDecoratorsContent.isEmpty()) {
-                        addAllNotNull(elementResult, result);
-                    } else {
-                        addAllNotNull(elementResult, activeDecoratorsContent.peek());
-                        activeDecoratorsElements.peek().add(element);
+                    addAllNotNull(elementResult, result);
+                    if (renderedElements != null) {
+                        renderedElements.add(child.element);
                     }
                 }
-            } else if (obj instanceof String && ((String) obj).startsWith(END_DECORATOR_PREFIX)) {
-                Decorator decorator = activeDecorators.pop();
-                List<SimpleHTMLTag> decoratorContentTags = activeDecoratorsContent.pop();
-                List<Element> decoratorContentElements = activeDecoratorsElements.pop();
+            } else {
+                List<SimpleHTMLTag> decoratorContentTags = new ArrayList<>();
+                List<Element> decoratorContentElements = new ArrayList<>();
+                render(child, decoratorContentTags, decoratorContentElements);
 
-                List<SimpleHTMLTag> decoratorResult = decorator.render(this, decoratorContentElements, decoratorContentTags);
-                if (activeDecoratorsContent.isEmpty()) {
+                List<SimpleHTMLTag> decoratorResult = child.decorator.render(this, decoratorContentElements, decoratorContentTags);
+                if (decoratorResult != null) {
                     addAllNotNull(decoratorResult, result);
-                } else {
-                    addAllNotNull(decoratorResult, activeDecoratorsContent.peek());
-                    activeDecoratorsElements.peek().addAll(decoratorContentElements);
                 }
+                if (renderedElements != null) {
+                    renderedElements.addAll(decoratorContentElements);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the render plan of this form, compiling it again only if the rendering parts changed.
+     *
+     * @return Root node of the render plan
+     */
+    private RenderNode getRenderPlan() {
+        int modificationCount = renderingParts instanceof RenderingParts ? ((RenderingParts) renderingParts).getModificationCount() : -1;
+
+        RenderNode plan = renderPlan;
+        if (plan == null || modificationCount == -1 || plan.modificationCount != modificationCount) {
+            plan = compileRenderPlan(modificationCount);
+            renderPlan = plan;
+        }
+        return plan;
+    }
+
+    private RenderNode compileRenderPlan(int modificationCount) {
+        RenderNode root = new RenderNode(null, null, modificationCount);
+
+        Stack<RenderNode> activeDecorators = new Stack<>();
+        activeDecorators.push(root);
+        for (Object obj : renderingParts) {
+            if (obj instanceof Decorator) {
+                RenderNode decoratorNode = new RenderNode((Decorator) obj, null, modificationCount);
+                activeDecorators.peek().children.add(decoratorNode);
+                activeDecorators.push(decoratorNode);
+            } else if (obj instanceof Element) {
+                activeDecorators.peek().children.add(new RenderNode(null, (Element) obj, modificationCount));
+            } else if (obj instanceof String && ((String) obj).startsWith(END_DECORATOR_PREFIX)) {
+                if (activeDecorators.size() == 1) {
+                    throw new IllegalStateException("Decorator end without start: " + obj);
+                }
+                activeDecorators.pop();
             } else if (obj != null) {
                 throw new IllegalStateException("Unknown rendering object class " + obj.getClass().getName());
             } else {
@@ -416,7 +609,25 @@ public abstract class AbstractForm implements Form {
             }
         }
 
-        return result;
+        return root;
+    }
+
+    /**
+     * Node of the render plan: the root of the form, a decorator with its decorated children, or an element.
+     */
+    private static final class RenderNode {
+
+        private final Decorator decorator;
+        private final Element element;
+        private final List<RenderNode> children;
+        private final int modificationCount;
+
+        private RenderNode(Decorator decorator, Element element, int modificationCount) {
+            this.decorator = decorator;
+            this.element = element;
+            this.children = element == null ? new ArrayList<RenderNode>() : Collections.<RenderNode>emptyList();
+            this.modificationCount = modificationCount;
+        }
     }
 
     private void addAllNotNull(List<SimpleHTMLTag> source, List<SimpleHTMLTag> dest) {
@@ -449,7 +660,7 @@ public abstract class AbstractForm implements Form {
                 continue;//Skip elements without data type
             }
 
-            List<Validator> elementValidators = element.getValidators();
+            List<Validator> elementValidators = AbstractElement.validatorsView(element);
 
             if (elementValidators != null) {
                 List<String> elementErrors = element.getValidationErrors();
@@ -464,7 +675,7 @@ public abstract class AbstractForm implements Form {
             globalErrors.put(FORM_LEVEL_VALIDATION_ERRORS_INDEX, formErrors);
         }
 
-        this.validationPeformed = true;
+        setValidationPerformed(true);
 
         return globalErrors;
     }
@@ -472,9 +683,38 @@ public abstract class AbstractForm implements Form {
     protected List<String> getFormValidationErrors() {
         List<String> formErrors = new ArrayList<>();
 
-        List<FormValidator> formValidators = this.getValidators();
+        List<FormValidator> formValidators = this.getValidatorsView();
         if (formValidators != null) {
             Map<String, List<String>> formData = this.getFormDataMultivalue();
+            if (validatorOrdering != null) {
+                //Errors are reported in declared order, whatever the execution order:
+                List<List<String>> errorsByIndex = new ArrayList<>(Collections.<List<String>>nCopies(formValidators.size(), null));
+                for (int index : validatorOrdering.getExecutionOrder(formValidators)) {
+                    FormValidator formValidator = formValidators.get(index);
+
+                    long start = System.nanoTime();
+                    List<String> validatorErrors = formValidator.getValidationErrors(this, formData);
+                    boolean failed = validatorErrors != null && !validatorErrors.isEmpty();
+                    boolean breakChainOnError = formValidator.breakChainOnError();
+                    validatorOrdering.record(index, formValidator, System.nanoTime() - start, failed, breakChainOnError);
+
+                    if (failed) {
+                        errorsByIndex.set(index, validatorErrors);
+
+                        if (breakChainOnError) {
+                            break;
+                        }
+                    }
+                }
+
+                for (List<String> validatorErrors : errorsByIndex) {
+                    if (validatorErrors != null) {
+                        formErrors.addAll(validatorErrors);
+                    }
+                }
+                return formErrors;
+            }
+
             for (FormValidator formValidator : formValidators) {
                 List<String> validatorErrors = formValidator.getValidationErrors(this, formData);
                 if (validatorErrors != null && !validatorErrors.isEmpty()) {
@@ -490,22 +730,107 @@ public abstract class AbstractForm implements Form {
         return formErrors;
     }
 
+    /**
+     * Validates a single element with the given values, without changing the state of any element.
+     * Only the element filters and validators are run, plus the form validators that declare a dependency on the element (see {@link FormValidatorWithDependencies}).
+     * Dependent form validators receive this form and form data holding the current values of the other elements plus the given values for the validated element.
+     *
+     * @param elementId Id of the element to validate
+     * @param values Values to validate
+     * @return Validation result
+     */
+    public FieldValidationResult validateField(String elementId, List<String> values) {
+        Element element = formElements.get(elementId);
+        if (element == null) {
+            throw new IllegalArgumentException("Element with id '" + elementId + "' not found");
+        }
+
+        List<String> elementErrors = null;
+        if (element.getValueType() != null) {
+            elementErrors = AbstractElement.validationErrorsForValue(element, values);
+        }
+
+        List<FormValidator> dependentValidators = new ArrayList<>();
+        for (FormValidator formValidator : validators) {
+            if (formValidator instanceof FormValidatorWithDependencies) {
+                Collection<String> ids = ((FormValidatorWithDependencies) formValidator).getDependentElementIds();
+                if (ids != null && ids.contains(elementId)) {
+                    dependentValidators.add(formValidator);
+                }
+            }
+        }
+
+        List<String> formErrors = new ArrayList<>();
+        if (!dependentValidators.isEmpty()) {
+            //Only the form data map is built, elements are never changed nor copied:
+            List<String> candidateValue = element instanceof AbstractElement ? ((AbstractElement) element).filterValue(values) : values;
+            Map<String, List<String>> formData = formDataMultivalue(element, candidateValue);
+            for (FormValidator formValidator : dependentValidators) {
+                List<String> validatorErrors = formValidator.getValidationErrors(this, formData);
+                if (validatorErrors != null && !validatorErrors.isEmpty()) {
+                    formErrors.addAll(validatorErrors);
+
+                    if (formValidator.breakChainOnError()) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        return new FieldValidationResult(elementId, element.getProperty("name"), elementErrors, formErrors);
+    }
+
+    /**
+     * Returns the adaptive form validator ordering of this form, if any.
+     *
+     * @return Validator ordering or null if form validators run in insertion order
+     */
+    public AdaptiveValidatorOrdering getValidatorOrdering() {
+        return validatorOrdering;
+    }
+
+    /**
+     * Sets an adaptive ordering for the form validators of this form.
+     * The same instance should be reused for every instance of the same form definition, so statistics accumulate across requests.
+     *
+     * @param validatorOrdering Validator ordering or null to run form validators in insertion order
+     * @return This form
+     */
+    public Form setValidatorOrdering(AdaptiveValidatorOrdering validatorOrdering) {
+        checkNotFrozen();
+        this.validatorOrdering = validatorOrdering;
+        return this;
+    }
+
     @Override
     public Map<String, List<String>> getFormDataMultivalue() {
+        return formDataMultivalue(null, null);
+    }
+
+    /**
+     * Builds the form data like {@link #getFormDataMultivalue()}, using the given value for one of the elements instead of its current value.
+     *
+     * @param substituted Element whose value is replaced, or null
+     * @param substitutedValue Value to use for the element
+     * @return Form data
+     */
+    private Map<String, List<String>> formDataMultivalue(Element substituted, List<String> substitutedValue) {
         Map<String, List<String>> formData = new HashMap<>();
 
-        Map<String, List<Element>> elementsIndexByName = elementsIndexByName();
-        for (String name : elementsIndexByName.keySet()) {
-            List<Element> elements = elementsIndexByName.get(name);
+        for (Map.Entry<String, List<Element>> entry : indexByName().entrySet()) {
+            String name = entry.getKey();
+            List<Element> elements = entry.getValue();
             boolean multipleElements = elements.size() > 1;
 
             for (Element element : elements) {
-                if (element.getValueType() != null) {//Skip elements without data type
+                if (element instanceof RepeatingElement && element.getValueType() != null) {
+                    formData.putAll(((RepeatingElement) element).getCellValues());
+                } else if (element.getValueType() != null) {//Skip elements without data type
                     if (element.isMultiValue() && multipleElements) {
                         throw new IllegalStateException("Name '" + name + "' cannot be repeated in the form if any of the elements is multi-valued");
                     }
 
-                    List<String> elementValue = element.getValue();
+                    List<String> elementValue = element == substituted ? substitutedValue : element.getValue();
                     if (element.isMultiValue()) {
                         formData.put(name, elementValue);
                     } else {
@@ -537,7 +862,7 @@ public abstract class AbstractForm implements Form {
     @Override
     public Map<String, Object> getFormData() {
         Map<String, List<String>> formDataMultivalue = getFormDataMultivalue();
-        Map<String, List<Element>> elementsIndexByName = elementsIndexByName();
+        Map<String, List<Element>> elementsIndexByName = indexByName();
 
         Map<String, Object> formData = new HashMap<>();
         for (Map.Entry<String, List<String>> entry : formDataMultivalue.entrySet()) {
@@ -546,7 +871,10 @@ public abstract class AbstractForm implements Form {
 
             List<Element> elements = elementsIndexByName.get(name);
 
-            if (elements.size() > 1 || elements.get(0).isMultiValue()) {
+            if (elements == null) {
+                //Cell of a repeating element:
+                formData.put(name, UniformUtils.firstValue(value));
+            } else if (elements.size() > 1 || elements.get(0).isMultiValue()) {
                 formData.put(name, value);
             } else {
                 formData.put(name, UniformUtils.firstValue(value));
@@ -559,7 +887,7 @@ public abstract class AbstractForm implements Form {
     @Override
     public Map<String, Object> getFormDataConvertedToElementValueTypes() {
         Map<String, List<String>> formDataMultivalue = getFormDataMultivalue();
-        Map<String, List<Element>> elementsIndexByName = elementsIndexByName();
+        Map<String, List<Element>> elementsIndexByName = indexByName();
 
         Map<String, Object> formDataConverted = new HashMap<>();
         for (Map.Entry<String, List<String>> entry : formDataMultivalue.entrySet()) {
@@ -567,7 +895,9 @@ public abstract class AbstractForm implements Form {
 
             List<Element> elements = elementsIndexByName.get(name);
 
-            if (elements.size() > 1) {
+            if (elements == null) {
+                continue;//Cell of a repeating element, converted with its rows below
+            } else if (elements.size() > 1) {
                 List<Object> values = new ArrayList<>();
                 for (Element element : elements) {
                     values.add(getElementValueConvertedToValueType(element));
@@ -578,6 +908,13 @@ public abstract class AbstractForm implements Form {
             }
         }
 
+        for (Map.Entry<String, List<Element>> entry : elementsIndexByName.entrySet()) {
+            Element element = entry.getValue().get(0);
+            if (element instanceof RepeatingElement && element.getValueType() != null) {
+                formDataConverted.put(entry.getKey(), getElementValueConvertedToValueType(element));
+            }
+        }
+
         return formDataConverted;
     }
 
@@ -615,7 +952,7 @@ public abstract class AbstractForm implements Form {
     }
 
     /**
-     * Converts the value of the given element to its target value type. Simple types conversion is supported by the form. For other complex types the form relies on the element implementing
+     * Converts the value of the given element to its target value type. Types with a converter in {@link ConverterRegistry} are supported by the form. For other complex types the form relies on the element implementing
      * {@link ElementWithValueConversion} interface.
      *
      * @param element Element to extract converted value
@@ -627,6 +964,10 @@ public abstract class AbstractForm implements Form {
             return null;
         }
 
+        if (element instanceof RepeatingElement) {
+            return ((RepeatingElement) element).getConvertedRows();
+        }
+
         List<String> values = element.getValue();
         if (element instanceof ElementWithValueConversion) {
             Object converted = ((ElementWithValueConversion) element).getConvertedValue();
@@ -639,8 +980,9 @@ public abstract class AbstractForm implements Form {
         } else if (values != null) {
             List<Object> convertedValues = new ArrayList<>();
 
+            boolean multiValue = element.isMultiValue();
             for (String value : values) {
-                Object convertedValue = convertBasicValue(value, elementValueType);
+                Object convertedValue = convertBasicValue(multiValue ? null : element, value, elementValueType);
                 convertedValues.add(convertedValue);
             }
 
@@ -680,18 +1022,37 @@ public abstract class AbstractForm implements Form {
 
     @Override
     public Form getFormDataIntoBean(Object bean) {
-        Map<String, Object> formData = getFormDataConvertedToElementValueTypes();
+        UniformUtils.fillBeanProperties(bean, getFormDataConvertedToElementValueTypes(), getValueTypesByName());
+
+        return this;
+    }
+
+    /**
+     * Does the same as {@link #getFormDataIntoBean(java.lang.Object)} but creates the bean.
+     * Immutable beans are supported through a constructor or static factory annotated with
+     * {@link net.uniform.api.annotations.CreatorProperties} or {@link java.beans.ConstructorProperties}.
+     *
+     * @param <T> Bean type
+     * @param beanClass Bean class
+     * @return New bean with the form data
+     * @throws net.uniform.exceptions.UniformException If the bean cannot be created
+     */
+    public <T> T getFormDataAsBean(Class<T> beanClass) {
+        return UniformUtils.createBean(beanClass, getFormDataConvertedToElementValueTypes(), getValueTypesByName());
+    }
 
-        //Prepare type info for each value so generic types can be checked:
+    /**
+     * Prepares type info for each value name so generic types can be checked when filling beans.
+     *
+     * @return Value type by element name
+     */
+    private Map<String, Class<?>> getValueTypesByName() {
         Map<String, Class<?>> collectionsGenericTypes = new HashMap<>();
         for (Element element : formElements.values()) {
             String name = element.getProperty("name");
             collectionsGenericTypes.put(name, element.getValueType());
         }
-
-        UniformUtils.fillBeanProperties(bean, formData, collectionsGenericTypes);
-
-        return this;
+        return collectionsGenericTypes;
     }
 
     @Override
@@ -708,41 +1069,220 @@ public abstract class AbstractForm implements Form {
             return this;
         }
 
-        Map<String, List<Element>> elementsIndexByName = elementsIndexByName();
+        Map<String, List<Element>> elementsIndexByName = indexByName();
 
         for (Map.Entry<String, List<String>> entry : formData.entrySet()) {
             String name = entry.getKey();
 
+            List<Element> elements = elementsIndexByName.get(name);
+            if (elements != null) {
+                populateElements(elements, entry.getValue(), false);
+            } else {
+                populateCell(elementsIndexByName, name, entry.getValue());
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Does the same as {@link #populate(java.util.Map, boolean)} reading the form data directly from an {@code application/x-www-form-urlencoded} request body.
+     * Only the values of parameters named like an element of this form are decoded, the rest are skipped.
+     *
+     * @param body Urlencoded body, not closed by this method
+     * @param charset Charset of the body
+     * @param keepOtherValues True to keep values of elements not specified in the body
+     * @return This form
+     * @throws net.uniform.exceptions.UniformException If the body cannot be read
+     */
+    public Form populateUrlEncoded(InputStream body, Charset charset, boolean keepOtherValues) {
+        UrlEncodedPopulator populator = new UrlEncodedPopulator(keepOtherValues);
+        if (body != null) {
+            try {
+                UrlEncodedParser.parse(body, charset, populator);
+            } catch (IOException e) {
+                throw new UniformException("Error while reading urlencoded form data", e);
+            }
+        }
+        populator.finish();
+
+        return this;
+    }
+
+    /**
+     * Does the same as {@link #populateUrlEncoded(java.io.InputStream, java.nio.charset.Charset, boolean)} reading a buffer.
+     *
+     * @param body Urlencoded body, its position is not modified
+     * @param charset Charset of the body
+     * @param keepOtherValues True to keep values of elements not specified in the body
+     * @return This form
+     */
+    public Form populateUrlEncoded(ByteBuffer body, Charset charset, boolean keepOtherValues) {
+        UrlEncodedPopulator populator = new UrlEncodedPopulator(keepOtherValues);
+        if (body != null) {
+            UrlEncodedParser.parse(body, charset, populator);
+        }
+        populator.finish();
+
+        return this;
+    }
+
+    /**
+     * Does the same as {@link #populateUrlEncoded(java.io.InputStream, java.nio.charset.Charset, boolean)} reading characters.
+     *
+     * @param body Urlencoded body
+     * @param charset Charset of escaped bytes
+     * @param keepOtherValues True to keep values of elements not specified in the body
+     * @return This form
+     */
+    public Form populateUrlEncoded(CharSequence body, Charset charset, boolean keepOtherValues) {
+        UrlEncodedPopulator populator = new UrlEncodedPopulator(keepOtherValues);
+        if (body != null) {
+            UrlEncodedParser.parse(body, charset, populator);
+        }
+        populator.finish();
+
+        return this;
+    }
+
+    /**
+     * Populates elements while urlencoded data is parsed.
+     * Single-value elements with a unique name receive their first value directly.
+     * Values of multi-value elements, elements sharing a name and repeating element cells are grouped until the end, since they are populated together.
+     */
+    private class UrlEncodedPopulator implements UrlEncodedParser.Handler {
+
+        private final Map<String, List<Element>> elementsIndexByName = indexByName();
+        private Set<String> populatedNames = null;
+        private Map<String, List<String>> groupedValues = null;
+
+        private UrlEncodedPopulator(boolean keepOtherValues) {
+            if (!keepOtherValues) {
+                reset();
+            }
+        }
+
+        @Override
+        public boolean accept(String name) {
             if (elementsIndexByName.containsKey(name)) {
-                List<Element> elements = elementsIndexByName.get(name);
-                List<String> valuesList = entry.getValue();
-                int valuesCount = valuesList != null ? valuesList.size() : 0;
+                return true;
+            }
 
-                for (int i = 0; i < elements.size(); i++) {
-                    Element element = elements.get(i);
+            int open = name.indexOf('[');
+            return open > 0 && elementsIndexByName.containsKey(name.substring(0, open));//Cell of a repeating element
+        }
 
-                    Class<?> valueType = element.getValueType();
-                    boolean skipPopulate = valueType == null || element.hasProperty("disabled");//Skip elements without data type or disabled
+        @Override
+        public void value(String name, String value) {
+            List<Element> elements = elementsIndexByName.get(name);
+            if (elements != null && elements.size() == 1 && !elements.get(0).isMultiValue()) {
+                if (populatedNames == null) {
+                    populatedNames = new HashSet<>();
+                }
+                if (populatedNames.add(name)) {
+                    populateElements(elements, Collections.singletonList(value), false);
+                }
+                return;
+            }
 
-                    if (!skipPopulate) {
-                        if (element.isMultiValue()) {
-                            element.populate(valuesList);
-                        } else if (valuesList == null) {
-                            element.populate(valuesList);
-                        } else {
-                            List<String> currentValue = null;
-                            if (valuesCount > i) {
-                                currentValue = valuesList.subList(i, i + 1);
-                            }
+            if (groupedValues == null) {
+                groupedValues = new LinkedHashMap<>();
+            }
+            List<String> values = groupedValues.get(name);
+            if (values == null) {
+                values = new ArrayList<>(2);
+                groupedValues.put(name, values);
+            }
+            values.add(value);
+        }
 
-                            element.populate(currentValue);//Only first value of list since the element is not multivalue
-                        }
+        private void finish() {
+            if (groupedValues == null) {
+                return;
+            }
+
+            for (Map.Entry<String, List<String>> entry : groupedValues.entrySet()) {
+                List<Element> elements = elementsIndexByName.get(entry.getKey());
+                if (elements != null) {
+                    populateElements(elements, entry.getValue(), false);
+                } else {
+                    populateCell(elementsIndexByName, entry.getKey(), entry.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Populates the elements with the same name, giving one value to each single-value element in order.
+     *
+     * @param elements Elements with the same name
+     * @param valuesList Values or null
+     * @param trusted True to skip the element filters
+     */
+    private static void populateElements(List<Element> elements, List<String> valuesList, boolean trusted) {
+        int valuesCount = valuesList != null ? valuesList.size() : 0;
+
+        for (int i = 0; i < elements.size(); i++) {
+            Element element = elements.get(i);
+
+            Class<?> valueType = element.getValueType();
+            boolean skipPopulate = valueType == null || element.hasProperty("disabled");//Skip elements without data type or disabled
+
+            if (!skipPopulate) {
+                List<String> currentValue = valuesList;
+                if (!element.isMultiValue() && valuesList != null) {
+                    currentValue = null;
+                    if (valuesCount > i) {
+                        currentValue = valuesList.subList(i, i + 1);//Only first value of list since the element is not multivalue
                     }
                 }
+
+                if (trusted && element instanceof AbstractElement) {
+                    ((AbstractElement) element).populateTrusted(currentValue);
+                } else {
+                    element.populate(currentValue);
+                }
             }
         }
+    }
+
+    /**
+     * Populates a cell of a repeating element from its indexed name {@code name[row].column}.
+     * Names that are not cells of a repeating element of this form are ignored.
+     *
+     * @param elementsIndexByName Index of elements by name
+     * @param cellName Indexed name
+     * @param values Cell values
+     */
+    private static void populateCell(Map<String, List<Element>> elementsIndexByName, String cellName, List<String> values) {
+        int open = cellName.indexOf('[');
+        if (open <= 0) {
+            return;
+        }
 
-        return this;
+        int close = cellName.indexOf("].", open);
+        if (close <= open + 1 || close - open > 10) {
+            return;//Not a cell name or too many digits for a row index
+        }
+
+        List<Element> elements = elementsIndexByName.get(cellName.substring(0, open));
+        if (elements == null || elements.size() != 1 || !(elements.get(0) instanceof RepeatingElement)) {
+            return;
+        }
+
+        int row = 0;
+        for (int i = open + 1; i < close; i++) {
+            char c = cellName.charAt(i);
+            if (c < '0' || c > '9') {
+                return;
+            }
+            row = row * 10 + (c - '0');
+        }
+
+        RepeatingElement repeatingElement = (RepeatingElement) elements.get(0);
+        if (repeatingElement.getValueType() != null) {
+            repeatingElement.populateCell(row, cellName.substring(close + 2), values);
+        }
     }
 
     @Override
@@ -760,11 +1300,18 @@ public abstract class AbstractForm implements Form {
         }
 
         Map<String, List<String>> populateData = new HashMap<>();
+        Map<String, List<Element>> elementsIndexByName = indexByName();
 
         for (Map.Entry<String, ?> entry : formData.entrySet()) {
             String name = entry.getKey();
             Object value = entry.getValue();
 
+            List<Element> elements = elementsIndexByName.get(name);
+            if (elements != null && elements.size() == 1 && elements.get(0) instanceof RepeatingElement) {
+                putRows(populateData, name, (RepeatingElement) elements.get(0), value);
+                continue;
+            }
+
             List<String> valueList = convertObjectToListOfStringValues(value);
 
             populateData.put(name, valueList);
@@ -780,23 +1327,99 @@ public abstract class AbstractForm implements Form {
 
     @Override
     public Form populateBean(Object bean, boolean keepOtherValues) {
-        if (bean != null) {
-            Map<String, Object> formData = UniformUtils.getBeanProperties(bean);
-            return this.populateSimple(formData, keepOtherValues);
-        } else {
+        return populateBean(bean, keepOtherValues, false);
+    }
+
+    /**
+     * Does the same as {@link #populateBean(java.lang.Object, boolean)}, optionally skipping the element filters.
+     * Only the bean properties used by the elements of the form are read.
+     *
+     * @param bean Bean object
+     * @param keepOtherValues True to keep values of elements not specified in the {@code bean} parameter
+     * @param trusted True if the bean values come from the application instead of user input, so filters are not applied to them
+     * @return This form
+     */
+    public Form populateBean(Object bean, boolean keepOtherValues, boolean trusted) {
+        if (bean == null) {
             return this;
         }
+        if (!keepOtherValues) {
+            this.reset();
+        }
+
+        //Read only the bean properties used by elements:
+        BeanBinder binder = BeanBinder.forClass(bean.getClass());
+        Map<String, List<Element>> elementsIndexByName = indexByName();
+
+        for (Map.Entry<String, List<Element>> entry : elementsIndexByName.entrySet()) {
+            String name = entry.getKey();
+            if (!binder.hasProperty(name)) {
+                continue;
+            }
+
+            Object value = binder.getProperty(bean, name);
+            List<Element> elements = entry.getValue();
+            if (elements.size() == 1 && elements.get(0) instanceof RepeatingElement) {
+                Map<String, List<String>> cells = new HashMap<>();
+                putRows(cells, name, (RepeatingElement) elements.get(0), value);
+                for (Map.Entry<String, List<String>> cell : cells.entrySet()) {
+                    populateCell(elementsIndexByName, cell.getKey(), cell.getValue());
+                }
+            } else {
+                populateElements(elements, convertObjectToListOfStringValues(value), trusted);
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Adds the cells of the given rows, maps by column id or Java beans, to the populate data with their indexed names.
+     *
+     * @param populateData Populate data
+     * @param name Name of the repeating element
+     * @param repeatingElement Repeating element
+     * @param rows Collection or array of rows
+     */
+    private void putRows(Map<String, List<String>> populateData, String name, RepeatingElement repeatingElement, Object rows) {
+        Collection<?> rowsCollection;
+        if (rows instanceof Collection) {
+            rowsCollection = (Collection<?>) rows;
+        } else if (rows instanceof Object[]) {
+            rowsCollection = Arrays.asList((Object[]) rows);
+        } else {
+            return;
+        }
+
+        List<String> columnIds = repeatingElement.getColumnIds();
+        int row = 0;
+        for (Object rowObject : rowsCollection) {
+            if (rowObject != null) {
+                Map<?, ?> rowValues = rowObject instanceof Map ? (Map<?, ?>) rowObject : UniformUtils.getBeanProperties(rowObject);
+                for (String columnId : columnIds) {
+                    if (rowValues.containsKey(columnId)) {
+                        populateData.put(name + "[" + row + "]." + columnId, convertObjectToListOfStringValues(rowValues.get(columnId)));
+                    }
+                }
+            }
+            row++;
+        }
     }
 
     /**
      * Converts any input object to a list of string values. If the input object is a collection or an array, then each element in the input is treated as a separate object to be added to the result.
-     * In any other case, simple {@code toString()} method of the object is used.
+     * Each object is formatted with its converter in {@link ConverterRegistry}, or its {@code toString()} method if there is none.
      *
      * @param value Input object
      * @return List of string values
      */
     private List<String> convertObjectToListOfStringValues(Object value) {
         if (value != null) {
+            if (!(value instanceof Collection) && !(value instanceof Object[])) {
+                //Single values are kept without a growable list:
+                return Collections.singletonList(ConverterRegistry.format(value));
+            }
+
             List<String> valueList = new ArrayList<>();
             if (value instanceof Collection) {
                 Collection valueCollection = (Collection) value;
@@ -804,7 +1427,7 @@ public abstract class AbstractForm implements Form {
                     if (val == null) {
                         valueList.add(null);
                     } else {
-                        valueList.add(val.toString());
+                        valueList.add(ConverterRegistry.format(val));
                     }
                 }
 
@@ -814,11 +1437,9 @@ public abstract class AbstractForm implements Form {
                     if (val == null) {
                         valueList.add(null);
                     } else {
-                        valueList.add(val.toString());
+                        valueList.add(ConverterRegistry.format(val));
                     }
                 }
-            } else {
-                valueList.add(value.toString());
             }
 
             return valueList;
@@ -832,6 +1453,26 @@ public abstract class AbstractForm implements Form {
         return new HashMap<>(properties);
     }
 
+    /**
+     * Returns an unmodifiable view of the properties in this form, without copying them.
+     *
+     * @return Unmodifiable properties view
+     */
+    public Map<String, String> getPropertiesView() {
+        return Collections.unmodifiableMap(properties);
+    }
+
+    /**
+     * Visits all the properties of this form without copying them.
+     *
+     * @param visitor Property visitor
+     */
+    public void forEachProperty(PropertyVisitor<String> visitor) {
+        for (Map.Entry<String, String> entry : properties.entrySet()) {
+            visitor.visit(entry.getKey(), entry.getValue());
+        }
+    }
+
     @Override
     public String getProperty(String key) {
         key = UniformUtils.checkPropertyNameAndLowerCase(key);
@@ -848,6 +1489,7 @@ public abstract class AbstractForm implements Form {
 
     @Override
     public Form setProperty(String key, String value) {
+        checkNotFrozen();
         key = UniformUtils.checkPropertyNameAndLowerCase(key);
 
         properties.put(key, value);
@@ -856,6 +1498,7 @@ public abstract class AbstractForm implements Form {
 
     @Override
     public Form removeProperty(String key) {
+        checkNotFrozen();
         key = UniformUtils.checkPropertyNameAndLowerCase(key);
 
         properties.remove(key);
@@ -867,26 +1510,39 @@ public abstract class AbstractForm implements Form {
         return new ArrayList<>(validators);
     }
 
+    /**
+     * Returns an unmodifiable view of the form validators, without copying them.
+     *
+     * @return Unmodifiable form validators view
+     */
+    public List<FormValidator> getValidatorsView() {
+        return Collections.unmodifiableList(validators);
+    }
+
     @Override
     public Form addValidator(FormValidator validator) {
+        checkNotFrozen();
         validators.add(validator);
         return this;
     }
 
     @Override
     public Form removeValidator(FormValidator validator) {
+        checkNotFrozen();
         validators.remove(validator);
         return this;
     }
 
     @Override
     public Form clearValidators() {
+        checkNotFrozen();
         validators.clear();
         return this;
     }
 
     @Override
     public Form setValidators(List<FormValidator> validators) {
+        checkNotFrozen();
         this.validators.clear();
         if (validators != null) {
             this.validators.addAll(validators);
@@ -900,19 +1556,32 @@ public abstract class AbstractForm implements Form {
             element.reset();
         }
 
-        this.validationPeformed = false;
+        setValidationPerformed(false);
 
         return this;
     }
 
     @Override
     public boolean validationPerformed() {
-        return validationPeformed;
+        FormState state = frozen ? FormState.current(this) : null;
+        return state != null ? state.formValidationPerformed : validationPeformed;
+    }
+
+    private void setValidationPerformed(boolean validationPerformed) {
+        if (frozen) {
+            FormState state = FormState.current(this);
+            if (state == null) {
+                throw new IllegalStateException("The form definition is frozen, its values and validation can only change through a FormState");
+            }
+            state.formValidationPerformed = validationPerformed;
+        } else {
+            this.validationPeformed = validationPerformed;
+        }
     }
 
     @Override
     public Form clearValidation() {
-        validationPeformed = false;
+        setValidationPerformed(false);
         for (Element element : formElements.values()) {
             element.clearValidation();
         }
@@ -926,21 +1595,349 @@ public abstract class AbstractForm implements Form {
 
     @Override
     public Form setAutoEnableElementsTranslation(boolean autoEnableElementsTranslation) {
+        checkNotFrozen();
         this.autoEnableElementsTranslation = autoEnableElementsTranslation;
         return this;
     }
 
+    /**
+     * <p>
+     * Freezes this form, turning it into an immutable definition that can be shared by any number of threads.
+     * Any change to the structure or configuration of the form or its elements will fail after this.
+     * Form and element decorators extending {@link AbstractDecorator} are replaced by immutable copies.
+     * </p>
+     *
+     * <p>
+     * Element values and validation results are then kept by {@link FormState} instances created with {@link #newState()}, one for each request.
+     * All elements must extend {@link AbstractElement} and cannot be part of another frozen form.
+     * </p>
+     *
+     * @return This form
+     * @throws IllegalStateException If there are decorators not closed or any element does not support frozen definitions
+     */
+    public synchronized Form freeze() {
+        if (frozen) {
+            return this;
+        }
+        if (!this.openDecorators.isEmpty()) {
+            throw new IllegalStateException("There are decorators not closed: " + openDecorators.peek());
+        }
+
+        List<AbstractElement> elements = new ArrayList<>();
+        for (Object part : renderingParts) {
+            if (part instanceof Element) {
+                if (!(part instanceof AbstractElement)) {
+                    throw new IllegalStateException("Element '" + ((Element) part).getId() + "' does not extend AbstractElement and cannot be part of a frozen form");
+                }
+                if (part instanceof RepeatingElement) {
+                    throw new IllegalStateException("Element '" + ((Element) part).getId() + "' keeps its rows in the element and cannot be part of a frozen form");
+                }
+                elements.add((AbstractElement) part);
+            }
+        }
+
+        for (int i = 0; i < elements.size(); i++) {
+            elements.get(i).attachToFrozenForm(this, i);
+        }
+        freezeFormDecorators();
+
+        this.stateElements = elements.toArray(new AbstractElement[elements.size()]);
+        this.renderPlan = null;
+        getRenderPlan();
+        this.validationPeformed = false;
+        this.frozen = true;
+        return this;
+    }
+
+    /**
+     * Replaces the form decorators with immutable copies, so they cannot be changed after freezing.
+     */
+    private void freezeFormDecorators() {
+        Map<Decorator, Decorator> frozenDecorators = new IdentityHashMap<>();
+        ListIterator<Object> iterator = renderingParts.listIterator();
+        while (iterator.hasNext()) {
+            Object part = iterator.next();
+            if (part instanceof AbstractDecorator && !((AbstractDecorator) part).isImmutable()) {
+                //A decorator instance started with several ids keeps being shared:
+                Decorator frozenDecorator = frozenDecorators.get(part);
+                if (frozenDecorator == null) {
+                    frozenDecorator = ((AbstractDecorator) part).immutableCopy();
+                    frozenDecorators.put((Decorator) part, frozenDecorator);
+                }
+                iterator.set(frozenDecorator);
+            }
+        }
+
+        for (Map.Entry<String, Decorator> entry : formDecorators.entrySet()) {
+            Decorator frozenDecorator = frozenDecorators.get(entry.getValue());
+            if (frozenDecorator != null) {
+                entry.setValue(frozenDecorator);
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Creates an independent copy of this form with the same structure, configuration and values, without running the form setup again.
+     * This allows to use a configured form as a cheap prototype for each request.
+     * Elements and decorators are copied (see {@link AbstractElement#copy()}), while renderers, validators, filters and element options are shared.
+     * Shared element options are copied only when either element changes them.
+     * </p>
+     *
+     * <p>
+     * Copies of a frozen form are not frozen. Copying a frozen form is safe from multiple threads.
+     * </p>
+     *
+     * @return Copy of this form
+     * @throws IllegalStateException If any element does not extend {@link AbstractElement}
+     */
+    public AbstractForm copy() {
+        AbstractForm copy;
+        try {
+            copy = (AbstractForm) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+
+        copy.properties = new HashMap<>(properties);
+        copy.validators = new ArrayList<>(validators);
+        copy.defaultRenderers = new HashMap<>(defaultRenderers);
+        copy.resolvedDefaultRenderers = new ConcurrentHashMap<>();
+        copy.resolvedDefaultDecorators = new ConcurrentHashMap<>();
+        copy.sharedDefaultDecorators = new IdentityHashMap<>(sharedDefaultDecorators);
+        copy.defaultElementDecorators = new HashMap<>();
+        for (Map.Entry<Class<? extends Element>, List<Decorator>> entry : defaultElementDecorators.entrySet()) {
+            copy.defaultElementDecorators.put(entry.getKey(), entry.getValue() != null ? new ArrayList<>(entry.getValue()) : null);
+        }
+
+        Map<Decorator, Decorator> copiedDecorators = new IdentityHashMap<>();
+        copy.formElements = new HashMap<>();
+        copy.renderingParts = new RenderingParts();
+        for (Object part : renderingParts) {
+            if (part instanceof Element) {
+                if (!(part instanceof AbstractElement)) {
+                    throw new IllegalStateException("Element '" + ((Element) part).getId() + "' does not extend AbstractElement and cannot be copied");
+                }
+                AbstractElement element = ((AbstractElement) part).copy();
+                copy.formElements.put(element.getId(), element);
+                copy.renderingParts.add(element);
+            } else if (part instanceof Decorator) {
+                //Form decorators are always copied, they may be immutable if this form is frozen. Reused instances stay shared in the copy:
+                Decorator decorator = copiedDecorators.get(part);
+                if (decorator == null) {
+                    decorator = part instanceof AbstractDecorator ? ((AbstractDecorator) part).copy() : AbstractElement.copyDecorator((Decorator) part);
+                    copiedDecorators.put((Decorator) part, decorator);
+                }
+                copy.renderingParts.add(decorator);
+            } else {
+                copy.renderingParts.add(part);
+            }
+        }
+
+        copy.formDecorators = new HashMap<>();
+        for (Map.Entry<String, Decorator> entry : formDecorators.entrySet()) {
+            copy.formDecorators.put(entry.getKey(), copiedDecorators.get(entry.getValue()));
+        }
+
+        copy.nameIndex = new HashMap<>();
+        copy.indexedNames = new IdentityHashMap<>();
+        copy.nameIndexErrors = new HashMap<>();
+        for (Object part : copy.renderingParts) {
+            if (part instanceof AbstractElement) {
+                ((AbstractElement) part).addContainingForm(copy);
+                copy.indexElement((Element) part);
+            }
+        }
+
+        copy.renderPlan = null;
+        copy.openDecorators = new Stack<>();
+        copy.openDecorators.addAll(openDecorators);
+        copy.frozen = false;
+        copy.stateElements = null;
+
+        return copy;
+    }
+
+    /**
+     * Indicates if this form is a frozen definition.
+     *
+     * @return True if frozen
+     * @see #freeze()
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Creates a new per-request state for this form definition, freezing the form first if necessary.
+     * The state starts with the current values of the definition elements.
+     *
+     * @return New form state
+     * @see #freeze()
+     */
+    public FormState newState() {
+        freeze();
+        return new FormState(this, stateElements);
+    }
+
+    /**
+     * Makes sure the structure and configuration of this form can still be changed.
+     *
+     * @throws IllegalStateException If the form is frozen
+     */
+    protected void checkNotFrozen() {
+        if (frozen) {
+            throw new IllegalStateException("The form definition is frozen and cannot be changed");
+        }
+    }
+
     @Override
     public String toString() {
         return this.renderHTML();
     }
 
     /**
-     * Creates an index of the form element by their name. Makes sure that the names are not repeated and are valid.
+     * Returns the index of the form elements by their name, in rendering order. Makes sure that the names are not repeated and are valid.
      *
-     * @return Index of elements by name
+     * @return Unmodifiable index of elements by name
+     * @throws IllegalStateException If any name is not valid
      */
     protected Map<String, List<Element>> elementsIndexByName() {
+        Map<String, List<Element>> index = indexByName();
+        Map<String, List<Element>> result = new HashMap<>((int) (index.size() / 0.75f) + 1);
+        for (Map.Entry<String, List<Element>> entry : index.entrySet()) {
+            result.put(entry.getKey(), Collections.unmodifiableList(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Returns the live index of the form elements by name, kept up to date as elements are added, removed or renamed.
+     * It must not be modified by callers.
+     *
+     * @return Index of elements by name
+     * @throws IllegalStateException If any name is not valid
+     */
+    private Map<String, List<Element>> indexByName() {
+        if (untrackedElements > 0) {
+            //Elements not extending AbstractElement do not notify name changes:
+            return buildElementsIndexByName();
+        }
+
+        if (!nameIndexErrors.isEmpty()) {
+            throw new IllegalStateException(nameIndexErrors.values().iterator().next());
+        }
+        return nameIndex;
+    }
+
+    private static String indexableName(Element element) {
+        String name = element.getProperty("name");
+        if (name != null && !name.trim().isEmpty()) {
+            return name;
+        }
+        return null;
+    }
+
+    private void indexElement(Element element) {
+        String name = indexableName(element);
+        if (name == null) {
+            return;
+        }
+
+        List<Element> elements = nameIndex.get(name);
+        if (elements == null) {
+            elements = new ArrayList<>(1);
+            nameIndex.put(name, elements);
+        }
+        elements.add(element);
+        indexedNames.put(element, name);
+        checkIndexedName(name);
+    }
+
+    private void unindexElement(Element element) {
+        String name = indexedNames.remove(element);
+        if (name == null) {
+            return;
+        }
+
+        List<Element> elements = nameIndex.get(name);
+        elements.remove(element);
+        if (elements.isEmpty()) {
+            nameIndex.remove(name);
+        }
+        checkIndexedName(name);
+    }
+
+    /**
+     * Updates the name index after the name or value type of an element of this form changed.
+     *
+     * @param element Changed element
+     */
+    void elementNameChanged(Element element) {
+        unindexElement(element);
+
+        String name = indexableName(element);
+        if (name == null) {
+            return;
+        }
+
+        if (!nameIndex.containsKey(name)) {
+            indexElement(element);
+            return;
+        }
+
+        //Other elements have the same name, keep the rendering order:
+        indexedNames.put(element, name);
+        List<Element> elements = new ArrayList<>();
+        for (Object part : renderingParts) {
+            if (part instanceof Element && name.equals(indexedNames.get(part))) {
+                elements.add((Element) part);
+            }
+        }
+        nameIndex.put(name, elements);
+        checkIndexedName(name);
+    }
+
+    private void elementMoved(Element element) {
+        String name = indexedNames.get(element);
+        if (name != null && nameIndex.get(name).size() > 1) {
+            //Keep the rendering order of elements with the same name:
+            elementNameChanged(element);
+        }
+    }
+
+    private void checkIndexedName(String name) {
+        String error = null;
+
+        List<Element> elements = nameIndex.get(name);
+        if (elements != null) {
+            if (elements.size() > 1) {
+                Class<?> expectedType = elements.get(0).getValueType();
+                for (Element element : elements) {
+                    if (element.isMultiValue()) {
+                        error = "Name '" + name + "' cannot be repeated in the form if any of the elements is multi-valued";
+                        break;
+                    }
+                    if (!Objects.equals(element.getValueType(), expectedType)) {
+                        //This is necessary for calling fillBeanProperties
+                        error = "Multiple elements with same name '" + name + "' should all have the same value type";
+                    }
+                }
+            }
+
+            if (error == null && name.contains("[") && name.contains("]")) {
+                error = "Name '" + name + "' cannot be in array form";
+            }
+        }
+
+        if (error != null) {
+            nameIndexErrors.put(name, error);
+        } else {
+            nameIndexErrors.remove(name);
+        }
+    }
+
+    private Map<String, List<Element>> buildElementsIndexByName() {
         HashMap<String, List<Element>> index = new HashMap<>();
         for (Object part : renderingParts) {//We have to use the rendering order of elements for multiple elements with same name
             if (part instanceof Element) {
@@ -976,13 +1973,25 @@ public abstract class AbstractForm implements Form {
     }
 
     /**
-     * Converts a basic value to the given basic type (numeric and simple types), if possible. If conversion is not possible, an exception will be thrown.
+     * Converts a basic value to the given type with its converter in {@link ConverterRegistry}, if possible. If conversion is not possible, an exception will be thrown.
      *
      * @param value Input value
      * @param type Target type
      * @return Converted value
      */
     protected static Object convertBasicValue(String value, Class<?> type) {
+        return convertBasicValue(null, value, type);
+    }
+
+    /**
+     * Converts a value to a basic type, reusing the value parsed by the element for validation if possible.
+     *
+     * @param element Element that holds the value, or null
+     * @param value Value to convert
+     * @param type Target type
+     * @return Converted value
+     */
+    private static Object convertBasicValue(Element element, String value, Class<?> type) {
         if (type == null) {
             throw new IllegalArgumentException("Type cannot be null");
         }
@@ -995,31 +2004,15 @@ public abstract class AbstractForm implements Form {
             return null;
         }
 
-        try {
-            value = value.trim();
-            if (Byte.class.equals(type)) {
-                return Byte.parseByte(value);
-            } else if (Short.class.equals(type)) {
-                return Short.parseShort(value);
-            } else if (Integer.class.equals(type)) {
-                return Integer.parseInt(value);
-            } else if (Long.class.equals(type)) {
-                return Long.parseLong(value);
-            } else if (BigInteger.class.equals(type)) {
-                return new BigInteger(value);
-            } else if (Float.class.equals(type)) {
-                return Float.parseFloat(value);
-            } else if (Double.class.equals(type)) {
-                return Double.parseDouble(value);
-            } else if (BigDecimal.class.equals(type)) {
-                return new BigDecimal(value);
-            } else if (Boolean.class.equals(type)) {
-                return Boolean.parseBoolean(value);
-            }
-        } catch (Exception e) {
-            throw new UniformException(String.format("Error while converting value %s to data type %s. Make sure the element has correct values and/or validators", value, type.getName()), e);
+        ValueParser<?> converter = ConverterRegistry.forType(type);
+        if (converter == null) {
+            throw new UnsupportedOperationException("Could not convert value to unknown type: " + type.getName());
         }
 
-        throw new UnsupportedOperationException("Could not convert value to unknown type: " + type.getName());
+        try {
+            return ValueParsers.parse(element, value, converter);
+        } catch (IllegalArgumentException e) {
+            throw new UniformException(String.format("Error while converting value %s to data type %s. Make sure the element has correct values and/or validators", value.trim(), type.getName()), e);
+        }
     }
 }
@@ -15,7 +15,11 @@
  */
 package net.uniform.impl;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import net.uniform.api.Element;
+import net.uniform.api.Filter;
 import net.uniform.html.filters.RemoveControlCharacters;
 import net.uniform.html.filters.StringTrim;
 
@@ -32,6 +36,12 @@ import net.uniform.html.filters.StringTrim;
  */
 public abstract class AbstractHTMLElement extends AbstractElement {
 
+    //Stateless default filters, shared by all HTML elements until one of them changes its filters:
+    private static final List<Filter> DEFAULT_FILTERS = Collections.unmodifiableList(Arrays.<Filter>asList(
+            new StringTrim(),
+            new RemoveControlCharacters()
+    ));
+
     public AbstractHTMLElement(String id) {
         super(id);
         this.setProperty("id", id);
@@ -40,8 +50,7 @@ public abstract class AbstractHTMLElement extends AbstractElement {
 
     @Override
     protected void setupDefaultFilters() {
-        this.addFilter(new StringTrim());
-        this.addFilter(new RemoveControlCharacters());
+        this.setSharedFilters(DEFAULT_FILTERS);
     }
 
     /**
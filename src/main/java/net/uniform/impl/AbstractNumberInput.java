@@ -0,0 +1,208 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.impl;
+
+import net.uniform.api.ElementWithValueConversion;
+import net.uniform.api.Renderer;
+import net.uniform.api.ValueParser;
+import net.uniform.exceptions.UniformException;
+import net.uniform.html.renderers.InputRenderer;
+import net.uniform.html.validators.NumberInputValidator;
+
+/**
+ * <p>
+ * Abstract numeric input element that handles its value as a {@code long} number of units: the number itself for integers, or the unscaled value for decimals with a fixed scale.
+ * The value is parsed once and kept by the element, so validation, value conversion and the primitive accessors of subclasses do not parse it again.
+ * </p>
+ *
+ * <p>
+ * It automatically adds a {@link NumberInputValidator} to validate the number and its range.
+ * </p>
+ *
+ * @author Eduardo Ramos
+ * @param <T> Type of the converted value
+ */
+public abstract class AbstractNumberInput<T extends Number> extends AbstractHTMLElement implements ElementWithValueConversion<T> {
+
+    private final Class<T> numberType;
+    private long minUnits;
+    private long maxUnits;
+
+    protected AbstractNumberInput(String id, Class<T> numberType, long minUnits, long maxUnits) {
+        super(id);
+        this.numberType = numberType;
+        this.minUnits = minUnits;
+        this.maxUnits = maxUnits;
+
+        this.setProperty("type", "number");
+        this.addValidator(NumberInputValidator.INSTANCE);
+    }
+
+    /**
+     * Returns the parser of values into units. Equal parsers must parse values into the same units.
+     *
+     * @return Units parser
+     */
+    protected abstract ValueParser<Long> getUnitsParser();
+
+    /**
+     * Converts a number of units into the value type of this element.
+     *
+     * @param units Units
+     * @return Converted value
+     */
+    protected abstract T fromUnits(long units);
+
+    /**
+     * Formats a number of units as an element value.
+     *
+     * @param units Units
+     * @return Value
+     */
+    public abstract String formatUnits(long units);
+
+    /**
+     * Returns the number of decimals of the values of this element.
+     *
+     * @return Scale, 0 for integers
+     */
+    public int getScale() {
+        return 0;
+    }
+
+    @Override
+    public Class<?> getValueType() {
+        return numberType;
+    }
+
+    @Override
+    public void setValueType(Class<?> valueType) {
+        throw new UniformException(getClass().getSimpleName() + " does not support value type change");
+    }
+
+    /**
+     * Parses a value into a number of units, reusing the units kept by the element for the same value.
+     *
+     * @param value Value
+     * @return Units or null if the value is null or empty
+     * @throws IllegalArgumentException If the value is not a valid number for this element
+     */
+    public Long parseUnits(String value) {
+        return getParsedValue(value, getUnitsParser());
+    }
+
+    /**
+     * Indicates if the value of this element is a valid number, without checking its range.
+     *
+     * @return True if the value is not empty and is a valid number
+     */
+    public boolean hasNumber() {
+        try {
+            return parseUnits(getFirstValue()) != null;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the value of this element as a number of units.
+     *
+     * @return Units
+     * @throws UniformException If the value is empty or not a valid number
+     */
+    protected long getUnits() {
+        Long units = getConvertedUnits();
+        if (units == null) {
+            throw new UniformException("Element " + getId() + " has no value");
+        }
+        return units;
+    }
+
+    /**
+     * Sets the value of this element formatting a number of units.
+     *
+     * @param units Units
+     */
+    protected void setUnits(long units) {
+        setValue(formatUnits(units));
+    }
+
+    private Long getConvertedUnits() {
+        String value = getFirstValue();
+        try {
+            return parseUnits(value);
+        } catch (IllegalArgumentException e) {
+            throw new UniformException(String.format("Error while converting value %s of element %s to a number. Make sure the element has correct values and/or validators", value.trim(), getId()), e);
+        }
+    }
+
+    /**
+     * Returns the value of this element converted to its value type.
+     * If the value is not empty and it's not a valid number, an exception will be thrown.
+     *
+     * @return Converted value or null if the value is empty
+     */
+    @Override
+    public T getConvertedValue() {
+        Long units = getConvertedUnits();
+        return units != null ? fromUnits(units) : null;
+    }
+
+    /**
+     * Returns the minimum allowed value, inclusive, as a number of units.
+     *
+     * @return Minimum units
+     */
+    public long getMinUnits() {
+        return minUnits;
+    }
+
+    /**
+     * Sets the minimum allowed value, inclusive, as a number of units. It's also rendered as the {@code min} property.
+     *
+     * @param minUnits Minimum units
+     */
+    protected void setMinUnits(long minUnits) {
+        checkNotFrozen();
+        this.minUnits = minUnits;
+        this.setProperty("min", formatUnits(minUnits));
+    }
+
+    /**
+     * Returns the maximum allowed value, inclusive, as a number of units.
+     *
+     * @return Maximum units
+     */
+    public long getMaxUnits() {
+        return maxUnits;
+    }
+
+    /**
+     * Sets the maximum allowed value, inclusive, as a number of units. It's also rendered as the {@code max} property.
+     *
+     * @param maxUnits Maximum units
+     */
+    protected void setMaxUnits(long maxUnits) {
+        checkNotFrozen();
+        this.maxUnits = maxUnits;
+        this.setProperty("max", formatUnits(maxUnits));
+    }
+
+    @Override
+    public Renderer getDefaultRenderer() {
+        return InputRenderer.INSTANCE;
+    }
+}
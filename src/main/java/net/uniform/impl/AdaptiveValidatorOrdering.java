@@ -0,0 +1,245 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import net.uniform.api.annotations.CommutativeValidator;
+
+/**
+ * <p>
+ * Optional validation mode that records per-validator latency and failure statistics and reorders validators to minimize the expected validation cost.
+ * </p>
+ *
+ * <p>
+ * Only contiguous runs of validators annotated with {@link CommutativeValidator} are reordered, the rest keep their declared position.
+ * Inside a run, validators are sorted by average cost divided by their probability of breaking the chain, once every validator in the run has at least the minimum amount of samples.
+ * </p>
+ *
+ * <p>
+ * Validators sorted behind one that usually breaks the chain are rarely run, so their statistics would get stale.
+ * To avoid it, once every exploration interval the runs are sorted by number of samples instead, running the least sampled validators first.
+ * </p>
+ *
+ * <p>
+ * The execution order only decides which validators run before the chain breaks. Validation errors are always reported in declared order.
+ * </p>
+ *
+ * <p>
+ * Statistics are kept by declared validator index, so an instance should be used for a single element or form definition.
+ * It is thread-safe and meant to be kept and shared across requests (for example in a static field), since forms are usually built for each request.
+ * </p>
+ *
+ * @author Eduardo Ramos
+ * @see AbstractElement#setValidatorOrdering(AdaptiveValidatorOrdering)
+ * @see AbstractForm#setValidatorOrdering(AdaptiveValidatorOrdering)
+ */
+public class AdaptiveValidatorOrdering {
+
+    public static final int DEFAULT_MINIMUM_SAMPLES = 100;
+    public static final int DEFAULT_EXPLORATION_INTERVAL = 100;
+
+    private static final ClassValue<Boolean> COMMUTATIVE = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return type.isAnnotationPresent(CommutativeValidator.class);
+        }
+    };
+
+    private final int minimumSamples;
+    private final int explorationInterval;
+    private final ConcurrentMap<Integer, ValidatorStatistics> statistics = new ConcurrentHashMap<>();
+    private final AtomicLong executions = new AtomicLong();
+
+    public AdaptiveValidatorOrdering() {
+        this(DEFAULT_MINIMUM_SAMPLES);
+    }
+
+    public AdaptiveValidatorOrdering(int minimumSamples) {
+        this(minimumSamples, DEFAULT_EXPLORATION_INTERVAL);
+    }
+
+    /**
+     * Creates an ordering with the given amount of samples and exploration interval.
+     *
+     * @param minimumSamples Samples needed for every validator of a run before reordering it
+     * @param explorationInterval Number of executions between exploration orders, or 0 to never explore
+     */
+    public AdaptiveValidatorOrdering(int minimumSamples, int explorationInterval) {
+        if (minimumSamples < 1) {
+            throw new IllegalArgumentException("minimumSamples must be at least 1");
+        }
+        if (explorationInterval < 0) {
+            throw new IllegalArgumentException("explorationInterval cannot be negative");
+        }
+        this.minimumSamples = minimumSamples;
+        this.explorationInterval = explorationInterval;
+    }
+
+    /**
+     * Returns the order in which the given validators should be executed.
+     *
+     * @param validators Validators in declared order
+     * @return Indexes of the validators in execution order
+     */
+    public int[] getExecutionOrder(List<?> validators) {
+        int size = validators.size();
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+
+        boolean explore = explorationInterval > 0 && executions.incrementAndGet() % explorationInterval == 0;
+
+        int runStart = 0;
+        while (runStart < size) {
+            if (!isCommutative(validators.get(runStart))) {
+                runStart++;
+                continue;
+            }
+
+            int runEnd = runStart + 1;
+            while (runEnd < size && isCommutative(validators.get(runEnd))) {
+                runEnd++;
+            }
+
+            if (runEnd - runStart > 1) {
+                sortRun(validators, order, runStart, runEnd, explore);
+            }
+            runStart = runEnd;
+        }
+
+        return order;
+    }
+
+    private void sortRun(List<?> validators, int[] order, int start, int end, boolean explore) {
+        double[] keys = new double[end - start];
+        for (int i = start; i < end; i++) {
+            ValidatorStatistics stats = statistics.get(i);
+            boolean valid = stats != null && stats.getValidatorClass() == validators.get(i).getClass();
+            if (explore) {
+                keys[i - start] = valid ? stats.getInvocations() : 0;//Least sampled first
+            } else if (!valid || stats.getInvocations() < minimumSamples) {
+                return;//Not enough information yet, keep declared order
+            } else {
+                keys[i - start] = stats.getCostPerChainBreak();
+            }
+        }
+
+        //Stable insertion sort, runs are tiny:
+        for (int i = start + 1; i < end; i++) {
+            int current = order[i];
+            double currentKey = keys[i - start];
+            int j = i - 1;
+            while (j >= start && keys[j - start] > currentKey) {
+                order[j + 1] = order[j];
+                keys[j + 1 - start] = keys[j - start];
+                j--;
+            }
+            order[j + 1] = current;
+            keys[j + 1 - start] = currentKey;
+        }
+    }
+
+    /**
+     * Records one validator call.
+     *
+     * @param index Declared index of the validator
+     * @param validator Validator
+     * @param elapsedNanos Time spent by the validator
+     * @param failed True if the validator returned any error
+     * @param breakChainOnError Whether the validator breaks the chain on error
+     */
+    public void record(int index, Object validator, long elapsedNanos, boolean failed, boolean breakChainOnError) {
+        Class<?> validatorClass = validator.getClass();
+
+        ValidatorStatistics stats = statistics.get(index);
+        while (stats == null || stats.getValidatorClass() != validatorClass) {
+            //The validators changed, start over for this index:
+            ValidatorStatistics newStats = new ValidatorStatistics(index, validatorClass);
+            if (stats == null) {
+                stats = statistics.putIfAbsent(index, newStats);
+                if (stats == null) {
+                    stats = newStats;
+                }
+            } else if (statistics.replace(index, stats, newStats)) {
+                stats = newStats;
+            } else {
+                stats = statistics.get(index);
+            }
+        }
+
+        stats.record(elapsedNanos, failed, breakChainOnError);
+    }
+
+    /**
+     * Returns the statistics of the validator at the given declared index.
+     *
+     * @param index Declared index of the validator
+     * @return Statistics or null if none recorded yet
+     */
+    public ValidatorStatistics getStatistics(int index) {
+        return statistics.get(index);
+    }
+
+    /**
+     * Returns the statistics of all validators, ordered by declared index.
+     *
+     * @return List of statistics
+     */
+    public List<ValidatorStatistics> getStatistics() {
+        List<ValidatorStatistics> result = new ArrayList<>();
+        int max = -1;
+        for (Integer index : statistics.keySet()) {
+            max = Math.max(max, index);
+        }
+        for (int i = 0; i <= max; i++) {
+            ValidatorStatistics stats = statistics.get(i);
+            if (stats != null) {
+                result.add(stats);
+            }
+        }
+        return result;
+    }
+
+    public int getMinimumSamples() {
+        return minimumSamples;
+    }
+
+    public int getExplorationInterval() {
+        return explorationInterval;
+    }
+
+    /**
+     * Discards all recorded statistics.
+     */
+    public void reset() {
+        statistics.clear();
+    }
+
+    /**
+     * Indicates if a validator is annotated with {@link CommutativeValidator}.
+     *
+     * @param validator Validator
+     * @return True if commutative
+     */
+    public static boolean isCommutative(Object validator) {
+        return validator != null && COMMUTATIVE.get(validator.getClass());
+    }
+}
@@ -16,6 +16,8 @@
 package net.uniform.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -23,6 +25,7 @@ import java.util.Map;
 import java.util.Set;
 import net.uniform.api.html.Option;
 import net.uniform.api.html.OptionGroup;
+import net.uniform.impl.utils.ConverterRegistry;
 
 /**
  * Abstract element implementation that contains all generic logic that any element with options should have.
@@ -31,12 +34,44 @@ import net.uniform.api.html.OptionGroup;
  */
 public abstract class ElementWithOptions extends AbstractHTMLElement {
 
-    protected final Map<String, OptionGroup> optionGroups = new LinkedHashMap<>();//Keep order
+    protected Map<String, OptionGroup> optionGroups = new LinkedHashMap<>();//Keep order
+
+    //Option groups shared with copies of this element until one of them changes its options:
+    private boolean optionGroupsShared = false;
 
     public ElementWithOptions(String id) {
         super(id);
     }
 
+    private void copyOptionGroupsIfShared() {
+        if (optionGroupsShared) {
+            Map<String, OptionGroup> copiedGroups = new LinkedHashMap<>();
+            for (OptionGroup group : optionGroups.values()) {
+                OptionGroup copiedGroup = new OptionGroup(group.getId(), group.getText(), group.isEnabled());
+                for (Option option : group.getOptions()) {
+                    copiedGroup.addOption(option);
+                }
+                copiedGroups.put(group.getId(), copiedGroup);
+            }
+
+            optionGroups = copiedGroups;
+            optionGroupsShared = false;
+        }
+    }
+
+    /**
+     * Returns a copy of this element that shares its option groups until any of both elements changes its options.
+     *
+     * @return Copy of this element
+     */
+    @Override
+    public ElementWithOptions copy() {
+        ElementWithOptions copy = (ElementWithOptions) super.copy();
+        optionGroupsShared = true;
+        copy.optionGroupsShared = true;
+        return copy;
+    }
+
     /**
      * Adds an option group to this element.
      *
@@ -44,6 +79,8 @@ public abstract class ElementWithOptions extends AbstractHTMLElement {
      * @return This element
      */
     public ElementWithOptions addOptionGroup(OptionGroup optionGroup) {
+        checkNotFrozen();
+        copyOptionGroupsIfShared();
         if (optionGroup == null) {
             throw new IllegalArgumentException("Group cannot be null");
         }
@@ -104,6 +141,8 @@ public abstract class ElementWithOptions extends AbstractHTMLElement {
      * @return This element
      */
     public ElementWithOptions addOptionToGroup(Option option, String groupId) {
+        checkNotFrozen();
+        copyOptionGroupsIfShared();
         if (option == null) {
             throw new IllegalArgumentException("Option cannot be null");
         }
@@ -157,7 +196,7 @@ public abstract class ElementWithOptions extends AbstractHTMLElement {
     public ElementWithOptions addOptionToGroup(Object value, String text, String groupId) {
         String valueString = "";
         if (value != null) {
-            valueString = value.toString();
+            valueString = ConverterRegistry.format(value);
         }
 
         return addOptionToGroup(valueString, text, groupId);
@@ -170,6 +209,8 @@ public abstract class ElementWithOptions extends AbstractHTMLElement {
      * @return This element
      */
     public ElementWithOptions removeOption(String value) {
+        checkNotFrozen();
+        copyOptionGroupsIfShared();
         for (OptionGroup group : optionGroups.values()) {
             group.removeOption(value);
         }
@@ -183,6 +224,8 @@ public abstract class ElementWithOptions extends AbstractHTMLElement {
      * @return This element
      */
     public ElementWithOptions removeOption(Option option) {
+        checkNotFrozen();
+        copyOptionGroupsIfShared();
         if (option == null) {
             throw new IllegalArgumentException("Option cannot be null");
         }
@@ -264,12 +307,23 @@ public abstract class ElementWithOptions extends AbstractHTMLElement {
         return new ArrayList<>(optionGroups.values());
     }
 
+    /**
+     * Returns an unmodifiable view of the option groups of this element, in order, without copying them.
+     *
+     * @return Unmodifiable option groups view
+     */
+    public Collection<OptionGroup> getOptionGroupsView() {
+        return Collections.unmodifiableCollection(optionGroups.values());
+    }
+
     /**
      * Removes all options and option groups of this element.
      *
      * @return This element
      */
     public ElementWithOptions clearOptions() {
+        checkNotFrozen();
+        copyOptionGroupsIfShared();
         optionGroups.clear();
         return this;
     }
@@ -281,6 +335,8 @@ public abstract class ElementWithOptions extends AbstractHTMLElement {
      * @return This element
      */
     public ElementWithOptions setOptions(LinkedHashMap<String, String> options) {
+        checkNotFrozen();
+        copyOptionGroupsIfShared();
         this.optionGroups.clear();
         for (Map.Entry<String, String> entry : options.entrySet()) {
             this.addOption(entry.getKey(), entry.getValue());
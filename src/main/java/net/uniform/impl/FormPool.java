@@ -0,0 +1,194 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.impl;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.uniform.api.Element;
+
+/**
+ * <p>
+ * Bounded pool of ready to use copies of a form, for endpoints that would otherwise build the same form for every request.
+ * Forms are created with {@link AbstractForm#copy()} from a private frozen prototype, so the form setup never runs again.
+ * Released forms are restored to the initial values of the prototype and kept for the next request, up to the maximum idle size.
+ * </p>
+ *
+ * <p>
+ * Borrowed forms should only have their values and validation changed, since structure and configuration changes are not undone when they are released.
+ * Forms that are never released are detected when they are garbage collected, see {@link #getLeakedCount()}.
+ * </p>
+ *
+ * <p>
+ * This class is thread-safe, but each borrowed form should only be used by one thread at a time.
+ * </p>
+ *
+ * @author Eduardo Ramos
+ * @param <F> Form type
+ */
+public final class FormPool<F extends AbstractForm> {
+
+    private final AbstractForm prototype;
+    private final String[] elementIds;
+    private final List<String>[] initialValues;
+    private final BlockingQueue<F> idle;
+
+    //Borrowed forms, weakly referenced so forms never released can be collected and counted as leaks:
+    private final Map<AbstractForm, Lease> leases = Collections.synchronizedMap(new WeakHashMap<AbstractForm, Lease>());
+    private final ReferenceQueue<AbstractForm> leakedForms = new ReferenceQueue<>();
+    private final AtomicInteger leakedCount = new AtomicInteger();
+
+    /**
+     * Creates a pool of copies of the given form. The form is copied, so later changes to it do not affect the pool.
+     * Initial values of the pooled forms are the current values of the given form.
+     *
+     * @param form Configured form
+     * @param maxIdle Maximum number of released forms kept for reuse
+     * @throws IllegalStateException If the form has decorators not closed or any element does not extend {@link AbstractElement}
+     */
+    public FormPool(F form, int maxIdle) {
+        if (form == null) {
+            throw new IllegalArgumentException("Form cannot be null");
+        }
+        if (maxIdle < 1) {
+            throw new IllegalArgumentException("Maximum idle forms must be at least 1");
+        }
+
+        this.prototype = form.copy();
+
+        Map<String, Element> elements = prototype.getElements();
+        this.elementIds = new String[elements.size()];
+        this.initialValues = new List[elements.size()];
+        int i = 0;
+        for (Map.Entry<String, Element> entry : elements.entrySet()) {
+            elementIds[i] = entry.getKey();
+            initialValues[i] = entry.getValue().getValue();
+            i++;
+        }
+
+        //Frozen so it can be copied from any thread:
+        this.prototype.freeze();
+        this.idle = new ArrayBlockingQueue<>(maxIdle);
+    }
+
+    /**
+     * Returns an idle form of this pool, or a new copy of the prototype if there is none.
+     * The form must be given back with {@link #release(net.uniform.impl.AbstractForm)} when the request ends.
+     *
+     * @return Form with the initial values
+     */
+    public F borrow() {
+        expungeLeaks();
+
+        F form = idle.poll();
+        if (form == null) {
+            form = (F) prototype.copy();
+        }
+
+        leases.put(form, new Lease(form, leakedForms));
+        return form;
+    }
+
+    /**
+     * Gives back a borrowed form, restoring its initial values and clearing its validation.
+     * The form is discarded if the pool already has the maximum number of idle forms.
+     *
+     * @param form Borrowed form, it must not be used after this
+     * @throws IllegalArgumentException If the form was not borrowed from this pool or was already released
+     */
+    public void release(F form) {
+        if (form == null) {
+            throw new IllegalArgumentException("Form cannot be null");
+        }
+
+        Lease lease = leases.remove(form);
+        if (lease == null) {
+            throw new IllegalArgumentException("The form was not borrowed from this pool or was already released");
+        }
+        lease.clear();//Not a leak
+
+        if (restore(form)) {
+            idle.offer(form);
+        }
+    }
+
+    /**
+     * Restores the initial values of a released form.
+     *
+     * @return False if the form elements changed and it cannot be reused
+     */
+    private boolean restore(AbstractForm form) {
+        for (int i = 0; i < elementIds.length; i++) {
+            Element element = form.getElement(elementIds[i]);
+            if (!(element instanceof AbstractElement)) {
+                return false;
+            }
+            element.reset();//Clears validation and any other state of the element
+            ((AbstractElement) element).restoreInitialValue(initialValues[i]);
+        }
+        form.clearValidation();
+
+        return true;
+    }
+
+    private void expungeLeaks() {
+        while (leakedForms.poll() != null) {
+            leakedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the number of borrowed forms that were garbage collected without being released.
+     * Leaks are only detected after the garbage collector runs.
+     *
+     * @return Leaked forms count
+     */
+    public int getLeakedCount() {
+        expungeLeaks();
+        return leakedCount.get();
+    }
+
+    /**
+     * Returns the number of forms currently borrowed and not released nor leaked.
+     *
+     * @return Borrowed forms count
+     */
+    public int getBorrowedCount() {
+        return leases.size();
+    }
+
+    /**
+     * Returns the number of released forms ready for reuse.
+     *
+     * @return Idle forms count
+     */
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    private static final class Lease extends WeakReference<AbstractForm> {
+
+        private Lease(AbstractForm form, ReferenceQueue<AbstractForm> queue) {
+            super(form, queue);
+        }
+    }
+}
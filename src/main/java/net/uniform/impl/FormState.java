@@ -0,0 +1,309 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.impl;
+
+import java.util.List;
+import java.util.Map;
+import net.uniform.api.FieldValidationResult;
+import net.uniform.api.html.SimpleHTMLTag;
+
+/**
+ * <p>
+ * Per-request state of a frozen form definition: element values and validation results.
+ * States are created with {@link AbstractForm#newState()} and only hold a few small arrays indexed by element.
+ * </p>
+ *
+ * <p>
+ * Every method of the state binds it to the current thread while delegating to the shared form definition,
+ * so elements, validators, renderers and decorators transparently read and write this state instead of the definition.
+ * </p>
+ *
+ * <p>
+ * The form definition can be used by any number of threads at the same time, but each state should only be used by one thread at a time.
+ * </p>
+ *
+ * @author Eduardo Ramos
+ */
+public final class FormState {
+
+    private static final ThreadLocal<FormState> CURRENT = new ThreadLocal<>();
+
+    private final AbstractForm form;
+
+    final List<String>[] values;
+    final boolean[] validationPerformed;
+    final Object[] parsedValues;
+    boolean formValidationPerformed = false;
+
+    FormState(AbstractForm form, AbstractElement[] elements) {
+        this.form = form;
+        this.values = new List[elements.length];
+        this.validationPerformed = new boolean[elements.length];
+        this.parsedValues = new Object[elements.length * 2];
+
+        //Start from the values of the definition, for example hidden elements values:
+        for (int i = 0; i < elements.length; i++) {
+            values[i] = elements[i].value;
+        }
+    }
+
+    /**
+     * Returns the state bound to the current thread for the given form, if any.
+     *
+     * @param form Form definition
+     * @return Bound state or null
+     */
+    static FormState current(AbstractForm form) {
+        FormState state = CURRENT.get();
+        if (state != null && state.form == form) {
+            return state;
+        }
+        return null;
+    }
+
+    private FormState bind() {
+        FormState previous = CURRENT.get();
+        CURRENT.set(this);
+        return previous;
+    }
+
+    private static void unbind(FormState previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Returns the shared form definition of this state.
+     *
+     * @return Form definition
+     */
+    public AbstractForm getForm() {
+        return form;
+    }
+
+    public FormState populate(Map<String, List<String>> formData) {
+        return populate(formData, false);
+    }
+
+    public FormState populate(Map<String, List<String>> formData, boolean keepOtherValues) {
+        FormState previous = bind();
+        try {
+            form.populate(formData, keepOtherValues);
+        } finally {
+            unbind(previous);
+        }
+        return this;
+    }
+
+    public FormState populateSimple(Map<String, ?> formData) {
+        return populateSimple(formData, false);
+    }
+
+    public FormState populateSimple(Map<String, ?> formData, boolean keepOtherValues) {
+        FormState previous = bind();
+        try {
+            form.populateSimple(formData, keepOtherValues);
+        } finally {
+            unbind(previous);
+        }
+        return this;
+    }
+
+    public FormState populateBean(Object bean) {
+        return populateBean(bean, false);
+    }
+
+    public FormState populateBean(Object bean, boolean keepOtherValues) {
+        FormState previous = bind();
+        try {
+            form.populateBean(bean, keepOtherValues);
+        } finally {
+            unbind(previous);
+        }
+        return this;
+    }
+
+    public FormState setElementValue(String elementId, List<String> value) {
+        FormState previous = bind();
+        try {
+            form.setElementValue(elementId, value);
+        } finally {
+            unbind(previous);
+        }
+        return this;
+    }
+
+    public FormState setElementValue(String elementId, String value) {
+        FormState previous = bind();
+        try {
+            form.setElementValue(elementId, value);
+        } finally {
+            unbind(previous);
+        }
+        return this;
+    }
+
+    public FormState setElementValue(String elementId, Object value) {
+        FormState previous = bind();
+        try {
+            form.setElementValue(elementId, value);
+        } finally {
+            unbind(previous);
+        }
+        return this;
+    }
+
+    public Object getElementValue(String elementId) {
+        FormState previous = bind();
+        try {
+            return form.getElementValue(elementId);
+        } finally {
+            unbind(previous);
+        }
+    }
+
+    public List<String> getElementMultivalue(String elementId) {
+        FormState previous = bind();
+        try {
+            return form.getElementMultivalue(elementId);
+        } finally {
+            unbind(previous);
+        }
+    }
+
+    public Object getElementValueConvertedToValueType(String elementId) {
+        FormState previous = bind();
+        try {
+            return form.getElementValueConvertedToValueType(elementId);
+        } finally {
+            unbind(previous);
+        }
+    }
+
+    public Map<String, Object> getFormData() {
+        FormState previous = bind();
+        try {
+            return form.getFormData();
+        } finally {
+            unbind(previous);
+        }
+    }
+
+    public Map<String, List<String>> getFormDataMultivalue() {
+        FormState previous = bind();
+        try {
+            return form.getFormDataMultivalue();
+        } finally {
+            unbind(previous);
+        }
+    }
+
+    public Map<String, Object> getFormDataConvertedToElementValueTypes() {
+        FormState previous = bind();
+        try {
+            return form.getFormDataConvertedToElementValueTypes();
+        } finally {
+            unbind(previous);
+        }
+    }
+
+    public FormState getFormDataIntoBean(Object bean) {
+        FormState previous = bind();
+        try {
+            form.getFormDataIntoBean(bean);
+        } finally {
+            unbind(previous);
+        }
+        return this;
+    }
+
+    public boolean isValid() {
+        FormState previous = bind();
+        try {
+            return form.isValid();
+        } finally {
+            unbind(previous);
+        }
+    }
+
+    public Map<String, List<String>> getValidationErrors() {
+        FormState previous = bind();
+        try {
+            return form.getValidationErrors();
+        } finally {
+            unbind(previous);
+        }
+    }
+
+    public FieldValidationResult validateField(String elementId, List<String> values) {
+        FormState previous = bind();
+        try {
+            return form.validateField(elementId, values);
+        } finally {
+            unbind(previous);
+        }
+    }
+
+    public boolean validationPerformed() {
+        return formValidationPerformed;
+    }
+
+    public FormState clearValidation() {
+        FormState previous = bind();
+        try {
+            form.clearValidation();
+        } finally {
+            unbind(previous);
+        }
+        return this;
+    }
+
+    public FormState reset() {
+        FormState previous = bind();
+        try {
+            form.reset();
+        } finally {
+            unbind(previous);
+        }
+        return this;
+    }
+
+    public List<SimpleHTMLTag> render() {
+        FormState previous = bind();
+        try {
+            return form.render();
+        } finally {
+            unbind(previous);
+        }
+    }
+
+    public String renderHTML() {
+        FormState previous = bind();
+        try {
+            return form.renderHTML();
+        } finally {
+            unbind(previous);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return renderHTML();
+    }
+}
@@ -45,6 +45,7 @@ public abstract class MultioptionInputElement extends ElementWithOptions {
     }
 
     public final void setEscapeOptionLabels(boolean escape) {
+        checkNotFrozen();
         this.escapeOptionLabels = escape;
     }
 
@@ -53,6 +54,7 @@ public abstract class MultioptionInputElement extends ElementWithOptions {
     }
 
     public final void setPrependOptionLabels(boolean prepend) {
+        checkNotFrozen();
         this.prependOptionLabels = prepend;
     }
 
@@ -61,6 +63,7 @@ public abstract class MultioptionInputElement extends ElementWithOptions {
     }
 
     public final void setSeparator(String separator) {
+        checkNotFrozen();
         this.separator = separator;
     }
 
@@ -0,0 +1,380 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.impl;
+
+import java.util.AbstractSequentialList;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Rendering order of the parts of a form (elements, decorators and decorator end markers).
+ * It is a linked list that keeps a handle to the node of each part, so parts can be found, removed and moved in constant time.
+ * Elements and decorators are compared by identity and end marker strings by value.
+ * A part can be present more than once (for example a decorator instance started with several ids), finding such parts is linear like in any list.
+ *
+ * @author Eduardo Ramos
+ */
+final class RenderingParts extends AbstractSequentialList<Object> {
+
+    private final Node head = new Node(null);
+    private final Map<Object, Node> nodes = new IdentityHashMap<>();
+    private final Map<String, Node> markers = new HashMap<>();
+
+    //Extra occurrences of the parts present more than once:
+    private final Map<Object, Integer> nodeDuplicates = new IdentityHashMap<>();
+    private final Map<String, Integer> markerDuplicates = new HashMap<>();
+    private int size = 0;
+
+    RenderingParts() {
+        head.previous = head;
+        head.next = head;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of structural changes of this list, so derived structures can detect when they are outdated.
+     *
+     * @return Modification count
+     */
+    int getModificationCount() {
+        return modCount;
+    }
+
+    @Override
+    public boolean contains(Object part) {
+        return node(part) != null;
+    }
+
+    @Override
+    public boolean add(Object part) {
+        linkBefore(part, head);
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object part) {
+        Node node = node(part);
+        if (node == null) {
+            return false;
+        }
+
+        unlink(node);
+        return true;
+    }
+
+    /**
+     * Moves a part just before another one.
+     *
+     * @param part Part to move
+     * @param anchor Part that will follow the moved part
+     * @throws IllegalArgumentException If any of the parts is not present
+     */
+    void moveBefore(Object part, Object anchor) {
+        Node anchorNode = existingNode(anchor);
+        Node node = existingNode(part);
+        if (node == anchorNode) {
+            return;
+        }
+
+        unlink(node);
+        linkBefore(part, anchorNode);
+    }
+
+    /**
+     * Moves a part just after another one.
+     *
+     * @param part Part to move
+     * @param anchor Part that will precede the moved part
+     * @throws IllegalArgumentException If any of the parts is not present
+     */
+    void moveAfter(Object part, Object anchor) {
+        Node anchorNode = existingNode(anchor);
+        Node node = existingNode(part);
+        if (node == anchorNode) {
+            return;
+        }
+
+        unlink(node);
+        linkBefore(part, anchorNode.next);
+    }
+
+    @Override
+    public void clear() {
+        head.previous = head;
+        head.next = head;
+        nodes.clear();
+        markers.clear();
+        nodeDuplicates.clear();
+        markerDuplicates.clear();
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public ListIterator<Object> listIterator(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        Node next = head.next;
+        for (int i = 0; i < index; i++) {
+            next = next.next;
+        }
+        return new PartsIterator(next, index);
+    }
+
+    private Node node(Object part) {
+        Node node = registeredNode(part);
+        if (node != null && duplicatesOf(part) > 0) {
+            //Find the first occurrence, like any list:
+            for (Node current = head.next; current != head; current = current.next) {
+                if (sameParts(current.part, part)) {
+                    return current;
+                }
+            }
+        }
+        return node;
+    }
+
+    private Node registeredNode(Object part) {
+        if (part instanceof String) {
+            return markers.get(part);
+        }
+        return nodes.get(part);
+    }
+
+    private static boolean sameParts(Object part, Object other) {
+        return part instanceof String ? part.equals(other) : part == other;
+    }
+
+    private Node existingNode(Object part) {
+        Node node = node(part);
+        if (node == null) {
+            throw new IllegalArgumentException("Rendering part not found: " + part);
+        }
+        return node;
+    }
+
+    private Node linkBefore(Object part, Node successor) {
+        if (part == null) {
+            throw new IllegalArgumentException("Unexpected null rendering object");
+        }
+        Node node = new Node(part);
+        node.previous = successor.previous;
+        node.next = successor;
+        successor.previous.next = node;
+        successor.previous = node;
+        register(node);
+
+        size++;
+        modCount++;
+        return node;
+    }
+
+    private void unlink(Node node) {
+        node.previous.next = node.next;
+        node.next.previous = node.previous;
+        unregister(node);
+
+        size--;
+        modCount++;
+    }
+
+    private void register(Node node) {
+        if (registeredNode(node.part) != null) {
+            setDuplicates(node.part, duplicatesOf(node.part) + 1);
+        } else {
+            putNode(node);
+        }
+    }
+
+    private void unregister(Node node) {
+        int duplicates = duplicatesOf(node.part);
+        if (duplicates == 0) {
+            if (node.part instanceof String) {
+                markers.remove((String) node.part);
+            } else {
+                nodes.remove(node.part);
+            }
+            return;
+        }
+
+        setDuplicates(node.part, duplicates - 1);
+        if (registeredNode(node.part) == node) {
+            //Keep a handle to another occurrence:
+            for (Node current = head.next; current != head; current = current.next) {
+                if (current != node && sameParts(current.part, node.part)) {
+                    putNode(current);
+                    break;
+                }
+            }
+        }
+    }
+
+    private void putNode(Node node) {
+        if (node.part instanceof String) {
+            markers.put((String) node.part, node);
+        } else {
+            nodes.put(node.part, node);
+        }
+    }
+
+    private int duplicatesOf(Object part) {
+        Integer duplicates = part instanceof String ? markerDuplicates.get(part) : nodeDuplicates.get(part);
+        return duplicates != null ? duplicates : 0;
+    }
+
+    private void setDuplicates(Object part, int duplicates) {
+        if (part instanceof String) {
+            if (duplicates == 0) {
+                markerDuplicates.remove(part);
+            } else {
+                markerDuplicates.put((String) part, duplicates);
+            }
+        } else if (duplicates == 0) {
+            nodeDuplicates.remove(part);
+        } else {
+            nodeDuplicates.put(part, duplicates);
+        }
+    }
+
+    private static final class Node {
+
+        private Object part;
+        private Node previous;
+        private Node next;
+
+        private Node(Object part) {
+            this.part = part;
+        }
+    }
+
+    private final class PartsIterator implements ListIterator<Object> {
+
+        private Node next;
+        private Node lastReturned;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        private PartsIterator(Node next, int nextIndex) {
+            this.next = next;
+            this.nextIndex = nextIndex;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != head;
+        }
+
+        @Override
+        public Object next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = next;
+            next = next.next;
+            nextIndex++;
+            return lastReturned.part;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return next.previous != head;
+        }
+
+        @Override
+        public Object previous() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            next = next.previous;
+            lastReturned = next;
+            nextIndex--;
+            return lastReturned.part;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+
+            if (next == lastReturned) {
+                next = lastReturned.next;
+            } else {
+                nextIndex--;
+            }
+            unlink(lastReturned);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(Object part) {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            if (part == null) {
+                throw new IllegalArgumentException("Unexpected null rendering object");
+            }
+            checkForComodification();
+
+            if (!sameParts(lastReturned.part, part)) {
+                unregister(lastReturned);
+                lastReturned.part = part;
+                register(lastReturned);
+                modCount++;
+                expectedModCount = modCount;
+            }
+        }
+
+        @Override
+        public void add(Object part) {
+            checkForComodification();
+            linkBefore(part, next);
+            nextIndex++;
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+    }
+}
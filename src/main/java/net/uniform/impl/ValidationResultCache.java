@@ -0,0 +1,244 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import net.uniform.api.Element;
+import net.uniform.api.PureValidator;
+import net.uniform.api.TranslationEngine;
+import net.uniform.api.TranslationEngineContext;
+
+/**
+ * <p>
+ * Bounded, thread-safe cache of {@link PureValidator} results, meant to be shared across requests.
+ * </p>
+ *
+ * <p>
+ * Results are keyed on the validator cache key, the value and the current translation engine and locale, since errors are translated messages.
+ * When the cache is full the oldest entries are evicted first.
+ * Values longer than the maximum value length are never cached.
+ * </p>
+ *
+ * @author Eduardo Ramos
+ * @see net.uniform.api.ValidationResultCacheContext
+ */
+public class ValidationResultCache {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 10000;
+    public static final int DEFAULT_MAXIMUM_VALUE_LENGTH = 256;
+
+    private final int maximumSize;
+    private final int maximumValueLength;
+    private final ConcurrentHashMap<CacheKey, List<String>> results = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<CacheKey> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public ValidationResultCache() {
+        this(DEFAULT_MAXIMUM_SIZE, DEFAULT_MAXIMUM_VALUE_LENGTH);
+    }
+
+    public ValidationResultCache(int maximumSize) {
+        this(maximumSize, DEFAULT_MAXIMUM_VALUE_LENGTH);
+    }
+
+    public ValidationResultCache(int maximumSize, int maximumValueLength) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be at least 1");
+        }
+        if (maximumValueLength < 0) {
+            throw new IllegalArgumentException("maximumValueLength cannot be negative");
+        }
+        this.maximumSize = maximumSize;
+        this.maximumValueLength = maximumValueLength;
+    }
+
+    /**
+     * Returns the validation errors of the validator for the given value, from the cache if possible.
+     *
+     * @param <T> Element type
+     * @param validator Pure validator
+     * @param element Element being validated
+     * @param value Value to validate
+     * @return List of errors (may be empty) or null
+     */
+    public <T extends Element> List<String> getValidationErrors(PureValidator<T> validator, T element, List<String> value) {
+        if (!isCacheable(value)) {
+            misses.incrementAndGet();
+            return validator.getValidationErrors(element, value);
+        }
+
+        TranslationEngine engine = TranslationEngineContext.getTranslationEngine();
+        CacheKey key = new CacheKey(validator.getCacheKey(), value, engine, engine != null ? engine.getLocale() : null);
+
+        List<String> cached = results.get(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+
+        misses.incrementAndGet();
+        List<String> errors = validator.getValidationErrors(element, value);
+        cached = errors == null || errors.isEmpty() ? Collections.<String>emptyList() : Collections.unmodifiableList(new ArrayList<>(errors));
+
+        CacheKey storedKey = key.immutableCopy();
+        if (results.putIfAbsent(storedKey, cached) == null) {
+            insertionOrder.add(storedKey);
+            if (size.incrementAndGet() > maximumSize) {
+                evictOldest();
+            }
+        }
+
+        return cached;
+    }
+
+    private boolean isCacheable(List<String> value) {
+        if (value == null) {
+            return true;
+        }
+
+        int length = 0;
+        for (String current : value) {
+            length += current != null ? current.length() : 0;
+            if (length > maximumValueLength) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private void evictOldest() {
+        while (size.get() > maximumSize) {
+            CacheKey oldest = insertionOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            if (results.remove(oldest) != null) {
+                size.decrementAndGet();
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    public double getHitRate() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public int getMaximumValueLength() {
+        return maximumValueLength;
+    }
+
+    /**
+     * Removes all cached results. Metrics are kept.
+     */
+    public void clear() {
+        CacheKey key;
+        while ((key = insertionOrder.poll()) != null) {
+            if (results.remove(key) != null) {
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationResultCache[size=" + size() + ", hits=" + getHits() + ", misses=" + getMisses() + ", evictions=" + getEvictions() + "]";
+    }
+
+    private static final class CacheKey {
+
+        private final Object validatorKey;
+        private final List<String> value;
+        private final TranslationEngine engine;
+        private final Locale locale;
+        private final int hash;
+
+        private CacheKey(Object validatorKey, List<String> value, TranslationEngine engine, Locale locale) {
+            if (validatorKey == null) {
+                throw new IllegalStateException("Pure validators must return a cache key");
+            }
+            this.validatorKey = validatorKey;
+            this.value = value;
+            this.engine = engine;
+            this.locale = locale;
+
+            int h = validatorKey.hashCode();
+            h = 31 * h + (value != null ? value.hashCode() : 0);
+            h = 31 * h + System.identityHashCode(engine);
+            h = 31 * h + (locale != null ? locale.hashCode() : 0);
+            this.hash = h;
+        }
+
+        private CacheKey immutableCopy() {
+            List<String> valueCopy = value != null ? Collections.unmodifiableList(new ArrayList<>(value)) : null;
+            return new CacheKey(validatorKey, valueCopy, engine, locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) obj;
+            return hash == other.hash
+                    && engine == other.engine
+                    && validatorKey.equals(other.validatorKey)
+                    && (value == null ? other.value == null : value.equals(other.value))
+                    && (locale == null ? other.locale == null : locale.equals(other.locale));
+        }
+    }
+}
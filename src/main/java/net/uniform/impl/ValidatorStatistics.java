@@ -0,0 +1,119 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.impl;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe latency and failure statistics of a validator, recorded by {@link AdaptiveValidatorOrdering}.
+ *
+ * @author Eduardo Ramos
+ */
+public class ValidatorStatistics {
+
+    private final int index;
+    private final Class<?> validatorClass;
+    private final AtomicLong invocations = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private volatile boolean breakChainOnError;
+
+    public ValidatorStatistics(int index, Class<?> validatorClass) {
+        if (validatorClass == null) {
+            throw new IllegalArgumentException("validatorClass cannot be null");
+        }
+        this.index = index;
+        this.validatorClass = validatorClass;
+    }
+
+    /**
+     * Records one validator call.
+     *
+     * @param elapsedNanos Time spent by the validator
+     * @param failed True if the validator returned any error
+     * @param breakChainOnError Whether the validator breaks the chain on error
+     */
+    public void record(long elapsedNanos, boolean failed, boolean breakChainOnError) {
+        this.breakChainOnError = breakChainOnError;
+        totalNanos.addAndGet(Math.max(0, elapsedNanos));
+        if (failed) {
+            failures.incrementAndGet();
+        }
+        invocations.incrementAndGet();
+    }
+
+    /**
+     * Declared position of the validator in its element or form.
+     *
+     * @return Validator index
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    public Class<?> getValidatorClass() {
+        return validatorClass;
+    }
+
+    public long getInvocations() {
+        return invocations.get();
+    }
+
+    public long getFailures() {
+        return failures.get();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.get();
+    }
+
+    public boolean isBreakChainOnError() {
+        return breakChainOnError;
+    }
+
+    public double getFailureRate() {
+        long count = invocations.get();
+        return count == 0 ? 0 : (double) failures.get() / count;
+    }
+
+    public double getAverageNanos() {
+        long count = invocations.get();
+        return count == 0 ? 0 : (double) totalNanos.get() / count;
+    }
+
+    /**
+     * Average cost divided by the probability of stopping the validation chain.
+     * Running validators in ascending order of this ratio minimizes the expected validation cost.
+     *
+     * @return Cost ratio, or positive infinity if the validator never stops the chain
+     */
+    public double getCostPerChainBreak() {
+        double failureRate = getFailureRate();
+        if (!breakChainOnError || failureRate <= 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        return getAverageNanos() / failureRate;
+    }
+
+    @Override
+    public String toString() {
+        return validatorClass.getName() + "[index=" + index
+                + ", invocations=" + getInvocations()
+                + ", failures=" + getFailures()
+                + ", averageNanos=" + getAverageNanos() + "]";
+    }
+}
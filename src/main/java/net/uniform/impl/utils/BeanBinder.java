@@ -0,0 +1,729 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.impl.utils;
+
+import java.beans.BeanInfo;
+import java.beans.ConstructorProperties;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import net.uniform.api.ValueConverter;
+import net.uniform.api.annotations.CreatorProperties;
+import net.uniform.exceptions.UniformException;
+
+/**
+ * <p>
+ * Reads and fills the properties of Java beans of one class: public fields and getters/setters.
+ * Properties are resolved once per class and accessed through method handles, so binding does not introspect the class or box arguments in arrays again.
+ * </p>
+ *
+ * <p>
+ * Dotted property paths like {@code customer.address.street} are supported to read and fill nested beans.
+ * Each path is resolved once per binder, and missing intermediate beans are created when filling.
+ * </p>
+ *
+ * <p>
+ * Binders are cached with a {@link ClassValue}, which does not prevent bean classes from being unloaded.
+ * </p>
+ *
+ * @author Eduardo Ramos
+ */
+public final class BeanBinder {
+
+    private static final ClassValue<BeanBinder> BINDERS = new ClassValue<BeanBinder>() {
+        @Override
+        protected BeanBinder computeValue(Class<?> type) {
+            return new BeanBinder(type);
+        }
+    };
+
+    private static final MethodType READER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType WRITER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final PropertyPath INVALID_PATH = new PropertyPath(null, new BeanBinder[0], new String[0], new MethodHandle[0], new Writer[0], Collections.<Writer>emptyList());
+
+    private final Class<?> beanClass;
+    //Getters replace public fields with the same name when reading:
+    private final Map<String, MethodHandle> readers;
+    //Declared type of each property, to resolve nested paths:
+    private final Map<String, Class<?>> types;
+    //Public fields first and then setters, both are written if they have the same name:
+    private final List<Writer> writers;
+    private final UniformException introspectionError;
+    //Annotated constructor or static factory, or the public no-args constructor:
+    private final Creator creator;
+    private final UniformException creatorError;
+    //Resolved dotted property paths. Only existing paths are kept, so names coming from requests cannot grow it:
+    private final ConcurrentMap<String, PropertyPath> paths = new ConcurrentHashMap<>();
+
+    private BeanBinder(Class<?> beanClass) {
+        this.beanClass = beanClass;
+
+        Map<String, MethodHandle> beanReaders = new LinkedHashMap<>();
+        Map<String, Class<?>> beanTypes = new HashMap<>();
+        List<Writer> beanWriters = new ArrayList<>();
+        UniformException error = null;
+        try {
+            for (Field field : beanClass.getFields()) {
+                String name = field.getName();
+                if (!name.equals("class")) {
+                    beanReaders.put(name, fieldReader(field));
+                    beanTypes.put(name, field.getType());
+                    beanWriters.add(new Writer(name, field.getType(), genericType(field), fieldWriter(field)));
+                }
+            }
+
+            BeanInfo info = Introspector.getBeanInfo(beanClass);
+            for (PropertyDescriptor desc : info.getPropertyDescriptors()) {
+                String name = desc.getName();
+                if (name.equals("class")) {
+                    continue;
+                }
+                if (desc.getPropertyType() != null) {
+                    beanTypes.put(name, desc.getPropertyType());
+                }
+
+                Method readMethod = desc.getReadMethod();
+                if (readMethod != null) {
+                    beanReaders.put(name, methodHandle(readMethod, READER_TYPE));
+                }
+
+                Method writeMethod = desc.getWriteMethod();
+                if (writeMethod != null) {
+                    beanWriters.add(new Writer(name, desc.getPropertyType(), genericType(writeMethod), setterHandle(writeMethod)));
+                }
+            }
+        } catch (IntrospectionException ex) {
+            error = new UniformException("Error while introspecting bean class " + beanClass.getName(), ex);
+        }
+
+        this.readers = beanReaders;
+        this.types = beanTypes;
+        this.writers = beanWriters;
+        this.introspectionError = error;
+
+        Creator beanCreator = null;
+        UniformException creatorProblem = null;
+        try {
+            beanCreator = resolveCreator(beanClass);
+        } catch (UniformException e) {
+            creatorProblem = e;
+        }
+        this.creator = beanCreator;
+        this.creatorError = creatorProblem;
+    }
+
+    private static Creator resolveCreator(Class<?> beanClass) {
+        Member creatorMember = null;
+        String[] names = null;
+
+        for (Constructor<?> constructor : beanClass.getConstructors()) {
+            String[] constructorNames = null;
+            if (constructor.isAnnotationPresent(CreatorProperties.class)) {
+                constructorNames = constructor.getAnnotation(CreatorProperties.class).value();
+            } else if (constructor.isAnnotationPresent(ConstructorProperties.class)) {
+                constructorNames = constructor.getAnnotation(ConstructorProperties.class).value();
+            }
+
+            if (constructorNames != null) {
+                if (creatorMember != null) {
+                    throw new UniformException("Bean class " + beanClass.getName() + " has more than one annotated creator");
+                }
+                creatorMember = constructor;
+                names = constructorNames;
+            }
+        }
+
+        for (Method method : beanClass.getMethods()) {
+            if (method.isAnnotationPresent(CreatorProperties.class) && Modifier.isStatic(method.getModifiers()) && beanClass.isAssignableFrom(method.getReturnType())) {
+                if (creatorMember != null) {
+                    throw new UniformException("Bean class " + beanClass.getName() + " has more than one annotated creator");
+                }
+                creatorMember = method;
+                names = method.getAnnotation(CreatorProperties.class).value();
+            }
+        }
+
+        if (creatorMember == null) {
+            try {
+                creatorMember = beanClass.getConstructor();
+                names = new String[0];
+            } catch (NoSuchMethodException e) {
+                throw new UniformException("Bean class " + beanClass.getName() + " has no annotated creator nor public no-args constructor");
+            }
+        }
+
+        Class<?>[] types;
+        Type[] genericTypes;
+        if (creatorMember instanceof Constructor) {
+            types = ((Constructor<?>) creatorMember).getParameterTypes();
+            genericTypes = ((Constructor<?>) creatorMember).getGenericParameterTypes();
+        } else {
+            types = ((Method) creatorMember).getParameterTypes();
+            genericTypes = ((Method) creatorMember).getGenericParameterTypes();
+        }
+        if (types.length != names.length) {
+            throw new UniformException("Creator of bean class " + beanClass.getName() + " has " + types.length + " parameters but " + names.length + " property names");
+        }
+        if (genericTypes.length != types.length) {
+            genericTypes = types;//Some compilers do not keep generic types of synthetic parameters
+        }
+
+        MethodHandle handle = unreflect((AccessibleObject) creatorMember, false);
+        if (handle == null) {
+            throw new UniformException("Creator of bean class " + beanClass.getName() + " is not accessible");
+        }
+        handle = handle.asType(MethodType.genericMethodType(types.length)).asSpreader(Object[].class, types.length);
+
+        return new Creator(handle, names, types, genericTypes);
+    }
+
+    /**
+     * Returns the binder for a bean class.
+     *
+     * @param beanClass Bean class
+     * @return Binder, shared by all callers
+     */
+    public static BeanBinder forClass(Class<?> beanClass) {
+        if (beanClass == null) {
+            throw new IllegalArgumentException("Bean class cannot be null");
+        }
+        return BINDERS.get(beanClass);
+    }
+
+    /**
+     * Returns an index of all the accessible properties of a bean of the class of this binder.
+     *
+     * @param bean Bean
+     * @return Index of properties, never null
+     */
+    public Map<String, Object> getProperties(Object bean) {
+        checkIntrospected();
+
+        Map<String, Object> props = new HashMap<>((int) (readers.size() / 0.75f) + 1);
+        for (Map.Entry<String, MethodHandle> entry : readers.entrySet()) {
+            props.put(entry.getKey(), read(bean, entry.getKey(), entry.getValue()));
+        }
+
+        return props;
+    }
+
+    /**
+     * Indicates if beans of the class of this binder have a readable property with the given name or dotted path.
+     *
+     * @param name Property name or path
+     * @return True if the property exists
+     */
+    public boolean hasProperty(String name) {
+        checkIntrospected();
+        return readers.containsKey(name) || (isPath(name) && path(name).readable);
+    }
+
+    /**
+     * Returns the value of a single property of a bean of the class of this binder.
+     * For dotted paths, null is returned if any intermediate bean is null.
+     *
+     * @param bean Bean
+     * @param name Property name or path
+     * @return Property value
+     */
+    public Object getProperty(Object bean, String name) {
+        checkIntrospected();
+        if (!readers.containsKey(name)) {
+            if (isPath(name) && path(name).readable) {
+                return path(name).read(bean);
+            }
+            throw new IllegalArgumentException("Property '" + name + "' not found in bean class " + beanClass.getName());
+        }
+
+        return read(bean, name, readers.get(name));
+    }
+
+    private Object read(Object bean, String name, MethodHandle reader) {
+        if (reader == null) {
+            throw new UniformException("Error while getting bean object properties of class" + beanClass.getName() + ", property '" + name + "' is not accessible");
+        }
+
+        try {
+            return (Object) reader.invokeExact(bean);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UniformException("Error while getting bean object properties of class" + beanClass.getName(), e);
+        }
+    }
+
+    /**
+     * Injects the values of the given properties into a bean of the class of this binder. It makes sure that object class properties names match and their types are compatible.
+     *
+     * @param bean Bean
+     * @param props Properties to inject
+     * @param collectionsGenericTypes Generic types for each collection value in {@code props}
+     */
+    public void fillProperties(Object bean, Map<String, Object> props, Map<String, Class<?>> collectionsGenericTypes) {
+        fillProperties(bean, props, collectionsGenericTypes, Collections.<String>emptySet());
+    }
+
+    /**
+     * <p>
+     * Creates a bean of the class of this binder with the given properties.
+     * The bean is created with the constructor or static factory method annotated with {@link CreatorProperties} or {@link ConstructorProperties}, so immutable beans are supported,
+     * or with the public no-args constructor if there is none. Then the rest of properties are injected like {@link #fillProperties(java.lang.Object, java.util.Map, java.util.Map)}.
+     * </p>
+     *
+     * <p>
+     * Creator parameters without a compatible value receive null, or the default value for primitive types.
+     * </p>
+     *
+     * @param props Properties
+     * @param collectionsGenericTypes Generic types for each collection value in {@code props}
+     * @return New bean
+     */
+    public Object createBean(Map<String, Object> props, Map<String, Class<?>> collectionsGenericTypes) {
+        checkIntrospected();
+        if (creatorError != null) {
+            throw creatorError;
+        }
+
+        Object bean;
+        try {
+            Object[] args = new Object[creator.names.length];
+            for (int i = 0; i < args.length; i++) {
+                args[i] = creatorArgument(i, props, collectionsGenericTypes);
+            }
+            bean = (Object) creator.handle.invokeExact(args);
+        } catch (Error | UniformException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UniformException("Error while creating bean object of class " + beanClass.getName(), e);
+        }
+
+        fillProperties(bean, props, collectionsGenericTypes, creator.namesSet);
+        return bean;
+    }
+
+    private Object creatorArgument(int index, Map<String, Object> props, Map<String, Class<?>> collectionsGenericTypes) throws InstantiationException, IllegalAccessException {
+        String name = creator.names[index];
+        Class<?> type = creator.types[index];
+        if (!props.containsKey(name)) {
+            return creator.defaults[index];
+        }
+
+        Object value = props.get(name);
+        if (value instanceof String && type != String.class) {
+            ValueConverter<?> converter = ConverterRegistry.forType(type);
+            if (converter != null) {
+                try {
+                    value = ValueParsers.parse((String) value, converter);
+                } catch (IllegalArgumentException e) {
+                    value = null;//Not a valid value for the parameter type
+                }
+            }
+        }
+
+        Object preparedValue = UniformUtils.prepareValueForField(name, value, type, collectionsGenericTypes, creator.genericTypes[index]);
+        return preparedValue != UniformUtils.CANNOT_FILL_VALUE ? preparedValue : creator.defaults[index];
+    }
+
+    private void fillProperties(Object bean, Map<String, Object> props, Map<String, Class<?>> collectionsGenericTypes, Set<String> skippedProperties) {
+        checkIntrospected();
+
+        for (Writer writer : writers) {
+            if (!props.containsKey(writer.name) || skippedProperties.contains(writer.name)) {
+                continue;
+            }
+
+            try {
+                write(bean, writer, writer.name, props.get(writer.name), collectionsGenericTypes);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new UniformException("Error while setting bean object properties of class" + beanClass.getName(), e);
+            }
+        }
+
+        for (Map.Entry<String, Object> entry : props.entrySet()) {
+            String name = entry.getKey();
+            if (!isPath(name)) {
+                continue;
+            }
+
+            PropertyPath propertyPath = path(name);
+            if (propertyPath.leafWriters.isEmpty()) {
+                continue;
+            }
+
+            try {
+                propertyPath.write(bean, entry.getValue(), collectionsGenericTypes);
+            } catch (Error | UniformException e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new UniformException("Error while setting bean object property '" + name + "' of class" + beanClass.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * Writes a value into a property.
+     *
+     * @param name Property name or path, to find the generic type of collections
+     */
+    private static void write(Object bean, Writer writer, String name, Object value, Map<String, Class<?>> collectionsGenericTypes) throws Throwable {
+        if (value instanceof String && writer.type != String.class && writeConverted(bean, writer, (String) value)) {
+            return;
+        }
+
+        Object preparedValue = UniformUtils.prepareValueForField(name, value, writer.type, collectionsGenericTypes, writer.genericType);
+        if (preparedValue != UniformUtils.CANNOT_FILL_VALUE) {
+            if (writer.handle == null) {
+                throw new IllegalAccessException("Property '" + writer.name + "' is not writable");
+            }
+            writer.handle.invokeExact(bean, preparedValue);
+        }
+    }
+
+    private static boolean isPath(String name) {
+        return name != null && name.indexOf('.') > 0;
+    }
+
+    /**
+     * Returns the resolved accessor of a dotted property path, resolving it the first time.
+     * Paths that do not exist are not cached.
+     *
+     * @param path Property path
+     * @return Path accessor, or an accessor that cannot read nor write if the path does not exist
+     */
+    private PropertyPath path(String path) {
+        PropertyPath propertyPath = paths.get(path);
+        if (propertyPath == null) {
+            propertyPath = resolvePath(path);
+            if (propertyPath == INVALID_PATH) {
+                return propertyPath;
+            }
+            PropertyPath previous = paths.putIfAbsent(path, propertyPath);
+            if (previous != null) {
+                propertyPath = previous;
+            }
+        }
+        return propertyPath;
+    }
+
+    private PropertyPath resolvePath(String path) {
+        String[] names = path.split("\\.", -1);
+        BeanBinder[] owners = new BeanBinder[names.length];
+        MethodHandle[] pathReaders = new MethodHandle[names.length];
+        Writer[] intermediateWriters = new Writer[names.length - 1];
+
+        BeanBinder owner = this;
+        for (int i = 0; i < names.length; i++) {
+            if (owner.introspectionError != null || names[i].isEmpty()) {
+                return INVALID_PATH;
+            }
+
+            owners[i] = owner;
+            pathReaders[i] = owner.readers.get(names[i]);
+            if (i < names.length - 1) {
+                Class<?> type = owner.types.get(names[i]);
+                if (type == null || pathReaders[i] == null || type.isPrimitive()) {
+                    return INVALID_PATH;
+                }
+
+                List<Writer> nestedWriters = owner.writersOf(names[i]);
+                intermediateWriters[i] = nestedWriters.isEmpty() ? null : nestedWriters.get(0);
+                owner = forClass(type);
+            }
+        }
+
+        List<Writer> leafWriters = owner.writersOf(names[names.length - 1]);
+        if (pathReaders[names.length - 1] == null && leafWriters.isEmpty()) {
+            return INVALID_PATH;
+        }
+
+        return new PropertyPath(path, owners, names, pathReaders, intermediateWriters, leafWriters);
+    }
+
+    private List<Writer> writersOf(String name) {
+        List<Writer> result = new ArrayList<>(2);
+        for (Writer writer : writers) {
+            if (writer.name.equals(name) && writer.handle != null) {
+                result.add(writer);
+            }
+        }
+        return result;
+    }
+
+    private void checkIntrospected() {
+        if (introspectionError != null) {
+            throw introspectionError;
+        }
+    }
+
+    /**
+     * Writes a string value into a property of another type with the converter of the property type.
+     * Int, long and double properties are parsed and written without boxing.
+     *
+     * @return True if the property type has a converter, even if the value could not be converted and was not written
+     */
+    private static boolean writeConverted(Object bean, Writer writer, String value) throws Throwable {
+        ValueConverter<?> converter = ConverterRegistry.forType(writer.type);
+        if (converter == null || writer.handle == null) {
+            return false;
+        }
+
+        value = value.trim();
+        if (value.isEmpty()) {
+            if (!writer.type.isPrimitive()) {
+                writer.handle.invokeExact(bean, (Object) null);
+            }
+            return true;
+        }
+
+        //Values that are not valid for the property type are not filled:
+        if (writer.type == int.class) {
+            int parsed;
+            try {
+                parsed = ValueConverters.INTEGER.parseInt(value);
+            } catch (IllegalArgumentException e) {
+                return true;
+            }
+            writer.exactHandle.invokeExact(bean, parsed);
+        } else if (writer.type == long.class) {
+            long parsed;
+            try {
+                parsed = ValueConverters.LONG.parseLong(value);
+            } catch (IllegalArgumentException e) {
+                return true;
+            }
+            writer.exactHandle.invokeExact(bean, parsed);
+        } else if (writer.type == double.class) {
+            double parsed;
+            try {
+                parsed = ValueConverters.DOUBLE.parseDouble(value);
+            } catch (IllegalArgumentException e) {
+                return true;
+            }
+            writer.exactHandle.invokeExact(bean, parsed);
+        } else {
+            Object parsed;
+            try {
+                parsed = converter.parse(value);
+            } catch (IllegalArgumentException e) {
+                return true;
+            }
+            writer.handle.invokeExact(bean, parsed);
+        }
+
+        return true;
+    }
+
+    private static Type genericType(Field field) {
+        try {
+            return field.getGenericType();
+        } catch (RuntimeException e) {
+            return null;//Not a generic
+        }
+    }
+
+    private static Type genericType(Method writeMethod) {
+        try {
+            return writeMethod.getGenericParameterTypes()[0];
+        } catch (RuntimeException e) {
+            return null;//Not a generic
+        }
+    }
+
+    private static MethodHandle fieldReader(Field field) {
+        MethodHandle handle = unreflect(field, false);
+        if (handle != null && Modifier.isStatic(field.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        return handle != null ? handle.asType(READER_TYPE) : null;
+    }
+
+    private static MethodHandle fieldWriter(Field field) {
+        if (Modifier.isFinal(field.getModifiers())) {
+            return null;
+        }
+
+        MethodHandle handle = unreflect(field, true);
+        if (handle != null && Modifier.isStatic(field.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        return handle != null ? handle.asType(MethodType.methodType(void.class, Object.class, field.getType())) : null;
+    }
+
+    private static MethodHandle methodHandle(Method method, MethodType type) {
+        MethodHandle handle = unreflect(method, false);
+        return handle != null ? handle.asType(type) : null;
+    }
+
+    private static MethodHandle setterHandle(Method writeMethod) {
+        return methodHandle(writeMethod, MethodType.methodType(void.class, Object.class, writeMethod.getParameterTypes()[0]));
+    }
+
+    /**
+     * Returns a handle for a public member, making it accessible if its class is not public.
+     *
+     * @return Handle or null if the member cannot be accessed
+     */
+    private static MethodHandle unreflect(AccessibleObject member, boolean setter) {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        try {
+            return unreflect(lookup, member, setter);
+        } catch (IllegalAccessException e) {
+            try {
+                member.setAccessible(true);
+                return unreflect(lookup, member, setter);
+            } catch (IllegalAccessException | SecurityException ex) {
+                return null;
+            }
+        }
+    }
+
+    private static MethodHandle unreflect(MethodHandles.Lookup lookup, AccessibleObject member, boolean setter) throws IllegalAccessException {
+        if (member instanceof Method) {
+            return lookup.unreflect((Method) member);
+        }
+
+        if (member instanceof Constructor) {
+            return lookup.unreflectConstructor((Constructor<?>) member);
+        }
+
+        Field field = (Field) member;
+        return setter ? lookup.unreflectSetter(field) : lookup.unreflectGetter(field);
+    }
+
+    /**
+     * Accessor of a dotted property path: the binder, reader and writer of every segment are resolved once.
+     */
+    private static final class PropertyPath {
+
+        private final String path;
+        private final BeanBinder[] owners;
+        private final String[] names;
+        private final MethodHandle[] readers;
+        //Writers to set created beans in intermediate segments, null if not writable:
+        private final Writer[] intermediateWriters;
+        private final List<Writer> leafWriters;
+        private final boolean readable;
+
+        private PropertyPath(String path, BeanBinder[] owners, String[] names, MethodHandle[] readers, Writer[] intermediateWriters, List<Writer> leafWriters) {
+            this.path = path;
+            this.owners = owners;
+            this.names = names;
+            this.readers = readers;
+            this.intermediateWriters = intermediateWriters;
+            this.leafWriters = leafWriters;
+            this.readable = readers.length > 0 && readers[readers.length - 1] != null;
+        }
+
+        private Object read(Object bean) {
+            Object current = bean;
+            for (int i = 0; i < names.length && current != null; i++) {
+                current = owners[i].read(current, names[i], readers[i]);
+            }
+            return current;
+        }
+
+        private void write(Object bean, Object value, Map<String, Class<?>> collectionsGenericTypes) throws Throwable {
+            int last = names.length - 1;
+            Object current = bean;
+            for (int i = 0; i < last; i++) {
+                Object nested = (Object) readers[i].invokeExact(current);
+                if (nested == null) {
+                    if (value == null) {
+                        return;//Do not create beans only to set null
+                    }
+                    if (intermediateWriters[i] == null) {
+                        throw new UniformException("Property '" + names[i] + "' of path '" + path + "' is null and not writable");
+                    }
+
+                    nested = owners[i + 1].createBean(Collections.<String, Object>emptyMap(), collectionsGenericTypes);
+                    intermediateWriters[i].handle.invokeExact(current, nested);
+                }
+                current = nested;
+            }
+
+            for (Writer writer : leafWriters) {
+                BeanBinder.write(current, writer, path, value, collectionsGenericTypes);
+            }
+        }
+    }
+
+    private static final class Creator {
+
+        //Takes the arguments array and returns the bean:
+        private final MethodHandle handle;
+        private final String[] names;
+        private final Set<String> namesSet;
+        private final Class<?>[] types;
+        private final Type[] genericTypes;
+        private final Object[] defaults;
+
+        private Creator(MethodHandle handle, String[] names, Class<?>[] types, Type[] genericTypes) {
+            this.handle = handle;
+            this.names = names;
+            this.namesSet = new HashSet<>(Arrays.asList(names));
+            this.types = types;
+            this.genericTypes = genericTypes;
+            this.defaults = new Object[types.length];
+            for (int i = 0; i < types.length; i++) {
+                if (types[i].isPrimitive()) {
+                    defaults[i] = Array.get(Array.newInstance(types[i], 1), 0);
+                }
+            }
+        }
+    }
+
+    private static final class Writer {
+
+        private final String name;
+        private final Class<?> type;
+        private final Type genericType;
+        private final MethodHandle handle;
+        //Handle with the property type as argument, for primitives:
+        private final MethodHandle exactHandle;
+
+        private Writer(String name, Class<?> type, Type genericType, MethodHandle exactHandle) {
+            this.name = name;
+            this.type = type;
+            this.genericType = genericType;
+            this.handle = exactHandle != null ? exactHandle.asType(WRITER_TYPE) : null;
+            this.exactHandle = exactHandle;
+        }
+    }
+}
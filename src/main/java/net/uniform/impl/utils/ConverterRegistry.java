@@ -0,0 +1,151 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.impl.utils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import net.uniform.api.ValueConverter;
+
+/**
+ * <p>
+ * Registry of the value converters used by forms for value type conversion, bean binding and value formatting, looked up by value type.
+ * </p>
+ *
+ * <p>
+ * Numeric, boolean and {@code UUID} types, including primitive types, are registered by default, and enum types are supported by constant name.
+ * Converters for any other type can be registered at application startup.
+ * </p>
+ *
+ * @author Eduardo Ramos
+ */
+public final class ConverterRegistry {
+
+    private static final Map<Class<?>, ValueConverter<?>> DEFAULT_CONVERTERS = new HashMap<>();
+
+    static {
+        DEFAULT_CONVERTERS.put(Byte.class, ValueConverters.BYTE);
+        DEFAULT_CONVERTERS.put(byte.class, ValueConverters.BYTE);
+        DEFAULT_CONVERTERS.put(Short.class, ValueConverters.SHORT);
+        DEFAULT_CONVERTERS.put(short.class, ValueConverters.SHORT);
+        DEFAULT_CONVERTERS.put(Integer.class, ValueConverters.INTEGER);
+        DEFAULT_CONVERTERS.put(int.class, ValueConverters.INTEGER);
+        DEFAULT_CONVERTERS.put(Long.class, ValueConverters.LONG);
+        DEFAULT_CONVERTERS.put(long.class, ValueConverters.LONG);
+        DEFAULT_CONVERTERS.put(Float.class, ValueConverters.FLOAT);
+        DEFAULT_CONVERTERS.put(float.class, ValueConverters.FLOAT);
+        DEFAULT_CONVERTERS.put(Double.class, ValueConverters.DOUBLE);
+        DEFAULT_CONVERTERS.put(double.class, ValueConverters.DOUBLE);
+        DEFAULT_CONVERTERS.put(Boolean.class, ValueConverters.BOOLEAN);
+        DEFAULT_CONVERTERS.put(boolean.class, ValueConverters.BOOLEAN);
+        DEFAULT_CONVERTERS.put(BigInteger.class, ValueConverters.BIG_INTEGER);
+        DEFAULT_CONVERTERS.put(BigDecimal.class, ValueConverters.BIG_DECIMAL);
+        DEFAULT_CONVERTERS.put(UUID.class, ValueConverters.UUID);
+    }
+
+    private static final ConcurrentMap<Class<?>, ValueConverter<?>> CONVERTERS = new ConcurrentHashMap<>(DEFAULT_CONVERTERS);
+
+    private ConverterRegistry() {
+    }
+
+    /**
+     * Registers the converter for a value type, replacing any previous one.
+     *
+     * @param <T> Value type
+     * @param type Value type
+     * @param converter Converter
+     */
+    public static <T> void register(Class<T> type, ValueConverter<T> converter) {
+        if (type == null) {
+            throw new IllegalArgumentException("Type cannot be null");
+        }
+        if (converter == null) {
+            throw new IllegalArgumentException("Converter cannot be null");
+        }
+
+        CONVERTERS.put(type, converter);
+    }
+
+    /**
+     * Removes the converter registered for a value type, restoring the default converter if the type has one.
+     *
+     * @param type Value type
+     */
+    public static void unregister(Class<?> type) {
+        if (type == null) {
+            throw new IllegalArgumentException("Type cannot be null");
+        }
+
+        ValueConverter<?> defaultConverter = DEFAULT_CONVERTERS.get(type);
+        if (defaultConverter != null) {
+            CONVERTERS.put(type, defaultConverter);
+        } else {
+            CONVERTERS.remove(type);
+        }
+    }
+
+    /**
+     * Returns the converter for a value type.
+     *
+     * @param <T> Value type
+     * @param type Value type
+     * @return Converter or null if the type is not supported
+     */
+    public static <T> ValueConverter<T> forType(Class<T> type) {
+        if (type == null) {
+            return null;
+        }
+
+        ValueConverter<?> converter = CONVERTERS.get(type);
+        if (converter == null && type.isEnum()) {
+            converter = enumConverter(type);
+            ValueConverter<?> previous = CONVERTERS.putIfAbsent(type, converter);
+            if (previous != null) {
+                converter = previous;
+            }
+        }
+
+        return (ValueConverter<T>) converter;
+    }
+
+    /**
+     * Formats a value with the converter of its type, or its {@code toString()} method if there is none.
+     *
+     * @param value Value
+     * @return String value or null if the value is null
+     */
+    public static String format(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof String) {
+            return (String) value;
+        }
+
+        Class<?> type = value instanceof Enum ? ((Enum<?>) value).getDeclaringClass() : value.getClass();
+        ValueConverter<Object> converter = (ValueConverter<Object>) forType(type);
+        return converter != null ? converter.format(value) : value.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ValueConverter<?> enumConverter(Class type) {
+        return new ValueConverters.EnumConverter(type);
+    }
+}
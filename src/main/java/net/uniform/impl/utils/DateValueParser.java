@@ -0,0 +1,60 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.impl.utils;
+
+import java.text.ParseException;
+import java.util.Date;
+import net.uniform.api.ValueParser;
+
+/**
+ * Thread-safe date parser for a {@link ThreadSafeDateFormat}. Parsers with equal date formats are equal.
+ *
+ * @author Eduardo Ramos
+ */
+public class DateValueParser implements ValueParser<Date> {
+
+    private final ThreadSafeDateFormat dateFormat;
+
+    public DateValueParser(ThreadSafeDateFormat dateFormat) {
+        if (dateFormat == null) {
+            throw new IllegalArgumentException("Date format cannot be null");
+        }
+        this.dateFormat = dateFormat;
+    }
+
+    @Override
+    public Date parse(String value) {
+        try {
+            return dateFormat.parse(value);
+        } catch (ParseException ex) {
+            throw new IllegalArgumentException(String.format("Could not parse date %s", value), ex);
+        }
+    }
+
+    public ThreadSafeDateFormat getDateFormat() {
+        return dateFormat;
+    }
+
+    @Override
+    public int hashCode() {
+        return dateFormat.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof DateValueParser && ((DateValueParser) obj).dateFormat.equals(dateFormat);
+    }
+}
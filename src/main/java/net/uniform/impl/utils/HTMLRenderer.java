@@ -120,7 +120,7 @@ public class HTMLRenderer {
             elementNode = document.createElement(MARK_TO_REMOVE);
         }
 
-        Map<String, String> properties = tag.getProperties();
+        Map<String, String> properties = tag.getPropertiesView();
         if (properties != null) {
             for (Map.Entry<String, String> entry : properties.entrySet()) {
                 String prop = entry.getKey();
@@ -130,7 +130,7 @@ public class HTMLRenderer {
             }
         }
 
-        List<SimpleHTMLTag> subTags = tag.getSubTags();
+        List<SimpleHTMLTag> subTags = tag.getSubTagsView();
         if (subTags != null && !subTags.isEmpty()) {
             for (SimpleHTMLTag subTag : subTags) {
                 createDocument(document, elementNode, subTag);
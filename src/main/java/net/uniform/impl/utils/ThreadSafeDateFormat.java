@@ -0,0 +1,241 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.impl.utils;
+
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+
+/**
+ * <p>
+ * Immutable, thread-safe date format with the same parsing and formatting semantics as {@link SimpleDateFormat}.
+ * Instances can be shared by elements, validators and forms used from many threads.
+ * </p>
+ *
+ * <p>
+ * The common ISO {@code yyyy-MM-dd} pattern is parsed and formatted by hand, reusing one calendar per thread, so it does not allocate any parsing machinery.
+ * This only applies to plain {@link SimpleDateFormat} instances with ASCII digits, so subclasses and custom number formats keep their behaviour.
+ * Any other pattern or input shape is delegated to a {@link SimpleDateFormat} copy of each thread.
+ * </p>
+ *
+ * @author Eduardo Ramos
+ */
+public final class ThreadSafeDateFormat {
+
+    public static final String ISO_DATE_PATTERN = "yyyy-MM-dd";
+
+    private final SimpleDateFormat prototype;
+    private final String pattern;
+    private final boolean isoDate;
+
+    private final ThreadLocal<SimpleDateFormat> formats = new ThreadLocal<SimpleDateFormat>() {
+        @Override
+        protected SimpleDateFormat initialValue() {
+            return (SimpleDateFormat) prototype.clone();
+        }
+    };
+
+    private final ThreadLocal<Calendar> calendars = new ThreadLocal<Calendar>() {
+        @Override
+        protected Calendar initialValue() {
+            return (Calendar) prototype.getCalendar().clone();
+        }
+    };
+
+    /**
+     * Creates a non-lenient date format for the pattern, with the current default locale and time zone.
+     *
+     * @param pattern Date pattern as in {@link SimpleDateFormat}
+     */
+    public ThreadSafeDateFormat(String pattern) {
+        this(nonLenient(pattern));
+    }
+
+    /**
+     * Creates a date format with the same configuration as the given date format.
+     * The given date format is copied, later changes to it have no effect.
+     *
+     * @param dateFormat Date format
+     */
+    public ThreadSafeDateFormat(SimpleDateFormat dateFormat) {
+        if (dateFormat == null) {
+            throw new IllegalArgumentException("Date format cannot be null");
+        }
+        this.prototype = (SimpleDateFormat) dateFormat.clone();
+        this.pattern = prototype.toPattern();
+        this.isoDate = ISO_DATE_PATTERN.equals(pattern)
+                && prototype.getClass() == SimpleDateFormat.class
+                && prototype.getCalendar() instanceof GregorianCalendar
+                && isAsciiNumberFormat(prototype.getNumberFormat());
+    }
+
+    /**
+     * Indicates if the number format is the default one of {@link SimpleDateFormat}, writing plain ASCII digits.
+     */
+    private static boolean isAsciiNumberFormat(NumberFormat numberFormat) {
+        if (numberFormat == null || numberFormat.getClass() != DecimalFormat.class) {
+            return false;
+        }
+
+        DecimalFormat decimalFormat = (DecimalFormat) numberFormat;
+        return decimalFormat.getDecimalFormatSymbols().getZeroDigit() == '0'
+                && !decimalFormat.isGroupingUsed()
+                && decimalFormat.getPositivePrefix().isEmpty()
+                && decimalFormat.getNegativePrefix().equals("-");
+    }
+
+    private static SimpleDateFormat nonLenient(String pattern) {
+        if (pattern == null) {
+            throw new IllegalArgumentException("Date pattern cannot be null");
+        }
+        SimpleDateFormat sdf = new SimpleDateFormat(pattern);
+        sdf.setLenient(false);
+        return sdf;
+    }
+
+    /**
+     * Parses a date like {@link SimpleDateFormat#parse(java.lang.String)}.
+     *
+     * @param value Date text
+     * @return Date
+     * @throws ParseException If the text cannot be parsed
+     */
+    public Date parse(String value) throws ParseException {
+        if (isoDate && isIsoDateShape(value)) {
+            int year = digits(value, 0, 4);
+            int month = digits(value, 5, 7);
+            int day = digits(value, 8, 10);
+
+            Calendar calendar = calendars.get();
+            calendar.clear();
+            calendar.set(year, month - 1, day);
+            try {
+                return calendar.getTime();
+            } catch (IllegalArgumentException e) {
+                //Non-lenient calendar rejected the fields, like SimpleDateFormat does:
+                throw new ParseException("Unparseable date: \"" + value + "\"", 0);
+            }
+        }
+
+        return formats.get().parse(value);
+    }
+
+    /**
+     * Formats a date like {@link SimpleDateFormat#format(java.util.Date)}.
+     *
+     * @param date Date
+     * @return Date text
+     */
+    public String format(Date date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+
+        if (isoDate) {
+            Calendar calendar = calendars.get();
+            calendar.setTime(date);
+            int year = calendar.get(Calendar.YEAR);
+            if (calendar.get(Calendar.ERA) == GregorianCalendar.AD && year <= 9999) {
+                char[] chars = new char[10];
+                writeDigits(chars, 0, 4, year);
+                chars[4] = '-';
+                writeDigits(chars, 5, 7, calendar.get(Calendar.MONTH) + 1);
+                chars[7] = '-';
+                writeDigits(chars, 8, 10, calendar.get(Calendar.DAY_OF_MONTH));
+                return new String(chars);
+            }
+        }
+
+        return formats.get().format(date);
+    }
+
+    private static boolean isIsoDateShape(String value) {
+        if (value.length() != 10 || value.charAt(4) != '-' || value.charAt(7) != '-') {
+            return false;
+        }
+
+        for (int i = 0; i < 10; i++) {
+            if (i != 4 && i != 7) {
+                char c = value.charAt(i);
+                if (c < '0' || c > '9') {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private static int digits(String value, int start, int end) {
+        int result = 0;
+        for (int i = start; i < end; i++) {
+            result = result * 10 + (value.charAt(i) - '0');
+        }
+        return result;
+    }
+
+    private static void writeDigits(char[] chars, int start, int end, int value) {
+        for (int i = end - 1; i >= start; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    public String toPattern() {
+        return pattern;
+    }
+
+    public boolean isLenient() {
+        return prototype.isLenient();
+    }
+
+    /**
+     * Returns a new {@link SimpleDateFormat} with the same configuration, that the caller can freely change.
+     *
+     * @return Date format copy
+     */
+    public SimpleDateFormat toSimpleDateFormat() {
+        return (SimpleDateFormat) prototype.clone();
+    }
+
+    @Override
+    public int hashCode() {
+        return pattern.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ThreadSafeDateFormat)) {
+            return false;
+        }
+        ThreadSafeDateFormat other = (ThreadSafeDateFormat) obj;
+        return prototype.equals(other.prototype)
+                && prototype.getTimeZone().equals(other.prototype.getTimeZone())
+                && prototype.getCalendar().getClass() == other.prototype.getCalendar().getClass();
+    }
+
+    @Override
+    public String toString() {
+        return "ThreadSafeDateFormat{" + pattern + '}';
+    }
+}
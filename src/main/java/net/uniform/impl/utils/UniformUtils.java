@@ -15,23 +15,17 @@
  */
 package net.uniform.impl.utils;
 
-import java.beans.BeanInfo;
-import java.beans.IntrospectionException;
-import java.beans.Introspector;
-import java.beans.PropertyDescriptor;
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import net.uniform.exceptions.UniformException;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utils class for Uniform
@@ -60,6 +54,31 @@ public class UniformUtils {
         return Math.abs(a - b) < EPSILON;
     }
 
+    /**
+     * Maximum number of arbitrary property names to keep normalized, the table is cleared when full.
+     */
+    private static final int MAX_NORMALIZED_PROPERTY_NAMES = 1024;
+
+    private static final String[] WELL_KNOWN_PROPERTY_NAMES = {
+        "id", "name", "class", "style", "title", "value", "type", "disabled", "readonly", "required",
+        "checked", "selected", "multiple", "placeholder", "maxlength", "minlength", "min", "max", "step",
+        "pattern", "size", "rows", "cols", "for", "label", "action", "method", "enctype", "target",
+        "autocomplete", "autofocus", "tabindex", "href", "src", "alt", "width", "height", "lang", "dir",
+        "role", "form", "accept", "onclick", "onchange", "onsubmit"
+    };
+
+    //Well-known names map to their own interned instance so they skip normalization. Read-only after initialization:
+    private static final Map<String, String> WELL_KNOWN_PROPERTY_NAMES_INDEX = new HashMap<>();
+
+    //Original key to normalized key for any other names:
+    private static final ConcurrentHashMap<String, String> NORMALIZED_PROPERTY_NAMES = new ConcurrentHashMap<>();
+
+    static {
+        for (String name : WELL_KNOWN_PROPERTY_NAMES) {
+            WELL_KNOWN_PROPERTY_NAMES_INDEX.put(name, name);
+        }
+    }
+
     /**
      * Makes sure that a property name is not empty an is lower-case. Throws an {@code IllegalArgumentException} if the key is null or empty after trimming.
      *
@@ -71,13 +90,33 @@ public class UniformUtils {
             throw new IllegalArgumentException("key cannot be null");
         }
 
-        key = key.trim().toLowerCase();
+        String normalized = WELL_KNOWN_PROPERTY_NAMES_INDEX.get(key);
+        if (normalized == null) {
+            normalized = NORMALIZED_PROPERTY_NAMES.get(key);
+        }
+        if (normalized != null) {
+            return normalized;
+        }
+
+        normalized = key.trim().toLowerCase();
 
-        if (key.isEmpty()) {
+        if (normalized.isEmpty()) {
             throw new IllegalArgumentException("key cannot be empty");
         }
 
-        return key;
+        //Reuse the instance of a known name so that stored keys are shared:
+        String known = WELL_KNOWN_PROPERTY_NAMES_INDEX.get(normalized);
+        if (known != null) {
+            normalized = known;
+        }
+
+        //Cleared when full, so arbitrary user-provided keys cannot grow the table forever nor keep later names out of it:
+        if (NORMALIZED_PROPERTY_NAMES.size() >= MAX_NORMALIZED_PROPERTY_NAMES) {
+            NORMALIZED_PROPERTY_NAMES.clear();
+        }
+        NORMALIZED_PROPERTY_NAMES.put(key, normalized);
+
+        return normalized;
     }
 
     /**
@@ -87,37 +126,11 @@ public class UniformUtils {
      * @return Index of properties, never null
      */
     public static Map<String, Object> getBeanProperties(Object bean) {
-        Map<String, Object> props = new HashMap<>();
-
         if (bean == null) {
-            return props;
+            return new HashMap<>();
         }
 
-        Class<?> clazz = bean.getClass();
-        try {
-            //Public fields:
-            Field[] fields = clazz.getFields();
-            for (Field field : fields) {
-                String name = field.getName();
-                if (!name.equals("class")) {
-                    props.put(field.getName(), field.get(bean));
-                }
-            }
-
-            //Getters:
-            BeanInfo info = Introspector.getBeanInfo(clazz);
-            for (PropertyDescriptor desc : info.getPropertyDescriptors()) {
-                Method readMethod = desc.getReadMethod();
-                String name = desc.getName();
-                if (readMethod != null && !name.equals("class")) {
-                    props.put(desc.getName(), readMethod.invoke(bean));
-                }
-            }
-
-            return props;
-        } catch (IntrospectionException | IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
-            throw new UniformException("Error while getting bean object properties of class" + clazz.getName(), ex);
-        }
+        return BeanBinder.forClass(bean.getClass()).getProperties(bean);
     }
 
     private static final Map<String, Class<?>> EMPTY_MAP = new HashMap<>();
@@ -148,65 +161,35 @@ public class UniformUtils {
             collectionsGenericTypes = EMPTY_MAP;
         }
 
-        Class<?> beanClass = bean.getClass();
-        try {
-            //Public fields:
-            Field[] fields = beanClass.getFields();
-            for (Field field : fields) {
-                String name = field.getName();
-
-                if (!name.equals("class")) {
-                    if (props.containsKey(name)) {
-                        Object value = props.get(name);
-                        Class fieldClass = field.getType();
-                        
-                        Type fieldGenericType = null;
-                        try {
-                            fieldGenericType = field.getGenericType();
-                        } catch (Exception e) {
-                            //Not a generic
-                        }
-                        Object preparedValue = prepareValueForField(name, value, fieldClass, collectionsGenericTypes, fieldGenericType);
-                        
-                        if(preparedValue != CANNOT_FILL_VALUE){
-                            field.set(bean, preparedValue);
-                        }
-                    }
-                }
-            }
+        BeanBinder.forClass(bean.getClass()).fillProperties(bean, props, collectionsGenericTypes);
+    }
 
-            //Setters:
-            BeanInfo info = Introspector.getBeanInfo(beanClass);
-            for (PropertyDescriptor desc : info.getPropertyDescriptors()) {
-                Method writeMethod = desc.getWriteMethod();
-                String name = desc.getName();
-                if (writeMethod != null && !name.equals("class")) {
-                    if (props.containsKey(name)) {
-                        Object value = props.get(name);
-                        Class fieldClass = desc.getPropertyType();
-                        
-                        Type fieldGenericType = null;
-                        try {
-                            fieldGenericType = writeMethod.getGenericParameterTypes()[0];
-                        } catch (Exception e) {
-                            //Not a generic
-                        }
-                        Object preparedValue = prepareValueForField(name, value, fieldClass, collectionsGenericTypes, fieldGenericType);
-                        
-                        if(preparedValue != CANNOT_FILL_VALUE){
-                            writeMethod.invoke(bean, preparedValue);
-                        }
-                    }
-                }
-            }
-        } catch (IntrospectionException | IllegalAccessException | IllegalArgumentException | InvocationTargetException | InstantiationException ex) {
-            throw new UniformException("Error while setting bean object properties of class" + beanClass.getName(), ex);
+    /**
+     * Creates a Java bean of the given class with the given properties, using its annotated creator if any. See {@link BeanBinder#createBean(java.util.Map, java.util.Map)}.
+     *
+     * @param <T> Bean type
+     * @param beanClass Bean class
+     * @param props Properties to inject
+     * @param collectionsGenericTypes Generic types for each collection value in {@code props}
+     * @return New bean
+     */
+    public static <T> T createBean(Class<T> beanClass, Map<String, Object> props, Map<String, Class<?>> collectionsGenericTypes) {
+        if (beanClass == null) {
+            throw new IllegalArgumentException("Bean class cannot be null");
+        }
+        if (props == null) {
+            props = Collections.emptyMap();
+        }
+        if (collectionsGenericTypes == null) {
+            collectionsGenericTypes = EMPTY_MAP;
         }
+
+        return beanClass.cast(BeanBinder.forClass(beanClass).createBean(props, collectionsGenericTypes));
     }
+
+    static final Object CANNOT_FILL_VALUE = new Object();
     
-    private static final Object CANNOT_FILL_VALUE = new Object();
-    
-    private static Object prepareValueForField(String name, Object value, Class fieldClass, Map<String, Class<?>> collectionsGenericTypes, Type fieldGenericType) throws InstantiationException, IllegalAccessException{
+    static Object prepareValueForField(String name, Object value, Class fieldClass, Map<String, Class<?>> collectionsGenericTypes, Type fieldGenericType) throws InstantiationException, IllegalAccessException{
         if (value != null) {
             Class valueClass = value.getClass();
 
@@ -268,7 +251,15 @@ public class UniformUtils {
     private static boolean isGenericTypeCompatible(Type type, Class<?> genericClass) {
         if (type instanceof ParameterizedType) {
             ParameterizedType pType = (ParameterizedType) type;
-            return pType.getActualTypeArguments().length == 1 && ((Class<?>) pType.getActualTypeArguments()[0]).isAssignableFrom(genericClass);
+            if (pType.getActualTypeArguments().length != 1) {
+                return false;
+            }
+
+            Type argument = pType.getActualTypeArguments()[0];
+            if (argument instanceof ParameterizedType) {
+                argument = ((ParameterizedType) argument).getRawType();//For example List<Map<String, Object>>
+            }
+            return argument instanceof Class && ((Class<?>) argument).isAssignableFrom(genericClass);
         } else {
             return true;//No generic, raw collection, Object is compatible with any type
         }
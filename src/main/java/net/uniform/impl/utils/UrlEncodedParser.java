@@ -0,0 +1,247 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.impl.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * <p>
+ * Streaming parser of {@code application/x-www-form-urlencoded} data.
+ * </p>
+ *
+ * <p>
+ * Parameter names are decoded and offered to a {@link Handler} as soon as they are read.
+ * Values are only stored and decoded for accepted names, so unknown parameters are skipped without decoding them.
+ * Parameters with malformed escapes are skipped too.
+ * </p>
+ *
+ * @author Eduardo Ramos
+ */
+public final class UrlEncodedParser {
+
+    /**
+     * Receives the parameters of urlencoded data, in order.
+     */
+    public interface Handler {
+
+        /**
+         * Indicates if the value of a parameter is needed.
+         *
+         * @param name Decoded parameter name
+         * @return True to decode the value and receive it in {@link #value(java.lang.String, java.lang.String)}
+         */
+        boolean accept(String name);
+
+        /**
+         * Receives the value of an accepted parameter.
+         *
+         * @param name Decoded parameter name
+         * @param value Decoded value, empty if the parameter has no value
+         */
+        void value(String name, String value);
+    }
+
+    private static final int BUFFER_SIZE = 1024;
+
+    private UrlEncodedParser() {
+    }
+
+    /**
+     * Parses urlencoded data from a stream, reading it in chunks.
+     *
+     * @param body Urlencoded data, not closed by this method
+     * @param charset Charset of the data and its escaped bytes
+     * @param handler Handler
+     * @throws IOException If the stream cannot be read
+     */
+    public static void parse(InputStream body, Charset charset, Handler handler) throws IOException {
+        State state = new State(charset, handler);
+        Reader reader = new InputStreamReader(body, charset);
+        char[] buffer = new char[BUFFER_SIZE];
+
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                state.feed(buffer[i]);
+            }
+        }
+        state.end();
+    }
+
+    /**
+     * Parses urlencoded data from a buffer. The buffer position is not modified.
+     *
+     * @param body Urlencoded data
+     * @param charset Charset of the data and its escaped bytes
+     * @param handler Handler
+     */
+    public static void parse(ByteBuffer body, Charset charset, Handler handler) {
+        parse(charset.decode(body.duplicate()), charset, handler);
+    }
+
+    /**
+     * Parses urlencoded data from characters.
+     *
+     * @param body Urlencoded data
+     * @param charset Charset of the escaped bytes
+     * @param handler Handler
+     */
+    public static void parse(CharSequence body, Charset charset, Handler handler) {
+        State state = new State(charset, handler);
+        for (int i = 0, length = body.length(); i < length; i++) {
+            state.feed(body.charAt(i));
+        }
+        state.end();
+    }
+
+    /**
+     * Decodes a urlencoded string: {@code +} as space and {@code %XX} escapes as bytes of the given charset.
+     *
+     * @param value Encoded value
+     * @param charset Charset of escaped bytes
+     * @return Decoded value
+     * @throws IllegalArgumentException If an escape is malformed
+     */
+    public static String decode(CharSequence value, Charset charset) {
+        int length = value.length();
+        int first = 0;
+        while (first < length && value.charAt(first) != '%' && value.charAt(first) != '+') {
+            first++;
+        }
+        if (first == length) {
+            return value.toString();//Nothing to decode
+        }
+
+        StringBuilder result = new StringBuilder(length);
+        result.append(value, 0, first);
+
+        byte[] bytes = null;
+        int i = first;
+        while (i < length) {
+            char c = value.charAt(i);
+            if (c == '+') {
+                result.append(' ');
+                i++;
+            } else if (c == '%') {
+                //Consecutive escapes form one multi-byte character:
+                if (bytes == null) {
+                    bytes = new byte[(length - i) / 3];
+                }
+                int count = 0;
+                while (i < length && value.charAt(i) == '%') {
+                    if (i + 2 >= length) {
+                        throw new IllegalArgumentException("Incomplete escape in urlencoded value");
+                    }
+                    bytes[count++] = (byte) ((hexDigit(value.charAt(i + 1)) << 4) | hexDigit(value.charAt(i + 2)));
+                    i += 3;
+                }
+                result.append(new String(bytes, 0, count, charset));
+            } else {
+                result.append(c);
+                i++;
+            }
+        }
+
+        return result.toString();
+    }
+
+    private static int hexDigit(char c) {
+        int digit = Character.digit(c, 16);
+        if (digit < 0) {
+            throw new IllegalArgumentException("Invalid escape in urlencoded value: '" + c + "'");
+        }
+        return digit;
+    }
+
+    /**
+     * Parsing state of one body, fed character by character.
+     */
+    private static final class State {
+
+        private final Charset charset;
+        private final Handler handler;
+        private final StringBuilder name = new StringBuilder();
+        private final StringBuilder value = new StringBuilder();
+        private boolean inValue = false;
+        //Decoded name when the value is needed, null to skip the value:
+        private String acceptedName = null;
+
+        private State(Charset charset, Handler handler) {
+            if (charset == null) {
+                throw new IllegalArgumentException("Charset cannot be null");
+            }
+            if (handler == null) {
+                throw new IllegalArgumentException("Handler cannot be null");
+            }
+            this.charset = charset;
+            this.handler = handler;
+        }
+
+        private void feed(char c) {
+            if (c == '&') {
+                end();
+            } else if (inValue) {
+                if (acceptedName != null) {
+                    value.append(c);
+                }
+            } else if (c == '=') {
+                inValue = true;
+                acceptedName = acceptName();
+            } else {
+                name.append(c);
+            }
+        }
+
+        private void end() {
+            String parameterName = inValue ? acceptedName : acceptName();
+            if (parameterName != null) {
+                String decodedValue = null;
+                try {
+                    decodedValue = decode(value, charset);
+                } catch (IllegalArgumentException e) {
+                    //Malformed value, skipped
+                }
+                if (decodedValue != null) {
+                    handler.value(parameterName, decodedValue);
+                }
+            }
+
+            name.setLength(0);
+            value.setLength(0);
+            inValue = false;
+            acceptedName = null;
+        }
+
+        private String acceptName() {
+            if (name.length() == 0) {
+                return null;
+            }
+
+            String decodedName;
+            try {
+                decodedName = decode(name, charset);
+            } catch (IllegalArgumentException e) {
+                return null;//Malformed name, skipped
+            }
+            return handler.accept(decodedName) ? decodedName : null;
+        }
+    }
+}
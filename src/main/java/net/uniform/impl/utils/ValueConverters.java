@@ -0,0 +1,213 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.impl.utils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.UUID;
+import net.uniform.api.ValueConverter;
+
+/**
+ * Built-in value converters. Integer, long and double converters also have primitive methods that avoid boxing.
+ *
+ * @author Eduardo Ramos
+ */
+public final class ValueConverters {
+
+    public static final ValueConverter<Byte> BYTE = new ToStringConverter<Byte>() {
+        @Override
+        public Byte parse(String value) {
+            return Byte.parseByte(value);
+        }
+    };
+
+    public static final ValueConverter<Short> SHORT = new ToStringConverter<Short>() {
+        @Override
+        public Short parse(String value) {
+            return Short.parseShort(value);
+        }
+    };
+
+    public static final IntConverter INTEGER = new IntConverter();
+
+    public static final LongConverter LONG = new LongConverter();
+
+    public static final ValueConverter<BigInteger> BIG_INTEGER = new ToStringConverter<BigInteger>() {
+        @Override
+        public BigInteger parse(String value) {
+            return new BigInteger(value);
+        }
+    };
+
+    public static final ValueConverter<Float> FLOAT = new ToStringConverter<Float>() {
+        @Override
+        public Float parse(String value) {
+            return Float.parseFloat(value);
+        }
+    };
+
+    public static final DoubleConverter DOUBLE = new DoubleConverter();
+
+    public static final ValueConverter<BigDecimal> BIG_DECIMAL = new ToStringConverter<BigDecimal>() {
+        @Override
+        public BigDecimal parse(String value) {
+            return new BigDecimal(value);
+        }
+    };
+
+    public static final ValueConverter<Boolean> BOOLEAN = new ToStringConverter<Boolean>() {
+        @Override
+        public Boolean parse(String value) {
+            return Boolean.parseBoolean(value);
+        }
+    };
+
+    public static final ValueConverter<UUID> UUID = new ToStringConverter<java.util.UUID>() {
+        @Override
+        public java.util.UUID parse(String value) {
+            return java.util.UUID.fromString(value);
+        }
+    };
+
+    private ValueConverters() {
+    }
+
+    private abstract static class ToStringConverter<T> implements ValueConverter<T> {
+
+        @Override
+        public String format(T value) {
+            return value.toString();
+        }
+    }
+
+    /**
+     * Integer converter with primitive parse and format methods.
+     */
+    public static final class IntConverter implements ValueConverter<Integer> {
+
+        private IntConverter() {
+        }
+
+        @Override
+        public Integer parse(String value) {
+            return parseInt(value);
+        }
+
+        public int parseInt(String value) {
+            return Integer.parseInt(value);
+        }
+
+        @Override
+        public String format(Integer value) {
+            return format(value.intValue());
+        }
+
+        public String format(int value) {
+            return Integer.toString(value);
+        }
+    }
+
+    /**
+     * Long converter with primitive parse and format methods.
+     */
+    public static final class LongConverter implements ValueConverter<Long> {
+
+        private LongConverter() {
+        }
+
+        @Override
+        public Long parse(String value) {
+            return parseLong(value);
+        }
+
+        public long parseLong(String value) {
+            return Long.parseLong(value);
+        }
+
+        @Override
+        public String format(Long value) {
+            return format(value.longValue());
+        }
+
+        public String format(long value) {
+            return Long.toString(value);
+        }
+    }
+
+    /**
+     * Double converter with primitive parse and format methods.
+     */
+    public static final class DoubleConverter implements ValueConverter<Double> {
+
+        private DoubleConverter() {
+        }
+
+        @Override
+        public Double parse(String value) {
+            return parseDouble(value);
+        }
+
+        public double parseDouble(String value) {
+            return Double.parseDouble(value);
+        }
+
+        @Override
+        public String format(Double value) {
+            return format(value.doubleValue());
+        }
+
+        public String format(double value) {
+            return Double.toString(value);
+        }
+    }
+
+    /**
+     * Converter of enum constants by name.
+     *
+     * @param <E> Enum type
+     */
+    public static final class EnumConverter<E extends Enum<E>> implements ValueConverter<E> {
+
+        private final Class<E> enumType;
+
+        public EnumConverter(Class<E> enumType) {
+            if (enumType == null) {
+                throw new IllegalArgumentException("Enum type cannot be null");
+            }
+            this.enumType = enumType;
+        }
+
+        @Override
+        public E parse(String value) {
+            return Enum.valueOf(enumType, value);
+        }
+
+        @Override
+        public String format(E value) {
+            return value.name();
+        }
+
+        @Override
+        public int hashCode() {
+            return enumType.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof EnumConverter && ((EnumConverter) obj).enumType == enumType;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.impl.utils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import net.uniform.api.Element;
+import net.uniform.api.ValueParser;
+import net.uniform.impl.AbstractElement;
+
+/**
+ * Basic value parsers supported by forms for value type conversion, and utilities to parse element values only once.
+ * The parsers are the default converters of {@link ConverterRegistry}.
+ *
+ * @author Eduardo Ramos
+ */
+public class ValueParsers {
+
+    public static final ValueParser<Byte> BYTE = ValueConverters.BYTE;
+
+    public static final ValueParser<Short> SHORT = ValueConverters.SHORT;
+
+    public static final ValueParser<Integer> INTEGER = ValueConverters.INTEGER;
+
+    public static final ValueParser<Long> LONG = ValueConverters.LONG;
+
+    public static final ValueParser<BigInteger> BIG_INTEGER = ValueConverters.BIG_INTEGER;
+
+    public static final ValueParser<Float> FLOAT = ValueConverters.FLOAT;
+
+    public static final ValueParser<Double> DOUBLE = ValueConverters.DOUBLE;
+
+    public static final ValueParser<BigDecimal> BIG_DECIMAL = ValueConverters.BIG_DECIMAL;
+
+    public static final ValueParser<Boolean> BOOLEAN = ValueConverters.BOOLEAN;
+
+    private ValueParsers() {
+    }
+
+    /**
+     * Returns the parser for a value type, that is its converter in {@link ConverterRegistry}.
+     *
+     * @param <T> Value type
+     * @param type Value type
+     * @return Parser or null if the type is not supported
+     */
+    public static <T> ValueParser<T> forType(Class<T> type) {
+        return ConverterRegistry.forType(type);
+    }
+
+    /**
+     * Parses a value of an element, reusing the parsed value kept by the element when possible, so the same value is only parsed once by validators and conversion.
+     *
+     * @param <T> Parsed type
+     * @param element Element that holds the value
+     * @param value Value to parse, it will be trimmed
+     * @param parser Parser
+     * @return Parsed value or null if the value is null or empty
+     * @throws IllegalArgumentException If the value is not valid for the parser
+     */
+    public static <T> T parse(Element element, String value, ValueParser<T> parser) {
+        if (element instanceof AbstractElement) {
+            return ((AbstractElement) element).getParsedValue(value, parser);
+        }
+
+        return parse(value, parser);
+    }
+
+    /**
+     * Parses a value without using any parsed value kept by an element.
+     *
+     * @param <T> Parsed type
+     * @param value Value to parse, it will be trimmed
+     * @param parser Parser
+     * @return Parsed value or null if the value is null or empty
+     * @throws IllegalArgumentException If the value is not valid for the parser
+     */
+    public static <T> T parse(String value, ValueParser<T> parser) {
+        if (value == null) {
+            return null;
+        }
+
+        value = value.trim();
+        if (value.isEmpty()) {
+            return null;
+        }
+
+        return parser.parse(value);
+    }
+}
@@ -0,0 +1,269 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import net.uniform.impl.utils.UniformUtils;
+
+/**
+ * Measures the time and allocation of reading and filling a bean with 40 properties.
+ * Not run as part of the tests, run its main method.
+ *
+ * @author Eduardo Ramos
+ */
+public class BeanBindingBenchmark {
+
+    private static final int ITERATIONS = 200000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        Dto source = new Dto();
+        source.text0 = "text";
+        source.setValue0(19);
+        source.setValue1("value");
+
+        for (int round = 0; round < ROUNDS; round++) {
+            long allocatedBefore = allocatedBytes();
+            long start = System.nanoTime();
+
+            int checksum = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                Map<String, Object> properties = UniformUtils.getBeanProperties(source);
+                Dto target = new Dto();
+                UniformUtils.fillBeanProperties(target, properties);
+                checksum += target.getValue0();
+            }
+
+            long nanos = System.nanoTime() - start;
+            long allocated = allocatedBytes() - allocatedBefore;
+            System.out.println(String.format("%d ns per read and fill, %d bytes allocated (checksum %d)", nanos / ITERATIONS, allocated / ITERATIONS, checksum));
+        }
+    }
+
+    private static long allocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    public static class Dto {
+
+        public String text0;
+        public String text1;
+        public String text2;
+        public String text3;
+        public String text4;
+        public String text5;
+        public String text6;
+        public String text7;
+        public String text8;
+        public String text9;
+        public String text10;
+        public String text11;
+        public String text12;
+        public String text13;
+        public String text14;
+        public String text15;
+        public String text16;
+        public String text17;
+        public String text18;
+        public String text19;
+        private Integer value0;
+        private String value1;
+        private Integer value2;
+        private String value3;
+        private Integer value4;
+        private String value5;
+        private Integer value6;
+        private String value7;
+        private Integer value8;
+        private String value9;
+        private Integer value10;
+        private String value11;
+        private Integer value12;
+        private String value13;
+        private Integer value14;
+        private String value15;
+        private Integer value16;
+        private String value17;
+        private Integer value18;
+        private String value19;
+
+        public Integer getValue0() {
+            return value0;
+        }
+
+        public void setValue0(Integer value0) {
+            this.value0 = value0;
+        }
+
+        public String getValue1() {
+            return value1;
+        }
+
+        public void setValue1(String value1) {
+            this.value1 = value1;
+        }
+
+        public Integer getValue2() {
+            return value2;
+        }
+
+        public void setValue2(Integer value2) {
+            this.value2 = value2;
+        }
+
+        public String getValue3() {
+            return value3;
+        }
+
+        public void setValue3(String value3) {
+            this.value3 = value3;
+        }
+
+        public Integer getValue4() {
+            return value4;
+        }
+
+        public void setValue4(Integer value4) {
+            this.value4 = value4;
+        }
+
+        public String getValue5() {
+            return value5;
+        }
+
+        public void setValue5(String value5) {
+            this.value5 = value5;
+        }
+
+        public Integer getValue6() {
+            return value6;
+        }
+
+        public void setValue6(Integer value6) {
+            this.value6 = value6;
+        }
+
+        public String getValue7() {
+            return value7;
+        }
+
+        public void setValue7(String value7) {
+            this.value7 = value7;
+        }
+
+        public Integer getValue8() {
+            return value8;
+        }
+
+        public void setValue8(Integer value8) {
+            this.value8 = value8;
+        }
+
+        public String getValue9() {
+            return value9;
+        }
+
+        public void setValue9(String value9) {
+            this.value9 = value9;
+        }
+
+        public Integer getValue10() {
+            return value10;
+        }
+
+        public void setValue10(Integer value10) {
+            this.value10 = value10;
+        }
+
+        public String getValue11() {
+            return value11;
+        }
+
+        public void setValue11(String value11) {
+            this.value11 = value11;
+        }
+
+        public Integer getValue12() {
+            return value12;
+        }
+
+        public void setValue12(Integer value12) {
+            this.value12 = value12;
+        }
+
+        public String getValue13() {
+            return value13;
+        }
+
+        public void setValue13(String value13) {
+            this.value13 = value13;
+        }
+
+        public Integer getValue14() {
+            return value14;
+        }
+
+        public void setValue14(Integer value14) {
+            this.value14 = value14;
+        }
+
+        public String getValue15() {
+            return value15;
+        }
+
+        public void setValue15(String value15) {
+            this.value15 = value15;
+        }
+
+        public Integer getValue16() {
+            return value16;
+        }
+
+        public void setValue16(Integer value16) {
+            this.value16 = value16;
+        }
+
+        public String getValue17() {
+            return value17;
+        }
+
+        public void setValue17(String value17) {
+            this.value17 = value17;
+        }
+
+        public Integer getValue18() {
+            return value18;
+        }
+
+        public void setValue18(Integer value18) {
+            this.value18 = value18;
+        }
+
+        public String getValue19() {
+            return value19;
+        }
+
+        public void setValue19(String value19) {
+            this.value19 = value19;
+        }
+    }
+}
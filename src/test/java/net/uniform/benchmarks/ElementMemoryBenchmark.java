@@ -0,0 +1,98 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.uniform.api.Element;
+import net.uniform.html.HTMLForm;
+import net.uniform.html.elements.Checkbox;
+import net.uniform.html.elements.Input;
+
+/**
+ * Measures the retained heap size per element of a large form.
+ * Not run as part of the tests, run its main method with a fixed heap, for example {@code -Xms1g -Xmx1g}.
+ *
+ * @author Eduardo Ramos
+ */
+public class ElementMemoryBenchmark {
+
+    private static final int ELEMENTS = 20000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        int elements = args.length > 0 ? Integer.parseInt(args[0]) : ELEMENTS;
+
+        System.out.println("Elements only:");
+        for (int round = 0; round < ROUNDS; round++) {
+            report(elements, false);
+        }
+
+        System.out.println("Elements in a form with values:");
+        for (int round = 0; round < ROUNDS; round++) {
+            report(elements, true);
+        }
+    }
+
+    private static void report(int elements, boolean inForm) {
+        long before = usedMemory();
+        Object retained = inForm ? buildForm(elements) : buildElements(elements);
+        long after = usedMemory();
+
+        System.out.println(String.format("  %d bytes per element", (after - before) / elements));
+        if (retained.hashCode() == 42) {
+            System.out.println();//Keep it alive until measured
+        }
+    }
+
+    private static List<Element> buildElements(int elements) {
+        List<Element> result = new ArrayList<>(elements);
+        for (int i = 0; i < elements; i++) {
+            result.add(newElement(i));
+        }
+        return result;
+    }
+
+    private static HTMLForm buildForm(int elements) {
+        HTMLForm form = new HTMLForm();
+        for (int i = 0; i < elements; i++) {
+            Element element = newElement(i);
+            form.addElement(element);
+            element.setValue(i % 2 == 0 ? "value" + i : null);
+        }
+        return form;
+    }
+
+    private static Element newElement(int i) {
+        if (i % 4 == 0) {
+            return new Checkbox("checkbox" + i);
+        }
+        return new Input("input" + i);
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
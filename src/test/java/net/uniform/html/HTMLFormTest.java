@@ -16,18 +16,26 @@
 package net.uniform.html;
 
 import java.math.BigDecimal;
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import net.uniform.api.Decorator;
 import net.uniform.api.Element;
+import net.uniform.api.FieldValidationResult;
 import net.uniform.api.Form;
+import net.uniform.api.html.SimpleHTMLTag;
 import net.uniform.api.TranslationEngineContext;
 import net.uniform.exceptions.UniformException;
+import net.uniform.html.beans.FormBeanCustomer;
 import net.uniform.html.beans.FormBeanGettersAndSetters;
+import net.uniform.html.beans.FormBeanImmutable;
 import net.uniform.html.beans.FormBeanMixed;
 import net.uniform.html.beans.FormBeanPublic;
 import net.uniform.html.beans.FormBeanPublic2;
@@ -36,14 +44,20 @@ import net.uniform.html.decorators.HTMLTagDecorator;
 import net.uniform.html.decorators.LabelDecorator;
 import net.uniform.html.elements.Checkbox;
 import net.uniform.html.elements.Input;
+import net.uniform.html.elements.IntegerInput;
 import net.uniform.html.elements.Multiselect;
 import net.uniform.html.elements.Select;
+import net.uniform.html.renderers.InputRenderer;
+import net.uniform.html.renderers.SelectRenderer;
+import net.uniform.impl.AbstractDecorator;
+import net.uniform.impl.utils.ConverterRegistryTest;
 import net.uniform.impl.translation.SimpleTranslationEngine;
 import static net.uniform.testutils.HTMLTest.assertHTMLEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import org.junit.Before;
 import org.junit.Test;
@@ -268,6 +282,16 @@ public class HTMLFormTest {
         assertEquals(new ArrayList<String>(), form.getElementValueConvertedToValueType("multi"));
     }
 
+    @Test
+    public void testRegisteredConverterValueType() {
+        Input input = (Input) form.getElement("field1");
+        input.setValueType(ConverterRegistryTest.Color.class);
+
+        form.setElementValue("field1", ConverterRegistryTest.Color.GREEN);
+        assertEquals("GREEN", form.getElementValue("field1"));
+        assertEquals(ConverterRegistryTest.Color.GREEN, form.getElementValueConvertedToValueType("field1"));
+    }
+
     @Test(expected = UniformException.class)
     public void testTypeConversionError() {
         Input input = (Input) form.getElement("field1");
@@ -304,6 +328,24 @@ public class HTMLFormTest {
         }, form.getFormData());
     }
 
+    @Test
+    public void testPopulateBeanTrusted() {
+        FormBeanPublic bean = new FormBeanPublic(" 1 ", "2", "3", true);
+
+        form.populateBean(bean);
+        assertEquals("1", form.getElementValue("field1"));//Filtered by default
+
+        form.populateBean(bean, false, true);
+        assertEquals(" 1 ", form.getElementValue("field1"));
+        assertEquals("2", form.getElementValue("selectId"));
+        assertEquals(Arrays.asList("3"), form.getElementValue("multi"));
+        assertEquals("true", form.getElementValue("chk"));
+
+        form.setElementValue("field1", "keep");
+        form.populateBean(null, false, true);
+        assertEquals("keep", form.getElementValue("field1"));
+    }
+
     @Test
     public void testGetFormDataIntoBean() {
         form.reset();
@@ -338,6 +380,75 @@ public class HTMLFormTest {
         assertEquals(expectedBean5, resultBean5);
     }
 
+    @Test
+    public void testGetFormDataAsBean() {
+        form.reset();
+
+        form.setElementValue("field1", "1");
+        form.setElementValue("selectId", "2");
+        form.setElementValue("multi", Arrays.asList("3"));
+        form.setElementValue("chk", true);
+
+        assertEquals(new FormBeanImmutable("1", 2, Arrays.asList(3L), true), form.getFormDataAsBean(FormBeanImmutable.class));
+
+        form.reset();
+        assertEquals(new FormBeanImmutable(null, 0, new ArrayList<Long>(), false), form.getFormDataAsBean(FormBeanImmutable.class));
+    }
+
+    @Test
+    public void testNestedPropertyPaths() {
+        HTMLForm nestedForm = new HTMLForm();
+        nestedForm.addElement(new Input("name"));
+        nestedForm.addElement(new Input("street").setProperty("name", "address.street"));
+        nestedForm.addElement(new IntegerInput("number").setProperty("name", "address.number"));
+
+        nestedForm.setElementValue("name", "John");
+        nestedForm.setElementValue("street", "Main");
+        nestedForm.setElementValue("number", "7");
+
+        FormBeanCustomer customer = nestedForm.getFormDataAsBean(FormBeanCustomer.class);
+        assertEquals("John", customer.name);
+        assertEquals("Main", customer.getAddress().street);
+        assertEquals(7, customer.getAddress().getNumber());
+
+        customer.getAddress().street = "Second";
+        nestedForm.populateBean(customer);
+        assertEquals("Second", nestedForm.getElementValue("street"));
+        assertEquals("7", nestedForm.getElementValue("number"));
+
+        customer.setAddress(null);
+        nestedForm.populateBean(customer);
+        assertEquals("John", nestedForm.getElementValue("name"));
+        assertNull(nestedForm.getElementValue("street"));
+    }
+
+    @Test
+    public void testPopulateUrlEncoded() throws Exception {
+        Charset utf8 = Charset.forName("UTF-8");
+        String body = "inputName=a+b%20c&unknown=%zz&selectName=5&multi=6&multi=7&inputName=ignored&chk=true";
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("inputName", "a b c");
+        expected.put("selectName", "5");
+        expected.put("multi", Arrays.asList("6", "7"));
+        expected.put("chk", "true");
+
+        form.populateUrlEncoded(body, utf8, false);
+        assertEquals(expected, form.getFormData());
+
+        form.populateUrlEncoded(ByteBuffer.wrap(body.getBytes(utf8)), utf8, false);
+        assertEquals(expected, form.getFormData());
+
+        form.populateUrlEncoded(new ByteArrayInputStream(body.getBytes(utf8)), utf8, false);
+        assertEquals(expected, form.getFormData());
+
+        form.populateUrlEncoded("selectName=8", utf8, true);
+        assertEquals("a b c", form.getElementValue("field1"));
+        assertEquals("8", form.getElementValue("selectId"));
+
+        form.populateUrlEncoded("selectName=8", utf8, false);
+        assertNull(form.getElementValue("field1"));
+    }
+
     @Test
     public void testDefaults() {
         assertNotNull(form.getDefaultDecoratorsForElementClass(Element.class));
@@ -355,6 +466,18 @@ public class HTMLFormTest {
         assertNotNull(form.getDefaultDecoratorsForElementClass(Element.class));
         assertNotNull(form.getDefaultDecoratorsAppliedToElementClass(Input.class));
         assertNotNull(form.getDefaultDecoratorsAppliedToElementClass(Select.class));
+
+        //Resolved renderers follow changes of the defaults:
+        assertNull(form.getDefaultRendererAppliedToElementClass(Input.class));
+        form.setDefaultRendererForElementClass(Element.class, SelectRenderer.INSTANCE);
+        assertEquals(SelectRenderer.INSTANCE, form.getDefaultRendererAppliedToElementClass(Input.class));
+        form.setDefaultRendererForElementClass(Input.class, InputRenderer.INSTANCE);
+        assertEquals(InputRenderer.INSTANCE, form.getDefaultRendererAppliedToElementClass(Input.class));
+        assertEquals(SelectRenderer.INSTANCE, form.getDefaultRendererAppliedToElementClass(Select.class));
+        form.removeDefaultRendererForElementClass(Input.class);
+        assertNull(form.getDefaultRendererAppliedToElementClass(Input.class));
+
+        assertTrue(new Input("input").getDefaultRenderer() == InputRenderer.INSTANCE);
     }
 
     @Test
@@ -528,6 +651,17 @@ public class HTMLFormTest {
         form.render();
     }
 
+    @Test(expected = IllegalStateException.class)
+    public void testDecoratorEndWithoutStart() {
+        HTMLForm unmatched = new HTMLForm() {
+            {
+                renderingParts.add("END_DECORATOR_missing");
+            }
+        };
+
+        unmatched.render();
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testNullPropertyInvalid() {
         form.setProperty(null, "test");
@@ -559,4 +693,183 @@ public class HTMLFormTest {
 
         assertEquals(form.getProperties().get("title"), "Test2");
     }
+
+    @Test
+    public void testValidateField() {
+        HTMLForm simpleForm = new HTMLForm();
+        simpleForm.addElement(new Input("name").setRequired());
+        simpleForm.addElement(new Input("other").setRequired());
+        simpleForm.setElementValue("name", "John");
+
+        FieldValidationResult result = simpleForm.validateField("name", Arrays.asList("  "));
+        assertFalse(result.isValid());
+        assertEquals(1, result.getErrors().size());
+        assertEquals("name", result.getName());
+        assertEquals(Arrays.asList("John"), simpleForm.getElement("name").getValue());
+        assertFalse(simpleForm.getElement("name").validationPerformed());
+        assertFalse(simpleForm.getElement("other").validationPerformed());
+
+        result = simpleForm.validateField("name", Arrays.asList("Jane"));
+        assertTrue(result.isValid());
+        assertEquals(Boolean.TRUE, result.toMap().get("valid"));
+        assertEquals("name", result.toMap().get("id"));
+    }
+
+    @Test
+    public void testCopy() {
+        String html = form.renderHTML();
+
+        Form copy = form.copy();
+        assertHTMLEquals(html, copy.renderHTML());
+        assertEquals(form.getFormData(), copy.getFormData());
+
+        //Changes in the copy do not affect the original form:
+        copy.setElementValue("field1", "Copy");
+        copy.getElement("field1").setDecoratorProperty(LabelDecorator.class, "class", "copy-class");
+        copy.getDecorator("group1").setProperty("class", "copy-group");
+        ((Select) copy.getElement("selectId")).addOption("3", "Three");
+        copy.removeElement("chk");
+        copy.setProperty("method", HTMLForm.METHOD_GET);
+
+        assertHTMLEquals(html, form.renderHTML());
+        assertEquals("Copy", copy.getElementValue("field1"));
+        assertEquals(3, ((Select) form.getElement("selectId")).getOptions().size());
+        assertEquals(4, ((Select) copy.getElement("selectId")).getOptions().size());
+        assertTrue(copy.renderHTML().contains("copy-group"));
+        assertTrue(copy.renderHTML().contains("copy-class"));
+
+        //Changing options in the original form does not affect the copy either:
+        ((Select) form.getElement("selectId")).removeOption("2");
+        assertEquals(4, ((Select) copy.getElement("selectId")).getOptions().size());
+    }
+
+    @Test
+    public void testSharedDefaultDecorators() {
+        Form simpleForm = new HTMLForm();
+        Input first = new Input("first");
+        Input second = new Input("second");
+        simpleForm.addElements(first, second);
+
+        //Stateless default decorators are shared by all elements:
+        assertTrue(first.getDecoratorsView().get(0) == second.getDecoratorsView().get(0));
+        assertTrue(((AbstractDecorator) first.getDecoratorsView().get(0)).isImmutable());
+
+        //Changing a decorator of an element gives it its own copy:
+        first.setDecoratorProperty(LabelDecorator.class, "class", "first-class");
+        assertFalse(first.getDecoratorsView().get(0) == second.getDecoratorsView().get(0));
+        assertEquals("first-class", first.getDecorator(LabelDecorator.class).getProperty("class"));
+        assertEquals(LabelDecorator.DEFAULT_CLASS, second.getDecoratorsView().get(0).getProperty("class"));
+
+        second.getDecorator(LabelDecorator.class).setProperty("class", "second-class");
+        assertEquals("second-class", second.getDecoratorsView().get(0).getProperty("class"));
+
+        //Decorators returned by getDecorators() belong to the element too:
+        Input third = new Input("third");
+        simpleForm.addElement(third);
+        third.getDecorators().get(0).setProperty("class", "third-class");
+        assertEquals("third-class", third.getDecoratorsView().get(0).getProperty("class"));
+        assertEquals("second-class", second.getDecoratorsView().get(0).getProperty("class"));
+        assertFalse(((AbstractDecorator) third.getDecoratorsView().get(0)).isImmutable());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSharedDecoratorPropertiesUnmodifiable() {
+        new AbstractDecorator() {
+            {
+                properties.put("class", "shared");
+            }
+
+            @Override
+            public List<SimpleHTMLTag> render(Form form, List<Element> elements, List<SimpleHTMLTag> rendered) {
+                properties.put("class", "changed");
+                return rendered;
+            }
+        }.immutableCopy().render(null, null, null);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSharedDecoratorImmutable() {
+        new LabelDecorator().immutableCopy().setProperty("class", "other");
+    }
+
+    @Test
+    public void testElementsIndexByNameUnmodifiable() {
+        final boolean[] rejected = new boolean[2];
+        HTMLForm indexForm = new HTMLForm() {
+            {
+                addElement(new Input("a"));
+                Map<String, List<Element>> index = elementsIndexByName();
+                try {
+                    index.remove("a");
+                } catch (UnsupportedOperationException e) {
+                    rejected[0] = true;
+                }
+                try {
+                    index.get("a").clear();
+                } catch (UnsupportedOperationException e) {
+                    rejected[1] = true;
+                }
+            }
+        };
+
+        assertTrue(rejected[0]);
+        assertTrue(rejected[1]);
+        indexForm.setElementValue("a", "value");
+        indexForm.populate(new HashMap<String, List<String>>());
+        assertNull(indexForm.getElementValue("a"));
+        indexForm.populateSimple(Collections.singletonMap("a", "other"));
+        assertEquals("other", indexForm.getElementValue("a"));
+    }
+
+    @Test
+    public void testMoveElements() {
+        HTMLForm simpleForm = new HTMLForm();
+        simpleForm.removeDecorator("form-level-errors");
+        simpleForm.removeDefaultDecoratorsForElementClass(Element.class);
+        simpleForm.addElement(new Input("a"));
+        simpleForm.startDecorator("group", new HTMLTagDecorator("div"));
+        simpleForm.addElement(new Input("b"));
+        simpleForm.endDecorator();
+        simpleForm.addElement(new Input("c"));
+
+        simpleForm.moveElementBefore("c", "b");
+        simpleForm.moveElementAfter("a", "b");
+        assertHTMLEquals("<form method=\"POST\"><div><input id=\"c\" name=\"c\" type=\"text\" value=\"\"/><input id=\"b\" name=\"b\" type=\"text\" value=\"\"/><input id=\"a\" name=\"a\" type=\"text\" value=\"\"/></div></form>", simpleForm.renderHTML());
+
+        simpleForm.removeDecorator("group");
+        assertHTMLEquals("<form method=\"POST\"><input id=\"c\" name=\"c\" type=\"text\" value=\"\"/><input id=\"b\" name=\"b\" type=\"text\" value=\"\"/><input id=\"a\" name=\"a\" type=\"text\" value=\"\"/></form>", simpleForm.renderHTML());
+    }
+
+    @Test
+    public void testReusedFormDecorator() {
+        HTMLForm simpleForm = new HTMLForm();
+        simpleForm.removeDecorator("form-level-errors");
+        simpleForm.removeDefaultDecoratorsForElementClass(Element.class);
+
+        HTMLTagDecorator group = new HTMLTagDecorator("div");
+        simpleForm.startDecorator("group1", group);
+        simpleForm.addElement(new Input("a"));
+        simpleForm.endDecorator();
+        simpleForm.startDecorator("group2", group);
+        simpleForm.addElement(new Input("b"));
+        simpleForm.endDecorator();
+
+        String expected = "<form method=\"POST\"><div><input id=\"a\" name=\"a\" type=\"text\" value=\"\"/></div><div><input id=\"b\" name=\"b\" type=\"text\" value=\"\"/></div></form>";
+        assertHTMLEquals(expected, simpleForm.renderHTML());
+        assertHTMLEquals(expected, simpleForm.copy().renderHTML());
+
+        simpleForm.freeze();
+        assertSame(simpleForm.getDecorator("group1"), simpleForm.getDecorator("group2"));
+        assertHTMLEquals(expected, simpleForm.renderHTML());
+
+        Form copy = simpleForm.copy();
+        assertSame(copy.getDecorator("group1"), copy.getDecorator("group2"));
+        copy.removeDecorator("group1");
+        assertHTMLEquals("<form method=\"POST\"><input id=\"a\" name=\"a\" type=\"text\" value=\"\"/><div><input id=\"b\" name=\"b\" type=\"text\" value=\"\"/></div></form>", copy.renderHTML());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testValidateFieldNotFound() {
+        new HTMLForm().validateField("missing", null);
+    }
 }
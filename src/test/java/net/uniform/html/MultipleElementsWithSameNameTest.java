@@ -282,4 +282,43 @@ public class MultipleElementsWithSameNameTest {
 
         form.getFormData();//Throws the exception
     }
+
+    @Test
+    public void testRenameElements() {
+        HTMLForm form = new HTMLForm();
+
+        Input i1 = new Input("i1");
+        Input i2 = new Input("i2");
+        Input i3 = new Input("i3");
+        form.addElements(i1, i2, i3);
+
+        //Rename after adding, keeping rendering order for repeated names:
+        i3.setProperty("name", "repeated");
+        i1.setProperty("name", "repeated");
+        form.populate(new HashMap<String, List<String>>() {
+            {
+                put("repeated", Arrays.asList("a", "b"));
+                put("i2", Arrays.asList("c"));
+            }
+        });
+        Assert.assertEquals("a", i1.getFirstValue());
+        Assert.assertEquals("c", i2.getFirstValue());
+        Assert.assertEquals("b", i3.getFirstValue());
+        Assert.assertEquals(Arrays.asList("a", "b"), form.getFormData().get("repeated"));
+
+        //Value type changes are checked too:
+        i1.setValueType(Long.class);
+        try {
+            form.getFormData();
+            Assert.fail("Different value types should not be allowed");
+        } catch (IllegalStateException e) {
+        }
+
+        i1.setValueType(String.class);
+        form.removeElement(i3);
+        Assert.assertEquals("a", form.getFormData().get("repeated"));
+
+        i1.removeProperty("name");
+        Assert.assertFalse(form.getFormData().containsKey("repeated"));
+    }
 }
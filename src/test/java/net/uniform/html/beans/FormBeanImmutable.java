@@ -0,0 +1,92 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.html.beans;
+
+import java.beans.ConstructorProperties;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ *
+ * @author Eduardo Ramos
+ */
+public final class FormBeanImmutable {
+
+    private final String inputName;
+    private final int selectName;
+    private final List<Long> multi;
+    private final boolean chk;
+
+    @ConstructorProperties({"inputName", "selectName", "multi", "chk"})
+    public FormBeanImmutable(String inputName, int selectName, List<Long> multi, boolean chk) {
+        this.inputName = inputName;
+        this.selectName = selectName;
+        this.multi = multi;
+        this.chk = chk;
+    }
+
+    public String getInputName() {
+        return inputName;
+    }
+
+    public int getSelectName() {
+        return selectName;
+    }
+
+    public List<Long> getMulti() {
+        return multi;
+    }
+
+    public boolean isChk() {
+        return chk;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 5;
+        hash = 29 * hash + Objects.hashCode(this.inputName);
+        hash = 29 * hash + this.selectName;
+        hash = 29 * hash + Objects.hashCode(this.multi);
+        hash = 29 * hash + (this.chk ? 1 : 0);
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final FormBeanImmutable other = (FormBeanImmutable) obj;
+        if (!Objects.equals(this.inputName, other.inputName)) {
+            return false;
+        }
+        if (this.selectName != other.selectName) {
+            return false;
+        }
+        if (!Objects.equals(this.multi, other.multi)) {
+            return false;
+        }
+        return this.chk == other.chk;
+    }
+
+    @Override
+    public String toString() {
+        return "FormBeanImmutable{" + "inputName=" + inputName + ", selectName=" + selectName + ", multi=" + multi + ", chk=" + chk + '}';
+    }
+}
@@ -0,0 +1,61 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.html.beans;
+
+import java.util.Objects;
+
+/**
+ *
+ * @author Eduardo Ramos
+ */
+public class FormBeanRow {
+
+    public String product;
+    public Integer quantity;
+
+    public FormBeanRow() {
+    }
+
+    public FormBeanRow(String product, Integer quantity) {
+        this.product = product;
+        this.quantity = quantity;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 5;
+        hash = 23 * hash + Objects.hashCode(this.product);
+        hash = 23 * hash + Objects.hashCode(this.quantity);
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final FormBeanRow other = (FormBeanRow) obj;
+        return Objects.equals(this.product, other.product) && Objects.equals(this.quantity, other.quantity);
+    }
+
+    @Override
+    public String toString() {
+        return "FormBeanRow{" + "product=" + product + ", quantity=" + quantity + '}';
+    }
+}
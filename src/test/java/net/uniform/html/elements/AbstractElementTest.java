@@ -16,10 +16,13 @@
 package net.uniform.html.elements;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import net.uniform.api.Decorator;
 import net.uniform.api.Element;
 import net.uniform.api.Filter;
+import net.uniform.api.PropertyVisitor;
 import net.uniform.api.Renderer;
 import net.uniform.api.Validator;
 import net.uniform.api.html.SimpleHTMLTag;
@@ -37,6 +40,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import org.junit.Test;
 
 /**
@@ -88,6 +92,55 @@ public class AbstractElementTest {
         assertFalse(elem.getProperties().isEmpty());
     }
 
+    @Test
+    public void testPropertiesView() {
+        AbstractElement elem = new EmptyElement("id");
+        Map<String, String> view = elem.getPropertiesView();
+        assertTrue(view.isEmpty());
+
+        elem.setProperty("prop1", "val1");
+        assertEquals("val1", view.get("prop1"));//View reflects changes
+        try {
+            view.clear();
+            fail("View should not be modifiable");
+        } catch (UnsupportedOperationException e) {
+        }
+
+        final Map<String, String> visited = new HashMap<>();
+        elem.forEachProperty(new PropertyVisitor<String>() {
+
+            @Override
+            public void visit(String key, String value) {
+                visited.put(key, value);
+            }
+        });
+        assertEquals(elem.getProperties(), visited);
+
+        elem.addValidator(new RequiredValidator());
+        assertEquals(elem.getValidators(), elem.getValidatorsView());
+        try {
+            elem.getValidatorsView().clear();
+            fail("View should not be modifiable");
+        } catch (UnsupportedOperationException e) {
+        }
+    }
+
+    @Test
+    public void testSharedDefaultFilters() {
+        Input input1 = new Input("input1");
+        Input input2 = new Input("input2");
+        assertEquals(2, input1.getFilters().size());
+        assertEquals(input1.getFilters(), input2.getFilters());
+
+        List<Filter> view = input1.getFiltersView();
+        input1.addFilter(new StringTrim());
+        assertEquals(3, view.size());
+        assertEquals(2, input2.getFilters().size());
+
+        input2.setValue("  value\n");
+        assertEquals(Arrays.asList("value"), input2.getValue());
+    }
+
     @Test
     public void testDecorators() {
         Element elem = new EmptyElement("id");
@@ -15,9 +15,13 @@
  */
 package net.uniform.html.elements;
 
+import java.text.ParsePosition;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import net.uniform.api.Form;
+import net.uniform.html.HTMLForm;
+import net.uniform.html.formvalidators.DateRangeValidator;
 import net.uniform.exceptions.UniformException;
 import net.uniform.impl.utils.HTMLRenderingUtils;
 import net.uniform.testutils.HTMLTest;
@@ -75,4 +79,35 @@ public class DatePickerTest {
         DatePicker datePicker = new DatePicker("date");
         datePicker.setValueType(Integer.class);
     }
+
+    @Test
+    public void testValueParsedOnce() {
+        final int[] parses = new int[1];
+        SimpleDateFormat countingFormat = new SimpleDateFormat(DatePicker.DEFAULT_DATE_FORMAT) {
+            @Override
+            public Date parse(String source, ParsePosition pos) {
+                parses[0]++;
+                return super.parse(source, pos);
+            }
+        };
+        countingFormat.setLenient(false);
+
+        Form form = new HTMLForm();
+        form.addElement(new DatePicker("start", countingFormat));
+        form.addElement(new DatePicker("end"));
+        form.addValidator(new DateRangeValidator("start", "end"));
+
+        form.setElementValue("start", "2015-03-28");
+        form.setElementValue("end", "2015-03-29");
+
+        assertTrue(form.isValid());
+        assertEquals(1, parses[0]);
+
+        form.getFormDataConvertedToElementValueTypes();
+        assertEquals(1, parses[0]);
+
+        form.setElementValue("start", "2015-03-27");
+        assertTrue(form.isValid());
+        assertEquals(2, parses[0]);
+    }
 }
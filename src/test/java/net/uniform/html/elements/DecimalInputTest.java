@@ -0,0 +1,108 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.html.elements;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Locale;
+import net.uniform.api.TranslationEngineContext;
+import net.uniform.exceptions.UniformException;
+import net.uniform.impl.utils.HTMLRenderingUtils;
+import static net.uniform.testutils.HTMLTest.assertHTMLEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * @author Eduardo Ramos
+ */
+public class DecimalInputTest {
+
+    @Before
+    public void setUp() {
+        TranslationEngineContext.getTranslationEngine().setLocale(Locale.ENGLISH);
+    }
+
+    @Test
+    public void test() {
+        DecimalInput input = new DecimalInput("price");
+        input.setMin(BigDecimal.ZERO).setMax(new BigDecimal("99.99"));
+        input.setValue(new BigDecimal("12.5"));
+
+        assertTrue(input.isValid());
+        assertEquals(1250, input.getUnscaledValue());
+        assertEquals(12.5, input.getDouble(), 0);
+        assertEquals(new BigDecimal("12.50"), input.getConvertedValue());
+        assertHTMLEquals("<input id=\"price\" max=\"99.99\" min=\"0.00\" name=\"price\" step=\"0.01\" type=\"number\" value=\"12.50\"/>", HTMLRenderingUtils.render(input.render()));
+
+        input.setValue("100");
+        assertEquals(Arrays.asList("'100' must be less than or equal to '99.99'"), input.getValidationErrors());
+
+        input.setValue("1.234");
+        assertEquals(Arrays.asList("'1.234' is not a valid number"), input.getValidationErrors());
+
+        input.setValue("1.2300");
+        assertTrue(input.isValid());
+        assertEquals(123, input.getUnscaledValue());
+    }
+
+    @Test
+    public void testParsing() {
+        DecimalInput input = new DecimalInput("amount", 3);
+
+        String[][] values = {
+            {"0", "0"},
+            {"-1.5", "-1500"},
+            {"+.25", "250"},
+            {"7.", "7000"},
+            {"-9223372036854775.808", String.valueOf(Long.MIN_VALUE)},
+            {"9223372036854775.807", String.valueOf(Long.MAX_VALUE)}
+        };
+        for (String[] value : values) {
+            input.setValue(value[0]);
+            assertEquals(value[0], Long.parseLong(value[1]), input.getUnscaledValue());
+        }
+
+        for (String invalid : new String[]{".", "-", "1.2.3", "1e3", "9223372036854775.808", "1,5"}) {
+            input.setValue(invalid);
+            assertFalse(invalid, input.hasNumber());
+        }
+    }
+
+    @Test
+    public void testIntegerScale() {
+        DecimalInput input = new DecimalInput("amount", 0);
+        input.setUnscaledValue(15);
+        assertEquals("15", input.getFirstValue());
+        assertEquals(new BigDecimal("15"), input.getConvertedValue());
+        assertEquals(Arrays.asList("'1.5' is not a valid integer"), input.setValue("1.5").getValidationErrors());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooManyDecimals() {
+        new DecimalInput("price").setValue(new BigDecimal("1.001"));
+    }
+
+    @Test(expected = UniformException.class)
+    public void testBadData() {
+        DecimalInput input = new DecimalInput("price");
+        input.setValue("abc");
+        input.getUnscaledValue();
+    }
+}
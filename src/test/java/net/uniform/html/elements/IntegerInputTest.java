@@ -0,0 +1,112 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.html.elements;
+
+import java.util.Arrays;
+import java.util.Locale;
+import net.uniform.api.Form;
+import net.uniform.api.TranslationEngineContext;
+import net.uniform.exceptions.UniformException;
+import net.uniform.html.HTMLForm;
+import net.uniform.impl.utils.HTMLRenderingUtils;
+import static net.uniform.testutils.HTMLTest.assertHTMLEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * @author Eduardo Ramos
+ */
+public class IntegerInputTest {
+
+    @Before
+    public void setUp() {
+        TranslationEngineContext.getTranslationEngine().setLocale(Locale.ENGLISH);
+    }
+
+    @Test
+    public void test() {
+        IntegerInput input = new IntegerInput("count");
+        input.setMin(1).setMax(10);
+        input.setValue(5);
+
+        assertTrue(input.isValid());
+        assertEquals(5, input.getInt());
+        assertEquals(Integer.valueOf(5), input.getConvertedValue());
+        assertHTMLEquals("<input id=\"count\" max=\"10\" min=\"1\" name=\"count\" type=\"number\" value=\"5\"/>", HTMLRenderingUtils.render(input.render()));
+
+        input.setValue(" 11 ");
+        assertEquals(Arrays.asList("'11' must be less than or equal to '10'"), input.getValidationErrors());
+
+        input.setValue("0");
+        assertEquals(Arrays.asList("'0' must be greater than or equal to '1'"), input.getValidationErrors());
+
+        input.setValue("2.5");
+        assertEquals(Arrays.asList("'2.5' is not a valid integer"), input.getValidationErrors());
+        assertFalse(input.hasNumber());
+
+        input.setValue("");
+        assertTrue(input.isValid());
+        assertFalse(input.hasNumber());
+        assertNull(input.getConvertedValue());
+    }
+
+    @Test
+    public void testOutOfIntRange() {
+        IntegerInput input = new IntegerInput("count");
+        input.setValue("3000000000");
+        assertFalse(input.isValid());
+    }
+
+    @Test(expected = UniformException.class)
+    public void testEmptyValue() {
+        new IntegerInput("count").getInt();
+    }
+
+    @Test(expected = UniformException.class)
+    public void testBadData() {
+        IntegerInput input = new IntegerInput("count");
+        input.setValue("abc");
+        input.getConvertedValue();
+    }
+
+    @Test(expected = UniformException.class)
+    public void testUnsupportedTypeChange() {
+        new IntegerInput("count").setValueType(Long.class);
+    }
+
+    @Test
+    public void testFormConversion() {
+        Form form = new HTMLForm();
+        form.addElement(new IntegerInput("count"));
+        form.addElement(new LongInput("total").setMax(5000000000L));
+
+        form.setElementValue("count", "42");
+        form.setElementValue("total", "4000000000");
+
+        assertTrue(form.isValid());
+        assertEquals(42, form.getElementValueConvertedToValueType("count"));
+        assertEquals(4000000000L, form.getElementValueConvertedToValueType("total"));
+        assertEquals(4000000000L, ((LongInput) form.getElement("total")).getLong());
+
+        form.setElementValue("total", "6000000000");
+        assertFalse(form.isValid());
+    }
+}
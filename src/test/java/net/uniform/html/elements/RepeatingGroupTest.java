@@ -0,0 +1,179 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.html.elements;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.uniform.api.Element;
+import net.uniform.api.Form;
+import net.uniform.html.HTMLForm;
+import net.uniform.html.beans.FormBeanRow;
+import net.uniform.html.beans.FormBeanWithRows;
+import net.uniform.html.validators.NumericValidator;
+import net.uniform.impl.utils.HTMLRenderingUtils;
+import net.uniform.testutils.HTMLTest;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author Eduardo Ramos
+ */
+public class RepeatingGroupTest {
+
+    private static RepeatingGroup buildGroup() {
+        Element quantity = new Input("quantity").addValidator(new NumericValidator(true));
+        quantity.setValueType(Integer.class);
+
+        RepeatingGroup group = new RepeatingGroup("lines", FormBeanRow.class);
+        group.addColumns(new Input("product").setLabel("Product"), quantity);
+        return group;
+    }
+
+    @Test
+    public void testPopulate() {
+        RepeatingGroup group = buildGroup();
+        Form form = new HTMLForm();
+        form.addElement(new Input("title"));
+        form.addElement(group);
+
+        Map<String, List<String>> data = new HashMap<>();
+        data.put("title", Arrays.asList("Order"));
+        data.put("lines[0].product", Arrays.asList("  apple "));
+        data.put("lines[0].quantity", Arrays.asList("3"));
+        data.put("lines[2].product", Arrays.asList("pear"));
+        data.put("lines[2].unknown", Arrays.asList("x"));
+        data.put("lines[-1].product", Arrays.asList("x"));
+        data.put("lines[a].product", Arrays.asList("x"));
+        data.put("lines[99999].product", Arrays.asList("x"));
+        data.put("other[0].product", Arrays.asList("x"));
+        form.populate(data);
+
+        assertEquals(3, group.getRowCount());
+        assertEquals("apple", group.getCellValue(0, "product"));
+        assertEquals("3", group.getCellValue(0, "quantity"));
+        assertNull(group.getCellValue(1, "product"));
+        assertEquals("pear", group.getCellValue(2, "product"));
+        assertEquals("3", group.getFirstValue());
+
+        Map<String, List<String>> formData = form.getFormDataMultivalue();
+        assertEquals(Arrays.asList("apple"), formData.get("lines[0].product"));
+        assertTrue(formData.containsKey("lines[1].quantity"));
+        assertFalse(formData.containsKey("lines"));
+        assertEquals("pear", form.getFormData().get("lines[2].product"));
+
+        form.reset();
+        assertEquals(0, group.getRowCount());
+    }
+
+    @Test
+    public void testPopulateUrlEncoded() {
+        RepeatingGroup group = buildGroup();
+        HTMLForm form = new HTMLForm();
+        form.addElement(new Input("title"));
+        form.addElement(group);
+
+        form.populateUrlEncoded("title=Order&lines%5B0%5D.product=apple&lines[1].quantity=4&other[0].product=x", Charset.forName("UTF-8"), false);
+        assertEquals("Order", form.getElementValue("title"));
+        assertEquals(2, group.getRowCount());
+        assertEquals("apple", group.getCellValue(0, "product"));
+        assertEquals("4", group.getCellValue(1, "quantity"));
+    }
+
+    @Test
+    public void testMaxRows() {
+        RepeatingGroup group = buildGroup().setMaxRows(2);
+        group.populateCell(1, "product", Arrays.asList("a"));
+        group.populateCell(2, "product", Arrays.asList("b"));
+        assertEquals(2, group.getRowCount());
+    }
+
+    @Test
+    public void testValidation() {
+        RepeatingGroup group = buildGroup();
+        group.setRequired(true);
+        Form form = new HTMLForm();
+        form.addElement(group);
+
+        assertFalse(form.isValid());
+
+        group.setCellValue(0, "product", "apple");
+        group.setCellValue(0, "quantity", "3");
+        group.setCellValue(1, "product", "pear");
+        group.setCellValue(1, "quantity", "many");
+        assertFalse(form.isValid());
+        assertEquals(1, group.getCellValidationErrors().size());
+        assertTrue(group.getCellValidationErrors().containsKey("lines[1].quantity"));
+        assertTrue(form.getValidationErrors().get("lines").get(0).startsWith("lines[1].quantity: "));
+
+        group.setCellValue(1, "quantity", "2");
+        assertTrue(form.isValid());
+    }
+
+    @Test
+    public void testBeans() {
+        Form form = new HTMLForm();
+        form.addElement(new Input("title"));
+        form.addElement(buildGroup());
+
+        FormBeanWithRows bean = new FormBeanWithRows();
+        bean.title = "Order";
+        bean.lines = Arrays.asList(new FormBeanRow("apple", 3), new FormBeanRow("pear", null));
+        form.populateBean(bean);
+
+        assertEquals("3", form.getFormData().get("lines[0].quantity"));
+
+        FormBeanWithRows result = new FormBeanWithRows();
+        form.getFormDataIntoBean(result);
+        assertEquals("Order", result.title);
+        assertEquals(bean.lines, result.lines);
+
+        RepeatingGroup mapGroup = new RepeatingGroup("lines");
+        mapGroup.addColumn(new Input("product"));
+        mapGroup.setCellValue(0, "product", "apple");
+        Map<?, ?> row = (Map<?, ?>) mapGroup.getConvertedRows().get(0);
+        assertEquals("apple", row.get("product"));
+    }
+
+    @Test
+    public void testRender() {
+        RepeatingGroup group = buildGroup();
+        group.setCellValue(0, "product", "apple");
+
+        HTMLTest.assertHTMLEquals("<table id=\"lines\">"
+                + "<thead><tr><th>Product</th><th></th></tr></thead>"
+                + "<tbody><tr>"
+                + "<td><input id=\"lines[0].product\" name=\"lines[0].product\" type=\"text\" value=\"apple\"></td>"
+                + "<td><input id=\"lines[0].quantity\" name=\"lines[0].quantity\" type=\"text\" value=\"\"></td>"
+                + "</tr></tbody></table>", HTMLRenderingUtils.render(group.render()));
+
+        assertEquals("product", group.getColumn("product").getProperty("name"));
+        assertNull(group.getColumn("product").getValue());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testFreezeNotSupported() {
+        HTMLForm form = new HTMLForm();
+        form.addElement(buildGroup());
+        form.freeze();
+    }
+}
@@ -15,12 +15,15 @@
  */
 package net.uniform.html.formvalidators;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import net.uniform.api.FieldValidationResult;
 import net.uniform.api.Form;
 import net.uniform.html.HTMLForm;
 import net.uniform.html.elements.DatePicker;
 import net.uniform.html.elements.Input;
 import static net.uniform.testutils.HTMLTest.assertHTMLEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import org.junit.Test;
@@ -91,6 +94,54 @@ public class DateRangeValidatorTest {
         assertTrue(form.isValid());
     }
 
+    @Test
+    public void testValidateField() {
+        HTMLForm form = new HTMLForm();
+
+        form.addElement(new NotCopiedDatePicker("start").setLabel("Start date"));
+        form.addElement(new NotCopiedDatePicker("end").setLabel("End date"));
+        form.addValidator(new DateRangeValidator("start", "end"));
+        form.setElementValue("end", "2015-03-27");
+
+        FieldValidationResult result = form.validateField("start", Arrays.asList("2015-03-28"));
+        assertFalse(result.isValid());
+        assertTrue(result.getErrors().isEmpty());
+        assertEquals(Arrays.asList("Invalid date range for 'Start date' and 'End date'"), result.getFormErrors());
+
+        result = form.validateField("start", Arrays.asList("2015-03-26"));
+        assertTrue(result.isValid());
+
+        result = form.validateField("start", Arrays.asList("2015-13-26"));
+        assertFalse(result.isValid());
+        assertEquals(1, result.getErrors().size());
+        assertTrue(result.getFormErrors().isEmpty());
+
+        //State of the form is left untouched:
+        assertEquals(null, form.getElement("start").getValue());
+        assertEquals(Arrays.asList("2015-03-27"), form.getElement("end").getValue());
+        assertFalse(form.getElement("start").validationPerformed());
+        assertFalse(form.getElement("end").validationPerformed());
+
+        form.setElementValue("start", "2015-03-28");
+        assertFalse(form.isValid());
+        result = form.validateField("start", Arrays.asList("2015-03-26"));
+        assertTrue(result.isValid());
+        assertFalse(form.isValid());//Previous validation is kept
+        assertEquals(Arrays.asList("2015-03-28"), form.getElement("start").getValue());
+    }
+
+    private static class NotCopiedDatePicker extends DatePicker {
+
+        public NotCopiedDatePicker(String id) {
+            super(id);
+        }
+
+        @Override
+        public DatePicker copy() {
+            throw new AssertionError("Validating a single field should not copy elements");
+        }
+    }
+
     @Test(expected = IllegalStateException.class)
     public void testInvalid() {
         Form form = new HTMLForm();
@@ -81,4 +81,22 @@ public class InSetValidatorTest {
         element.addValidator(validator);
         assertTrue(element.isValid());
     }
+
+    @Test
+    public void testSubclassValuesSet() {
+        InSetValidator validator = new InSetValidator() {
+            {
+                valuesSet.add("a");
+                valuesSet.add("b");
+                valuesSet.remove("a");
+            }
+        };
+
+        assertEquals(new HashSet<>(Arrays.asList("b")), validator.getValuesSet());
+        Object key = validator.getCacheKey();
+        validator.valuesSet.add("c");
+        assertFalse(key.equals(validator.getCacheKey()));//Changes through the field replace the snapshot
+        assertTrue(validator.getValidationErrors(null, Arrays.asList("a")) != null);
+        assertEquals(null, validator.getValidationErrors(null, Arrays.asList("b")));
+    }
 }
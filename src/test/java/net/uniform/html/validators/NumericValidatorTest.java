@@ -15,7 +15,10 @@
  */
 package net.uniform.html.validators;
 
+import java.util.Arrays;
 import net.uniform.api.Element;
+import net.uniform.api.ValueParser;
+import net.uniform.impl.AbstractElement;
 import net.uniform.html.elements.EmptyElement;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -158,4 +161,60 @@ public class NumericValidatorTest {
         element.setValue("4.01");
         assertFalse(element.isValid());
     }
+
+    @Test
+    public void testParsedValueReused() {
+        final int[] parses = new int[1];
+        final ValueParser<Long> countingParser = new ValueParser<Long>() {
+            @Override
+            public Long parse(String value) {
+                parses[0]++;
+                return Long.parseLong(value);
+            }
+        };
+
+        NumericValidator validator = new NumericValidator(false) {
+            @Override
+            protected ValueParser<? extends Number> getNumberParser(Element element) {
+                return countingParser;
+            }
+        };
+        validator.setLessThan(10);
+
+        AbstractElement element = new EmptyElement("test");
+        element.addValidator(validator);
+        element.setValue(" 5 ");
+
+        assertTrue(element.isValid());
+        assertTrue(element.isValid());
+        assertEquals(Long.valueOf(5), element.getParsedValue(countingParser));
+        assertEquals(1, parses[0]);
+
+        assertTrue(element.getValidationErrorsForValue(Arrays.asList("20")).size() == 1);
+        assertEquals(2, parses[0]);
+        assertTrue(element.isValid());
+        assertEquals(2, parses[0]);
+    }
+
+    @Test
+    public void testIntegerValueTypeLongRange() {
+        Element element = new EmptyElement("test");
+        element.setValueType(Integer.class);
+        NumericValidator validator = new NumericValidator(false);
+        element.addValidator(validator);
+
+        //Out of the value type range, but a valid long:
+        element.setValue("3000000000");
+        assertTrue(element.isValid());
+
+        element.setValue("30000000000000000000");
+        assertFalse(element.isValid());
+
+        validator.setLessThanOrEqual(Integer.MAX_VALUE);
+        element.setValue("3000000000");
+        assertFalse(element.isValid());
+
+        element.setValue("30");
+        assertTrue(element.isValid());
+    }
 }
@@ -0,0 +1,275 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.impl;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import net.uniform.api.Element;
+import net.uniform.api.Form;
+import net.uniform.api.FormValidator;
+import net.uniform.api.Validator;
+import net.uniform.api.annotations.CommutativeValidator;
+import net.uniform.html.HTMLForm;
+import net.uniform.html.elements.EmptyElement;
+import net.uniform.html.validators.NumericValidator;
+import net.uniform.html.validators.StringLengthValidator;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author Eduardo Ramos
+ */
+public class AdaptiveValidatorOrderingTest {
+
+    @Test
+    public void testDeclaredOrderUntilEnoughSamples() {
+        AdaptiveValidatorOrdering ordering = new AdaptiveValidatorOrdering(10);
+        List<Validator> validators = Arrays.<Validator>asList(new CountingValidator(false), new CountingValidator(true));
+
+        assertArrayEquals(new int[]{0, 1}, ordering.getExecutionOrder(validators));
+
+        for (int i = 0; i < 9; i++) {
+            ordering.record(0, validators.get(0), 1000, false, true);
+            ordering.record(1, validators.get(1), 10, true, true);
+        }
+        assertArrayEquals(new int[]{0, 1}, ordering.getExecutionOrder(validators));
+
+        ordering.record(0, validators.get(0), 1000, false, true);
+        ordering.record(1, validators.get(1), 10, true, true);
+        assertArrayEquals(new int[]{1, 0}, ordering.getExecutionOrder(validators));
+    }
+
+    @Test
+    public void testExploration() {
+        AdaptiveValidatorOrdering ordering = new AdaptiveValidatorOrdering(1, 3);
+        List<Validator> validators = Arrays.<Validator>asList(new CountingValidator(false), new CountingValidator(true));
+
+        ordering.record(0, validators.get(0), 1000, false, true);
+        for (int i = 0; i < 5; i++) {
+            ordering.record(1, validators.get(1), 10, true, true);
+        }
+
+        assertArrayEquals(new int[]{1, 0}, ordering.getExecutionOrder(validators));
+        assertArrayEquals(new int[]{1, 0}, ordering.getExecutionOrder(validators));
+        //The validator behind the chain breaker has less samples, so it runs first when exploring:
+        assertArrayEquals(new int[]{0, 1}, ordering.getExecutionOrder(validators));
+        assertArrayEquals(new int[]{1, 0}, ordering.getExecutionOrder(validators));
+
+        ordering = new AdaptiveValidatorOrdering(1, 0);
+        ordering.record(0, validators.get(0), 1000, false, true);
+        ordering.record(1, validators.get(1), 10, true, true);
+        for (int i = 0; i < 10; i++) {
+            assertArrayEquals(new int[]{1, 0}, ordering.getExecutionOrder(validators));
+        }
+    }
+
+    @Test
+    public void testNonCommutativeValidatorsKeepPosition() {
+        AdaptiveValidatorOrdering ordering = new AdaptiveValidatorOrdering(1);
+        List<Validator> validators = Arrays.<Validator>asList(
+                new CountingValidator(false),
+                new CountingValidator(false),
+                new NonCommutativeValidator(),
+                new CountingValidator(false),
+                new CountingValidator(false)
+        );
+
+        ordering.record(0, validators.get(0), 1000, false, true);
+        ordering.record(1, validators.get(1), 10, true, true);
+        ordering.record(2, validators.get(2), 1, true, true);
+        ordering.record(3, validators.get(3), 10, false, false);
+        ordering.record(4, validators.get(4), 10000, true, true);
+
+        assertArrayEquals(new int[]{1, 0, 2, 4, 3}, ordering.getExecutionOrder(validators));
+    }
+
+    @Test
+    public void testStatisticsResetWhenValidatorChanges() {
+        AdaptiveValidatorOrdering ordering = new AdaptiveValidatorOrdering(1);
+
+        ordering.record(0, new CountingValidator(false), 100, true, true);
+        ordering.record(0, new CountingValidator(false), 300, false, true);
+
+        ValidatorStatistics stats = ordering.getStatistics(0);
+        assertEquals(CountingValidator.class, stats.getValidatorClass());
+        assertEquals(2, stats.getInvocations());
+        assertEquals(1, stats.getFailures());
+        assertEquals(400, stats.getTotalNanos());
+        assertEquals(0.5, stats.getFailureRate(), 0.0001);
+        assertEquals(200, stats.getAverageNanos(), 0.0001);
+        assertEquals(400, stats.getCostPerChainBreak(), 0.0001);
+
+        ordering.record(0, new NumericValidator(false), 10, false, true);
+        stats = ordering.getStatistics(0);
+        assertEquals(NumericValidator.class, stats.getValidatorClass());
+        assertEquals(1, stats.getInvocations());
+        assertEquals(1, ordering.getStatistics().size());
+
+        ordering.reset();
+        assertNull(ordering.getStatistics(0));
+    }
+
+    @Test
+    public void testElementValidation() {
+        AdaptiveValidatorOrdering ordering = new AdaptiveValidatorOrdering(5);
+        CountingValidator expensive = new CountingValidator(false);
+        CountingValidator failing = new CountingValidator(true);
+
+        Element element = new EmptyElement("test");
+        ((AbstractElement) element).setValidatorOrdering(ordering);
+        element.addValidator(expensive);
+        element.addValidator(failing);
+        element.setValue("value");
+
+        for (int i = 0; i < 5; i++) {
+            assertFalse(element.isValid());
+        }
+        assertEquals(5, expensive.calls);
+        assertEquals(5, failing.calls);
+        assertEquals(2, ordering.getStatistics().size());
+
+        //Make the first validator look expensive to observe the reordering:
+        ordering.record(0, expensive, 1000000000L, false, true);
+
+        assertEquals(Arrays.asList("error"), element.getValidationErrors());
+        assertEquals(5, expensive.calls);
+        assertEquals(6, failing.calls);
+    }
+
+    @Test
+    public void testErrorsInDeclaredOrder() {
+        AdaptiveValidatorOrdering ordering = new AdaptiveValidatorOrdering(1, 0);
+        MessageValidator first = new MessageValidator("first");
+        MessageValidator second = new MessageValidator("second");
+
+        Element element = new EmptyElement("test");
+        ((AbstractElement) element).setValidatorOrdering(ordering);
+        element.addValidator(first);
+        element.addValidator(second);
+        element.setValue("value");
+
+        //Make the second validator look cheap and breaking the chain so it runs first:
+        ordering.record(0, first, 1000000000L, true, false);
+        ordering.record(1, second, 1L, true, true);
+        assertArrayEquals(new int[]{1, 0}, ordering.getExecutionOrder(element.getValidators()));
+
+        assertEquals(Arrays.asList("first", "second"), element.getValidationErrors());
+    }
+
+    @Test
+    public void testFormErrorsInDeclaredOrder() {
+        AdaptiveValidatorOrdering ordering = new AdaptiveValidatorOrdering(1, 0);
+        MessageValidator first = new MessageValidator("first");
+        MessageValidator second = new MessageValidator("second");
+
+        HTMLForm form = new HTMLForm();
+        form.setValidatorOrdering(ordering);
+        form.addValidator(first);
+        form.addValidator(second);
+
+        ordering.record(0, first, 1000000000L, true, false);
+        ordering.record(1, second, 1L, true, true);
+        assertArrayEquals(new int[]{1, 0}, ordering.getExecutionOrder(form.getValidators()));
+
+        assertEquals(Arrays.asList("first", "second"), form.getFormValidationErrors());
+    }
+
+    @Test
+    public void testRequiredAlwaysFirst() {
+        AdaptiveValidatorOrdering ordering = new AdaptiveValidatorOrdering(1);
+        CountingValidator validator = new CountingValidator(false);
+
+        Element element = new EmptyElement("test");
+        ((AbstractElement) element).setValidatorOrdering(ordering);
+        element.addValidator(validator);
+        element.addValidator(new StringLengthValidator(1, 3));
+        element.setRequired();
+
+        assertFalse(element.isValid());
+        assertEquals(0, validator.calls);
+
+        element.setValue("ab");
+        assertTrue(element.isValid());
+        assertEquals(1, validator.calls);
+    }
+
+    @CommutativeValidator
+    private static class CountingValidator implements Validator<Element> {
+
+        private final boolean fail;
+        private int calls = 0;
+
+        public CountingValidator(boolean fail) {
+            this.fail = fail;
+        }
+
+        @Override
+        public List<String> getValidationErrors(Element element, List<String> value) {
+            calls++;
+            return fail ? Arrays.asList("error") : Collections.<String>emptyList();
+        }
+
+        @Override
+        public boolean breakChainOnError() {
+            return true;
+        }
+    }
+
+    @CommutativeValidator
+    private static class MessageValidator implements Validator<Element>, FormValidator {
+
+        private final String message;
+
+        public MessageValidator(String message) {
+            this.message = message;
+        }
+
+        @Override
+        public List<String> getValidationErrors(Element element, List<String> value) {
+            return Arrays.asList(message);
+        }
+
+        @Override
+        public List<String> getValidationErrors(Form form, Map<String, List<String>> formData) {
+            return Arrays.asList(message);
+        }
+
+        @Override
+        public boolean breakChainOnError() {
+            return false;
+        }
+    }
+
+    private static class NonCommutativeValidator implements Validator<Element> {
+
+        @Override
+        public List<String> getValidationErrors(Element element, List<String> value) {
+            return null;
+        }
+
+        @Override
+        public boolean breakChainOnError() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.impl;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.uniform.html.HTMLForm;
+import net.uniform.html.elements.Hidden;
+import net.uniform.html.elements.Input;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author Eduardo Ramos
+ */
+public class FormPoolTest {
+
+    private static HTMLForm buildForm() {
+        HTMLForm form = new HTMLForm();
+        form.addElement(new Input("name").setRequired());
+        form.addElement(new Input("city").setValue("Madrid"));
+        form.addElement(new Hidden("token").setValue("secret"));
+        return form;
+    }
+
+    @Test
+    public void testReleaseRestoresInitialValues() {
+        HTMLForm form = buildForm();
+        FormPool<HTMLForm> pool = new FormPool<>(form, 2);
+        assertFalse(form.isFrozen());
+
+        HTMLForm borrowed = pool.borrow();
+        assertNotSame(form, borrowed);
+        assertEquals("Madrid", borrowed.getElementValue("city"));
+
+        Map<String, List<String>> data = new HashMap<>();
+        data.put("name", Arrays.asList(""));
+        data.put("city", Arrays.asList("Paris"));
+        borrowed.populate(data);
+        assertFalse(borrowed.isValid());
+        assertEquals(1, pool.getBorrowedCount());
+
+        pool.release(borrowed);
+        assertEquals(0, pool.getBorrowedCount());
+        assertEquals(1, pool.getIdleCount());
+
+        HTMLForm reused = pool.borrow();
+        assertSame(borrowed, reused);
+        assertFalse(reused.validationPerformed());
+        assertNull(reused.getElementValue("name"));
+        assertEquals("Madrid", reused.getElementValue("city"));
+        assertEquals("secret", reused.getElementValue("token"));
+    }
+
+    @Test
+    public void testMaxIdle() {
+        FormPool<HTMLForm> pool = new FormPool<>(buildForm(), 1);
+
+        HTMLForm first = pool.borrow();
+        HTMLForm second = pool.borrow();
+        assertNotSame(first, second);
+
+        pool.release(first);
+        pool.release(second);
+        assertEquals(1, pool.getIdleCount());
+        assertSame(first, pool.borrow());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReleaseTwice() {
+        FormPool<HTMLForm> pool = new FormPool<>(buildForm(), 1);
+        HTMLForm form = pool.borrow();
+        pool.release(form);
+        pool.release(form);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReleaseForeignForm() {
+        new FormPool<>(buildForm(), 1).release(buildForm());
+    }
+
+    @Test
+    public void testLeakDetection() throws InterruptedException {
+        FormPool<HTMLForm> pool = new FormPool<>(buildForm(), 1);
+        pool.release(pool.borrow());
+        pool.borrow();//Never released
+
+        for (int i = 0; i < 100 && pool.getLeakedCount() == 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertEquals(1, pool.getLeakedCount());
+        assertEquals(0, pool.getBorrowedCount());
+        assertTrue(pool.getIdleCount() == 0);
+    }
+}
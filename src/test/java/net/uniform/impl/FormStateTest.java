@@ -0,0 +1,202 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import net.uniform.api.TranslationEngineContext;
+import net.uniform.html.HTMLForm;
+import net.uniform.html.decorators.HTMLTagDecorator;
+import net.uniform.html.elements.Hidden;
+import net.uniform.html.elements.Input;
+import net.uniform.html.validators.NumericValidator;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ *
+ * @author Eduardo Ramos
+ */
+public class FormStateTest {
+
+    private static HTMLForm buildForm() {
+        HTMLForm form = new HTMLForm();
+        form.addElement(new Input("name").setRequired());
+        Input age = new Input("age");
+        age.addValidator(new NumericValidator(false));
+        age.setValueType(Integer.class);
+        form.addElement(age);
+        form.addElement(new Hidden("token").setValue("secret"));
+        return form;
+    }
+
+    private static Map<String, List<String>> data(String name, String age) {
+        Map<String, List<String>> data = new HashMap<>();
+        data.put("name", Arrays.asList(name));
+        data.put("age", Arrays.asList(age));
+        return data;
+    }
+
+    @Test
+    public void testStatesAreIndependent() {
+        TranslationEngineContext.getTranslationEngine().setLocale(Locale.ENGLISH);
+        HTMLForm form = buildForm();
+
+        FormState first = form.newState();
+        FormState second = form.newState();
+        assertTrue(form.isFrozen());
+
+        first.populate(data("John", "30"));
+        second.populate(data("", "abc"));
+
+        assertTrue(first.isValid());
+        assertFalse(second.isValid());
+        assertTrue(first.validationPerformed());
+        assertFalse(form.validationPerformed());
+
+        assertEquals("John", first.getElementValue("name"));
+        assertEquals(30, first.getElementValueConvertedToValueType("age"));
+        assertEquals("secret", first.getElementValue("token"));
+        assertEquals(2, second.getValidationErrors().size());
+
+        //The definition keeps its own values:
+        assertNull(form.getElementValue("name"));
+        assertEquals("secret", form.getElementValue("token"));
+
+        first.reset();
+        assertNull(first.getElementValue("name"));
+        assertEquals("secret", first.getElementValue("token"));
+        assertFalse(first.validationPerformed());
+        assertEquals("", second.getElementValue("name"));
+    }
+
+    @Test
+    public void testFrozenDefinitionCannotChange() {
+        HTMLForm form = buildForm();
+        form.freeze();
+
+        try {
+            form.addElement(new Input("other"));
+            fail("Frozen form should not accept elements");
+        } catch (IllegalStateException e) {
+        }
+
+        try {
+            form.getElement("name").setLabel("Name");
+            fail("Frozen element should not change");
+        } catch (IllegalStateException e) {
+        }
+
+        try {
+            form.setElementValue("name", "value");
+            fail("Frozen form values should only change through a state");
+        } catch (IllegalStateException e) {
+        }
+
+        try {
+            HTMLForm other = new HTMLForm();
+            other.addElement(form.getElement("name"));
+            other.freeze();
+            fail("Frozen element should not be part of another frozen form");
+        } catch (IllegalStateException e) {
+        }
+    }
+
+    @Test
+    public void testFrozenDecoratorsCannotChange() {
+        HTMLForm form = buildForm();
+        form.startDecorator("box", new HTMLTagDecorator("div"));
+        form.endDecorator();
+        form.getElement("name").addDecorator(new HTMLTagDecorator("p"));
+        form.freeze();
+
+        try {
+            form.getDecorator("box").setProperty("class", "changed");
+            fail("Frozen form decorators should not change");
+        } catch (UnsupportedOperationException e) {
+        }
+
+        try {
+            form.getElement("name").getLastDecorator(HTMLTagDecorator.class).setProperty("class", "changed");
+            fail("Frozen element decorators should not change");
+        } catch (UnsupportedOperationException e) {
+        }
+        assertFalse(form.renderHTML().contains("changed"));
+
+        //Copies can change them again:
+        AbstractForm copy = form.copy();
+        copy.getDecorator("box").setProperty("class", "changed");
+        copy.getElement("name").getLastDecorator(HTMLTagDecorator.class).setProperty("class", "changed");
+        assertEquals(null, form.getDecorator("box").getProperty("class"));
+        assertTrue(copy.renderHTML().contains("<div class=\"changed\">"));
+        assertTrue(copy.renderHTML().contains("<p class=\"changed\">"));
+    }
+
+    @Test
+    public void testRenderState() {
+        HTMLForm form = buildForm();
+        FormState state = form.newState();
+
+        state.setElementValue("name", "John");
+        assertTrue(state.renderHTML().contains("value=\"John\""));
+        assertFalse(form.renderHTML().contains("value=\"John\""));
+    }
+
+    @Test
+    public void testConcurrentStates() throws Exception {
+        TranslationEngineContext.getTranslationEngine().setLocale(Locale.ENGLISH);
+        final HTMLForm form = buildForm();
+        form.freeze();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                final int number = i;
+                results.add(executor.submit(new Callable<Boolean>() {
+                    @Override
+                    public Boolean call() {
+                        FormState state = form.newState();
+                        boolean valid = number % 2 == 0;
+                        state.populate(data("user" + number, valid ? String.valueOf(number) : "x" + number));
+
+                        return state.isValid() == valid
+                                && ("user" + number).equals(state.getElementValue("name"))
+                                && (!valid || Integer.valueOf(number).equals(state.getElementValueConvertedToValueType("age")));
+                    }
+                }));
+            }
+
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
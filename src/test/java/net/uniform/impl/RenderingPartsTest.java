@@ -0,0 +1,149 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.impl;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author Eduardo Ramos
+ */
+public class RenderingPartsTest {
+
+    @Test
+    public void testAddRemoveAndMove() {
+        Object a = new Object();
+        Object b = new Object();
+        Object c = new Object();
+
+        RenderingParts parts = new RenderingParts();
+        parts.add(a);
+        parts.add(b);
+        parts.add(c);
+        parts.add("END_DECORATOR_x");
+        assertEquals(Arrays.asList(a, b, c, "END_DECORATOR_x"), parts);
+
+        assertTrue(parts.remove(new String("END_DECORATOR_x")));
+        assertFalse(parts.remove(new Object()));
+        assertEquals(Arrays.asList(a, b, c), parts);
+
+        parts.moveBefore(c, a);
+        assertEquals(Arrays.asList(c, a, b), parts);
+        parts.moveAfter(c, b);
+        assertEquals(Arrays.asList(a, b, c), parts);
+        parts.moveAfter(a, a);
+        assertEquals(Arrays.asList(a, b, c), parts);
+
+        assertTrue(parts.remove(b));
+        assertFalse(parts.contains(b));
+        assertEquals(2, parts.size());
+        assertEquals(c, parts.get(1));
+    }
+
+    @Test
+    public void testIterator() {
+        Object a = new Object();
+        Object b = new Object();
+        Object c = new Object();
+
+        RenderingParts parts = new RenderingParts();
+        parts.addAll(Arrays.asList(a, b, c));
+
+        Iterator<Object> iterator = parts.iterator();
+        iterator.next();
+        iterator.next();
+        iterator.remove();
+        assertEquals(Arrays.asList(a, c), parts);
+        assertFalse(parts.contains(b));
+
+        ListIterator<Object> listIterator = parts.listIterator(1);
+        listIterator.add(b);
+        assertEquals(Arrays.asList(a, b, c), parts);
+        assertEquals(c, listIterator.next());
+        listIterator.set("END_DECORATOR_x");
+        assertEquals(Arrays.asList(a, b, "END_DECORATOR_x"), parts);
+        assertTrue(parts.contains("END_DECORATOR_x"));
+        assertFalse(parts.contains(c));
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testConcurrentModification() {
+        RenderingParts parts = new RenderingParts();
+        parts.addAll(Arrays.asList(new Object(), new Object()));
+
+        Iterator<Object> iterator = parts.iterator();
+        iterator.next();
+        parts.add(new Object());
+        iterator.next();
+    }
+
+    @Test
+    public void testDuplicatedPart() {
+        Object a = new Object();
+        Object b = new Object();
+
+        RenderingParts parts = new RenderingParts();
+        parts.add(a);
+        parts.add(b);
+        parts.add(a);
+        parts.add("end");
+        parts.add("end");
+        assertEquals(Arrays.asList(a, b, a, "end", "end"), parts);
+
+        parts.moveBefore(b, a);
+        assertEquals(Arrays.asList(b, a, a, "end", "end"), parts);
+
+        assertTrue(parts.remove(a));
+        assertTrue(parts.remove("end"));
+        assertEquals(Arrays.asList(b, a, "end"), parts);
+        assertTrue(parts.contains(a));
+        assertTrue(parts.contains("end"));
+
+        assertTrue(parts.remove(a));
+        assertTrue(parts.remove("end"));
+        assertFalse(parts.contains(a));
+        assertFalse(parts.contains("end"));
+        assertEquals(Arrays.asList(b), parts);
+    }
+
+    @Test
+    public void testSetDuplicatedPart() {
+        Object a = new Object();
+        Object b = new Object();
+
+        RenderingParts parts = new RenderingParts();
+        parts.add(a);
+        parts.add(b);
+
+        ListIterator<Object> iterator = parts.listIterator();
+        iterator.next();
+        iterator.set(b);
+        assertEquals(Arrays.asList(b, b), parts);
+        assertFalse(parts.contains(a));
+
+        iterator.set(a);
+        assertEquals(Arrays.asList(a, b), parts);
+        assertTrue(parts.remove(b));
+        assertEquals(Arrays.asList(a), parts);
+    }
+}
@@ -0,0 +1,178 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.impl;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import net.uniform.api.Element;
+import net.uniform.api.PureValidator;
+import net.uniform.api.TranslationEngineContext;
+import net.uniform.api.ValidationResultCacheContext;
+import net.uniform.html.elements.EmptyElement;
+import net.uniform.html.validators.InSetValidator;
+import net.uniform.html.validators.RegexValidator;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ *
+ * @author Eduardo Ramos
+ */
+public class ValidationResultCacheTest {
+
+    @After
+    public void cleanup() {
+        ValidationResultCacheContext.setValidationResultCache(null);
+        TranslationEngineContext.getTranslationEngine().setLocale(Locale.ENGLISH);
+    }
+
+    @Test
+    public void testCacheAcrossElements() {
+        ValidationResultCache cache = new ValidationResultCache();
+        ValidationResultCacheContext.setValidationResultCache(cache);
+
+        CountingValidator first = new CountingValidator();
+        CountingValidator second = new CountingValidator();
+
+        Element element = new EmptyElement("a").addValidator(first);
+        Element otherElement = new EmptyElement("b").addValidator(second);
+
+        element.setValue("bad");
+        otherElement.setValue("bad");
+        assertFalse(element.isValid());
+        assertFalse(otherElement.isValid());
+        assertEquals(1, first.calls + second.calls);
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        element.setValue("good");
+        assertTrue(element.isValid());
+        assertTrue(element.isValid());
+        assertEquals(2, first.calls + second.calls);
+        assertEquals(2, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(2, cache.size());
+        assertEquals(0.5, cache.getHitRate(), 0.0001);
+    }
+
+    @Test
+    public void testNoCacheByDefault() {
+        CountingValidator validator = new CountingValidator();
+        Element element = new EmptyElement("a").addValidator(validator);
+        element.setValue("bad");
+
+        assertFalse(element.isValid());
+        assertFalse(element.isValid());
+        assertEquals(2, validator.calls);
+    }
+
+    @Test
+    public void testEviction() {
+        ValidationResultCache cache = new ValidationResultCache(2);
+        ValidationResultCacheContext.setValidationResultCache(cache);
+
+        CountingValidator validator = new CountingValidator();
+        Element element = new EmptyElement("a").addValidator(validator);
+
+        for (String value : Arrays.asList("a", "b", "c", "a")) {
+            element.setValue(value);
+            element.isValid();
+        }
+
+        assertEquals(4, validator.calls);
+        assertEquals(2, cache.size());
+        assertEquals(2, cache.getEvictions());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testLongValuesNotCached() {
+        ValidationResultCache cache = new ValidationResultCache(10, 3);
+        ValidationResultCacheContext.setValidationResultCache(cache);
+
+        CountingValidator validator = new CountingValidator();
+        Element element = new EmptyElement("a").addValidator(validator);
+        element.setValue("long value");
+
+        element.isValid();
+        element.isValid();
+        assertEquals(2, validator.calls);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testLocaleIsPartOfKey() {
+        ValidationResultCache cache = new ValidationResultCache();
+        ValidationResultCacheContext.setValidationResultCache(cache);
+        TranslationEngineContext.getTranslationEngine().setLocale(Locale.ENGLISH);
+
+        Element element = new EmptyElement("a").addValidator(new RegexValidator("[a-z]+"));
+        element.setValue("123");
+
+        element.getValidationErrors();
+        TranslationEngineContext.getTranslationEngine().setLocale(new Locale("es"));
+        element.getValidationErrors();
+        assertEquals(2, cache.getMisses());
+
+        element.getValidationErrors();
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    public void testValidatorKeys() {
+        assertEquals(new RegexValidator("[a-z]+").getCacheKey(), new RegexValidator("[a-z]+").getCacheKey());
+        assertFalse(new RegexValidator("[a-z]+").getCacheKey().equals(new RegexValidator("[a-z]*").getCacheKey()));
+
+        InSetValidator inSet = new InSetValidator(new HashSet<>(Arrays.asList("a", "b")));
+        Object key = inSet.getCacheKey();
+        assertEquals(key, inSet.getCacheKey());
+        inSet.addValidValue("c");
+        assertFalse(key.equals(inSet.getCacheKey()));
+
+        //Validators built separately with the same values share the key:
+        assertEquals(inSet.getCacheKey(), new InSetValidator(new HashSet<>(Arrays.asList("c", "b", "a"))).getCacheKey());
+        inSet.removeValidValue("c");
+        assertEquals(key, inSet.getCacheKey());
+    }
+
+    private static class CountingValidator implements PureValidator<Element> {
+
+        private int calls = 0;
+
+        @Override
+        public List<String> getValidationErrors(Element element, List<String> value) {
+            calls++;
+            return "bad".equals(value.get(0)) ? Arrays.asList("error") : null;
+        }
+
+        @Override
+        public Object getCacheKey() {
+            return CountingValidator.class;
+        }
+
+        @Override
+        public boolean breakChainOnError() {
+            return true;
+        }
+    }
+}
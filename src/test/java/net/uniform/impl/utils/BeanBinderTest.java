@@ -0,0 +1,262 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.impl.utils;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.uniform.api.annotations.CreatorProperties;
+import net.uniform.exceptions.UniformException;
+import net.uniform.html.beans.FormBeanCustomer;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author Eduardo Ramos
+ */
+public class BeanBinderTest {
+
+    public static class Bean {
+
+        public static final String CONSTANT = "constant";
+        public final String finalField = "final";
+        public String field;
+        public int primitive;
+        public List<Integer> numbers;
+        private String property;
+
+        public String getProperty() {
+            return property;
+        }
+
+        public void setProperty(String property) {
+            this.property = property;
+        }
+    }
+
+    public static class ConvertedBean {
+
+        public int count;
+        public long total;
+        public double ratio;
+        public Integer boxed;
+        public ConverterRegistryTest.Color color;
+        private double price;
+
+        public double getPrice() {
+            return price;
+        }
+
+        public void setPrice(double price) {
+            this.price = price;
+        }
+    }
+
+    public static final class Money {
+
+        private final long amount;
+        private final String currency;
+
+        private Money(long amount, String currency) {
+            this.amount = amount;
+            this.currency = currency;
+        }
+
+        @CreatorProperties({"amount", "currency"})
+        public static Money of(long amount, String currency) {
+            return new Money(amount, currency);
+        }
+
+        public long getAmount() {
+            return amount;
+        }
+
+        public String getCurrency() {
+            return currency;
+        }
+    }
+
+    public static class TwoCreatorsBean {
+
+        @CreatorProperties({"field"})
+        public TwoCreatorsBean(String field) {
+        }
+
+        @CreatorProperties({"field"})
+        public static TwoCreatorsBean create(String field) {
+            return new TwoCreatorsBean(field);
+        }
+    }
+
+    static class HiddenBean {
+
+        public String field;
+    }
+
+    @Test
+    public void testCached() {
+        assertSame(BeanBinder.forClass(Bean.class), BeanBinder.forClass(Bean.class));
+    }
+
+    @Test
+    public void testReadAndFill() {
+        Bean bean = new Bean();
+        bean.field = "f";
+        bean.primitive = 3;
+        bean.setProperty("p");
+
+        Map<String, Object> props = BeanBinder.forClass(Bean.class).getProperties(bean);
+        assertEquals("f", props.get("field"));
+        assertEquals(3, props.get("primitive"));
+        assertEquals("p", props.get("property"));
+        assertEquals("constant", props.get("CONSTANT"));
+        assertFalse(props.containsKey("class"));
+
+        props.remove("CONSTANT");
+        props.remove("finalField");
+        props.put("numbers", 5);
+        Bean filled = new Bean();
+        Map<String, Class<?>> genericTypes = new HashMap<>();
+        genericTypes.put("numbers", Integer.class);
+        BeanBinder.forClass(Bean.class).fillProperties(filled, props, genericTypes);
+        assertEquals("f", filled.field);
+        assertEquals(3, filled.primitive);
+        assertEquals("p", filled.getProperty());
+        assertEquals(Arrays.asList(5), filled.numbers);
+
+        props.put("primitive", null);
+        BeanBinder.forClass(Bean.class).fillProperties(filled, props, genericTypes);
+        assertEquals(3, filled.primitive);//Cannot set null to primitive
+    }
+
+    @Test
+    public void testFillConvertedStrings() {
+        ConvertedBean bean = new ConvertedBean();
+        bean.boxed = 1;
+
+        Map<String, Object> props = new HashMap<>();
+        props.put("count", " 7 ");
+        props.put("total", "3000000000");
+        props.put("ratio", "0.25");
+        props.put("boxed", "");
+        props.put("color", "RED");
+        props.put("price", "9.99");
+        UniformUtils.fillBeanProperties(bean, props);
+
+        assertEquals(7, bean.count);
+        assertEquals(3000000000L, bean.total);
+        assertEquals(0.25, bean.ratio, 0);
+        assertEquals(null, bean.boxed);
+        assertEquals(ConverterRegistryTest.Color.RED, bean.color);
+        assertEquals(9.99, bean.getPrice(), 0);
+
+        props.clear();
+        props.put("count", "not a number");
+        props.put("ratio", "");
+        UniformUtils.fillBeanProperties(bean, props);
+        assertEquals(7, bean.count);//Invalid values are not filled
+        assertEquals(0.25, bean.ratio, 0);
+    }
+
+    @Test
+    public void testCreateBean() {
+        Map<String, Object> props = new HashMap<>();
+        props.put("amount", " 1250 ");
+        props.put("currency", "EUR");
+        props.put("unknown", "ignored");
+
+        Money money = (Money) BeanBinder.forClass(Money.class).createBean(props, new HashMap<String, Class<?>>());
+        assertEquals(1250L, money.getAmount());
+        assertEquals("EUR", money.getCurrency());
+
+        props.remove("amount");
+        money = (Money) BeanBinder.forClass(Money.class).createBean(props, new HashMap<String, Class<?>>());
+        assertEquals(0L, money.getAmount());
+
+        //No creator, filled through properties:
+        props.clear();
+        props.put("field", "value");
+        props.put("property", "prop");
+        Bean bean = UniformUtils.createBean(Bean.class, props, null);
+        assertEquals("value", bean.field);
+        assertEquals("prop", bean.getProperty());
+    }
+
+    @Test
+    public void testNestedPaths() {
+        BeanBinder binder = BeanBinder.forClass(FormBeanCustomer.class);
+        assertTrue(binder.hasProperty("address.street"));
+        assertTrue(binder.hasProperty("address.number"));
+        assertFalse(binder.hasProperty("address.unknown"));
+        assertFalse(binder.hasProperty("name.length"));
+        assertFalse(binder.hasProperty("address..street"));
+
+        FormBeanCustomer customer = new FormBeanCustomer();
+        assertNull(binder.getProperty(customer, "address.street"));
+
+        Map<String, Object> props = new HashMap<>();
+        props.put("address.street", null);
+        binder.fillProperties(customer, props, new HashMap<String, Class<?>>());
+        assertNull(customer.getAddress());//Not created only to set null
+
+        props.put("address.street", "Main");
+        props.put("address.number", "12");
+        props.put("address.unknown", "ignored");
+        binder.fillProperties(customer, props, new HashMap<String, Class<?>>());
+        assertEquals("Main", customer.getAddress().street);
+        assertEquals(12, customer.getAddress().getNumber());
+        assertEquals("Main", binder.getProperty(customer, "address.street"));
+
+        FormBeanCustomer.Address address = customer.getAddress();
+        props.put("address.street", "Second");
+        binder.fillProperties(customer, props, new HashMap<String, Class<?>>());
+        assertSame(address, customer.getAddress());
+        assertEquals("Second", address.street);
+    }
+
+    @Test(expected = UniformException.class)
+    public void testCreateBeanTwoCreators() {
+        UniformUtils.createBean(TwoCreatorsBean.class, new HashMap<String, Object>(), null);
+    }
+
+    @Test(expected = UniformException.class)
+    public void testFinalField() {
+        Map<String, Object> props = new HashMap<>();
+        props.put("finalField", "other");
+        UniformUtils.fillBeanProperties(new Bean(), props);
+    }
+
+    @Test
+    public void testNotPublicClass() {
+        HiddenBean bean = new HiddenBean();
+        Map<String, Object> props = new HashMap<>();
+        props.put("field", "value");
+        UniformUtils.fillBeanProperties(bean, props);
+        assertEquals("value", bean.field);
+        assertEquals("value", UniformUtils.getBeanProperties(bean).get("field"));
+    }
+
+    @Test
+    public void testNullBean() {
+        assertTrue(UniformUtils.getBeanProperties(null).isEmpty());
+    }
+}
@@ -0,0 +1,113 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.impl.utils;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import net.uniform.api.ValueConverter;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+/**
+ *
+ * @author Eduardo Ramos
+ */
+public class ConverterRegistryTest {
+
+    public enum Color {
+
+        RED, GREEN {
+            @Override
+            public String toString() {
+                return "green";
+            }
+        }
+    }
+
+    public static class Money {
+
+        private final long cents;
+
+        public Money(long cents) {
+            this.cents = cents;
+        }
+    }
+
+    @Test
+    public void testDefaultConverters() {
+        assertSame(ValueConverters.INTEGER, ConverterRegistry.forType(Integer.class));
+        assertSame(ValueConverters.INTEGER, ConverterRegistry.forType(int.class));
+        assertSame(ValueConverters.DOUBLE, ConverterRegistry.forType(double.class));
+        assertEquals(new BigDecimal("1.50"), ConverterRegistry.forType(BigDecimal.class).parse("1.50"));
+        assertNull(ConverterRegistry.forType(Object.class));
+        assertNull(ConverterRegistry.forType(null));
+
+        assertEquals(12, ValueConverters.INTEGER.parseInt("12"));
+        assertEquals("12", ValueConverters.INTEGER.format(12));
+        assertEquals(3000000000L, ValueConverters.LONG.parseLong("3000000000"));
+        assertEquals(0.5, ValueConverters.DOUBLE.parseDouble("0.5"), 0);
+    }
+
+    @Test
+    public void testEnumAndUUID() {
+        ValueConverter<Color> converter = ConverterRegistry.forType(Color.class);
+        assertSame(converter, ConverterRegistry.forType(Color.class));
+        assertEquals(Color.GREEN, converter.parse("GREEN"));
+        assertEquals("GREEN", ConverterRegistry.format(Color.GREEN));
+
+        UUID uuid = UUID.randomUUID();
+        assertEquals(uuid, ConverterRegistry.forType(UUID.class).parse(uuid.toString()));
+        assertEquals(uuid.toString(), ConverterRegistry.format(uuid));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidEnumConstant() {
+        ConverterRegistry.forType(Color.class).parse("BLUE");
+    }
+
+    @Test
+    public void testCustomConverter() {
+        ConverterRegistry.register(Money.class, new ValueConverter<Money>() {
+            @Override
+            public Money parse(String value) {
+                return new Money(new BigDecimal(value).movePointRight(2).longValueExact());
+            }
+
+            @Override
+            public String format(Money value) {
+                return BigDecimal.valueOf(value.cents, 2).toPlainString();
+            }
+        });
+
+        try {
+            assertEquals(1050, ConverterRegistry.forType(Money.class).parse("10.5").cents);
+            assertEquals("10.50", ConverterRegistry.format(new Money(1050)));
+        } finally {
+            ConverterRegistry.unregister(Money.class);
+        }
+
+        assertNull(ConverterRegistry.forType(Money.class));
+    }
+
+    @Test
+    public void testUnregisterRestoresDefault() {
+        ConverterRegistry.register(Integer.class, ValueConverters.INTEGER);
+        ConverterRegistry.unregister(Integer.class);
+        assertSame(ValueConverters.INTEGER, ConverterRegistry.forType(Integer.class));
+    }
+}
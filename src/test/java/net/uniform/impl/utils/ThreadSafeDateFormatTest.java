@@ -0,0 +1,169 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.impl.utils;
+
+import java.text.FieldPosition;
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author Eduardo Ramos
+ */
+public class ThreadSafeDateFormatTest {
+
+    private static final List<String> SAMPLES = Arrays.asList(
+            "2015-03-28", "2016-02-29", "2015-02-29", "2015-02-30", "2015-13-01", "2015-00-10", "2015-01-00",
+            "0000-01-01", "0001-01-01", "1582-10-10", "1900-02-29", "2000-02-29", "9999-12-31",
+            "2015-3-5", "2015-03-28abc", "15-03-28", "2015/03/28", "", "abc", " 2015-03-28", "20150-03-28"
+    );
+
+    @Test
+    public void testSameSemanticsAsSimpleDateFormat() {
+        assertSameSemantics("yyyy-MM-dd", false);
+        assertSameSemantics("yyyy-MM-dd", true);
+        assertSameSemantics("dd/MM/yyyy", false);
+    }
+
+    private void assertSameSemantics(String pattern, boolean lenient) {
+        SimpleDateFormat sdf = new SimpleDateFormat(pattern);
+        sdf.setLenient(lenient);
+        ThreadSafeDateFormat format = new ThreadSafeDateFormat(sdf);
+
+        for (String sample : SAMPLES) {
+            Object expected = parseOrError(sdf, sample);
+            Object actual;
+            try {
+                actual = format.parse(sample);
+            } catch (ParseException ex) {
+                actual = "error";
+            }
+            assertEquals(pattern + " " + sample, expected, actual);
+
+            if (expected instanceof Date) {
+                assertEquals(sdf.format((Date) expected), format.format((Date) expected));
+            }
+        }
+    }
+
+    private Object parseOrError(SimpleDateFormat sdf, String value) {
+        try {
+            return sdf.parse(value);
+        } catch (ParseException ex) {
+            return "error";
+        }
+    }
+
+    @Test
+    public void testFormat() {
+        ThreadSafeDateFormat format = new ThreadSafeDateFormat(ThreadSafeDateFormat.ISO_DATE_PATTERN);
+        Calendar calendar = Calendar.getInstance();
+        calendar.clear();
+        calendar.set(987, Calendar.JANUARY, 5, 13, 45);
+
+        assertEquals("0987-01-05", format.format(calendar.getTime()));
+        assertFalse(format.isLenient());
+        assertEquals("yyyy-MM-dd", format.toPattern());
+    }
+
+    @Test
+    public void testCustomFormatNotBypassed() throws ParseException {
+        final int[] calls = new int[1];
+        SimpleDateFormat subclass = new SimpleDateFormat(ThreadSafeDateFormat.ISO_DATE_PATTERN) {
+            @Override
+            public Date parse(String source, ParsePosition pos) {
+                calls[0]++;
+                return super.parse(source, pos);
+            }
+
+            @Override
+            public StringBuffer format(Date date, StringBuffer toAppendTo, FieldPosition pos) {
+                calls[0]++;
+                return super.format(date, toAppendTo, pos);
+            }
+        };
+
+        ThreadSafeDateFormat format = new ThreadSafeDateFormat(subclass);
+        Date date = format.parse("2015-03-28");
+        assertEquals("2015-03-28", format.format(date));
+        assertEquals(2, calls[0]);
+
+        SimpleDateFormat arabic = new SimpleDateFormat(ThreadSafeDateFormat.ISO_DATE_PATTERN, new Locale("ar", "EG"));
+        assertEquals(arabic.format(date), new ThreadSafeDateFormat(arabic).format(date));
+    }
+
+    @Test
+    public void testEquality() {
+        assertEquals(new ThreadSafeDateFormat("yyyy-MM-dd"), new ThreadSafeDateFormat("yyyy-MM-dd"));
+        assertFalse(new ThreadSafeDateFormat("yyyy-MM-dd").equals(new ThreadSafeDateFormat("dd-MM-yyyy")));
+
+        SimpleDateFormat copy = new ThreadSafeDateFormat("yyyy-MM-dd").toSimpleDateFormat();
+        copy.setLenient(true);
+        assertFalse(new ThreadSafeDateFormat("yyyy-MM-dd").equals(new ThreadSafeDateFormat(copy)));
+    }
+
+    @Test
+    public void testConcurrentUse() throws Exception {
+        final ThreadSafeDateFormat isoFormat = new ThreadSafeDateFormat("yyyy-MM-dd");
+        final ThreadSafeDateFormat otherFormat = new ThreadSafeDateFormat("dd/MM/yyyy");
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                final int offset = t;
+                results.add(executor.submit(new Callable<Boolean>() {
+                    @Override
+                    public Boolean call() throws Exception {
+                        for (int i = 0; i < 2000; i++) {
+                            int day = 1 + (i + offset) % 28;
+                            String iso = String.format("2015-03-%02d", day);
+                            String other = String.format("%02d/03/2015", day);
+                            if (!isoFormat.parse(iso).equals(otherFormat.parse(other))) {
+                                return false;
+                            }
+                            if (!iso.equals(isoFormat.format(otherFormat.parse(other)))) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    }
+                }));
+            }
+
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.impl.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+/**
+ *
+ * @author Eduardo Ramos
+ */
+public class UniformUtilsTest {
+
+    @Test
+    public void testPropertyNames() {
+        assertSame("disabled", UniformUtils.checkPropertyNameAndLowerCase("disabled"));
+        assertSame("disabled", UniformUtils.checkPropertyNameAndLowerCase(" DISABLED "));
+        assertEquals("data-custom", UniformUtils.checkPropertyNameAndLowerCase("Data-Custom"));
+        assertEquals("data-custom", UniformUtils.checkPropertyNameAndLowerCase("Data-Custom"));//Cached
+        assertEquals("data-other", UniformUtils.checkPropertyNameAndLowerCase("  data-other"));
+    }
+
+    @Test
+    public void testManyPropertyNames() {
+        for (int i = 0; i < 5000; i++) {
+            assertEquals("data-" + i, UniformUtils.checkPropertyNameAndLowerCase("DATA-" + i));
+        }
+        assertSame("disabled", UniformUtils.checkPropertyNameAndLowerCase("Disabled"));
+        assertEquals("data-new", UniformUtils.checkPropertyNameAndLowerCase("Data-New"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullPropertyName() {
+        UniformUtils.checkPropertyNameAndLowerCase(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyPropertyName() {
+        UniformUtils.checkPropertyNameAndLowerCase("   ");
+    }
+}
@@ -0,0 +1,99 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.impl.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ *
+ * @author Eduardo Ramos
+ */
+public class UrlEncodedParserTest {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static class RecordingHandler implements UrlEncodedParser.Handler {
+
+        private final List<String> acceptedNames;
+        private final List<String> offered = new ArrayList<>();
+        private final List<String> values = new ArrayList<>();
+
+        private RecordingHandler(String... acceptedNames) {
+            this.acceptedNames = Arrays.asList(acceptedNames);
+        }
+
+        @Override
+        public boolean accept(String name) {
+            offered.add(name);
+            return acceptedNames.contains(name);
+        }
+
+        @Override
+        public void value(String name, String value) {
+            values.add(name + "=" + value);
+        }
+    }
+
+    @Test
+    public void testDecode() {
+        assertEquals("plain", UrlEncodedParser.decode("plain", UTF_8));
+        assertEquals("a b c", UrlEncodedParser.decode("a+b%20c", UTF_8));
+        assertEquals("caf\u00e9 \u20ac", UrlEncodedParser.decode("caf%C3%A9+%E2%82%AC", UTF_8));
+        assertEquals("lines[0]", UrlEncodedParser.decode("lines%5B0%5D", UTF_8));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDecodeInvalidEscape() {
+        UrlEncodedParser.decode("a%zz", UTF_8);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDecodeIncompleteEscape() {
+        UrlEncodedParser.decode("a%2", UTF_8);
+    }
+
+    @Test
+    public void testParse() {
+        RecordingHandler handler = new RecordingHandler("a", "b c", "empty", "flag");
+        UrlEncodedParser.parse("a=1&unknown=%zz&b+c=x%2By&&empty=&flag&a=2&bad%=1&a=%", UTF_8, handler);
+
+        assertEquals(Arrays.asList("a", "unknown", "b c", "empty", "flag", "a", "a"), handler.offered);
+        assertEquals(Arrays.asList("a=1", "b c=x+y", "empty=", "flag=", "a=2"), handler.values);
+    }
+
+    @Test
+    public void testParseBytes() throws IOException {
+        byte[] body = "name=caf%C3%A9&other=1&name=d\u00e9j\u00e0".getBytes(UTF_8);
+
+        RecordingHandler handler = new RecordingHandler("name");
+        UrlEncodedParser.parse(new ByteArrayInputStream(body), UTF_8, handler);
+        assertEquals(Arrays.asList("name=caf\u00e9", "name=d\u00e9j\u00e0"), handler.values);
+
+        ByteBuffer buffer = ByteBuffer.wrap(body);
+        handler = new RecordingHandler("name");
+        UrlEncodedParser.parse(buffer, UTF_8, handler);
+        assertEquals(Arrays.asList("name=caf\u00e9", "name=d\u00e9j\u00e0"), handler.values);
+        assertEquals(0, buffer.position());
+    }
+}
@@ -0,0 +1,423 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * <p>
+ * Annotation processor that generates a {@code FormBeanBinder} for each class annotated with {@code @FormBean}.
+ * The generated binder creates the form elements and copies values between the form and the bean with direct getter/setter calls, without any reflection at runtime.
+ * </p>
+ *
+ * <p>
+ * Annotations are read by name, so this processor does not need Uniform in the processor path.
+ * </p>
+ *
+ * @author Eduardo Ramos
+ */
+public class FormBeanProcessor extends AbstractProcessor {
+
+    static final String FORM_BEAN = "net.uniform.api.annotations.FormBean";
+    static final String FORM_FIELD = "net.uniform.api.annotations.FormField";
+
+    private static final String BINDER_SUFFIX = "FormBinder";
+    private static final String DEFAULT_FORM = "net.uniform.html.HTMLForm";
+    private static final String DEFAULT_ELEMENT = "net.uniform.api.Element";
+    private static final String INPUT = "net.uniform.html.elements.Input";
+    private static final String CHECKBOX = "net.uniform.html.elements.Checkbox";
+    private static final String DATE_PICKER = "net.uniform.html.elements.DatePicker";
+    private static final String DATE = "java.util.Date";
+
+    //Supported declared types and primitives, with the type used for element values:
+    private static final Map<String, String> VALUE_TYPES = new HashMap<>();
+
+    static {
+        VALUE_TYPES.put("java.lang.String", "java.lang.String");
+        VALUE_TYPES.put("java.lang.Boolean", "java.lang.Boolean");
+        VALUE_TYPES.put("java.lang.Byte", "java.lang.Byte");
+        VALUE_TYPES.put("java.lang.Short", "java.lang.Short");
+        VALUE_TYPES.put("java.lang.Integer", "java.lang.Integer");
+        VALUE_TYPES.put("java.lang.Long", "java.lang.Long");
+        VALUE_TYPES.put("java.lang.Float", "java.lang.Float");
+        VALUE_TYPES.put("java.lang.Double", "java.lang.Double");
+        VALUE_TYPES.put("java.math.BigInteger", "java.math.BigInteger");
+        VALUE_TYPES.put("java.math.BigDecimal", "java.math.BigDecimal");
+        VALUE_TYPES.put(DATE, DATE);
+        VALUE_TYPES.put("boolean", "java.lang.Boolean");
+        VALUE_TYPES.put("byte", "java.lang.Byte");
+        VALUE_TYPES.put("short", "java.lang.Short");
+        VALUE_TYPES.put("int", "java.lang.Integer");
+        VALUE_TYPES.put("long", "java.lang.Long");
+        VALUE_TYPES.put("float", "java.lang.Float");
+        VALUE_TYPES.put("double", "java.lang.Double");
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(FORM_BEAN);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element annotated : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (annotated.getKind() != ElementKind.CLASS) {
+                    error(annotated, "@FormBean can only be used on classes");
+                    continue;
+                }
+
+                TypeElement beanType = (TypeElement) annotated;
+                List<Property> properties = readProperties(beanType);
+                if (properties != null) {
+                    writeBinder(beanType, properties);
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private List<Property> readProperties(TypeElement beanType) {
+        if (beanType.getNestingKind() != NestingKind.TOP_LEVEL && beanType.getNestingKind() != NestingKind.MEMBER) {
+            error(beanType, "@FormBean classes must be top level or member classes");
+            return null;
+        }
+        if (beanType.getNestingKind() == NestingKind.MEMBER && !beanType.getModifiers().contains(Modifier.STATIC)) {
+            error(beanType, "@FormBean member classes must be static");
+            return null;
+        }
+
+        List<ExecutableElement> methods = ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(beanType));
+
+        boolean valid = true;
+        List<Property> properties = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(beanType.getEnclosedElements())) {
+            AnnotationMirror formField = findAnnotation(field, FORM_FIELD);
+            if (formField == null) {
+                continue;
+            }
+
+            Property property = readProperty(field, formField, methods);
+            if (property != null) {
+                properties.add(property);
+            } else {
+                valid = false;
+            }
+        }
+
+        return valid ? properties : null;
+    }
+
+    private Property readProperty(VariableElement field, AnnotationMirror formField, List<ExecutableElement> methods) {
+        String name = field.getSimpleName().toString();
+        TypeMirror type = field.asType();
+        String typeName = type.toString();
+
+        String valueType = VALUE_TYPES.get(typeName);
+        if (valueType == null) {
+            error(field, "Unsupported @FormField type " + typeName);
+            return null;
+        }
+
+        boolean accessible = !field.getModifiers().contains(Modifier.PRIVATE);
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        String getter = findMethod(methods, type, "get" + capitalized, null);
+        if (getter == null && type.getKind() == TypeKind.BOOLEAN) {
+            getter = findMethod(methods, type, "is" + capitalized, null);
+        }
+        String setter = findMethod(methods, null, "set" + capitalized, type);
+
+        if (getter == null && !accessible) {
+            error(field, "Field '" + name + "' needs a getter or must not be private");
+            return null;
+        }
+        if (setter == null && (!accessible || field.getModifiers().contains(Modifier.FINAL))) {
+            error(field, "Field '" + name + "' needs a setter or must not be private nor final");
+            return null;
+        }
+
+        Map<String, Object> values = annotationValues(formField);
+        String id = (String) values.get("id");
+        if (id == null || id.isEmpty()) {
+            id = name;
+        }
+
+        String elementClass = values.containsKey("element") ? values.get("element").toString() : DEFAULT_ELEMENT;
+        if (DEFAULT_ELEMENT.equals(elementClass)) {
+            if ("java.lang.Boolean".equals(valueType)) {
+                elementClass = CHECKBOX;
+            } else if (DATE.equals(valueType)) {
+                elementClass = DATE_PICKER;
+            } else {
+                elementClass = INPUT;
+            }
+        }
+        if (CHECKBOX.equals(elementClass) && !"java.lang.Boolean".equals(valueType)) {
+            error(field, "Checkbox elements can only be used with boolean fields");
+            return null;
+        }
+        if (DATE_PICKER.equals(elementClass) && !DATE.equals(valueType)) {
+            error(field, "DatePicker elements can only be used with Date fields");
+            return null;
+        }
+
+        Property property = new Property();
+        property.name = name;
+        property.id = id;
+        property.primitive = type.getKind().isPrimitive();
+        property.valueType = valueType;
+        property.elementClass = elementClass;
+        property.label = (String) values.get("label");
+        property.required = Boolean.TRUE.equals(values.get("required"));
+        property.read = getter != null ? "bean." + getter + "()" : "bean." + name;
+        property.setter = setter;
+        return property;
+    }
+
+    private String findMethod(List<ExecutableElement> methods, TypeMirror returnType, String name, TypeMirror parameterType) {
+        for (ExecutableElement method : methods) {
+            if (!method.getSimpleName().contentEquals(name) || !method.getModifiers().contains(Modifier.PUBLIC) || method.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+
+            List<? extends VariableElement> parameters = method.getParameters();
+            if (parameterType == null) {
+                if (parameters.isEmpty() && processingEnv.getTypeUtils().isSameType(method.getReturnType(), returnType)) {
+                    return name;
+                }
+            } else if (parameters.size() == 1 && processingEnv.getTypeUtils().isSameType(parameters.get(0).asType(), parameterType)) {
+                return name;
+            }
+        }
+
+        return null;
+    }
+
+    private void writeBinder(TypeElement beanType, List<Property> properties) {
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(beanType);
+        String packageName = packageElement.isUnnamed() ? null : packageElement.getQualifiedName().toString();
+        String beanName = beanType.getQualifiedName().toString();
+        String binderName = binderSimpleName(beanType);
+
+        Map<String, Object> beanValues = annotationValues(findAnnotation(beanType, FORM_BEAN));
+        String formClass = beanValues.containsKey("form") ? beanValues.get("form").toString() : DEFAULT_FORM;
+
+        StringBuilder source = new StringBuilder();
+        if (packageName != null) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n");
+        source.append(" * Form binder for {@link ").append(beanName).append("}, generated by ").append(FormBeanProcessor.class.getName()).append(".\n");
+        source.append(" */\n");
+        source.append("public final class ").append(binderName).append(" implements net.uniform.api.FormBeanBinder<").append(beanName).append("> {\n\n");
+
+        source.append("    @Override\n");
+        source.append("    public Class<").append(beanName).append("> getBeanClass() {\n");
+        source.append("        return ").append(beanName).append(".class;\n");
+        source.append("    }\n\n");
+
+        source.append("    @Override\n");
+        source.append("    public net.uniform.api.Form createForm() {\n");
+        source.append("        net.uniform.api.Form form = new ").append(formClass).append("();\n");
+        for (Property property : properties) {
+            String variable = "element" + capitalize(property.name);
+            source.append("\n");
+            source.append("        ").append(property.elementClass).append(" ").append(variable).append(" = new ").append(property.elementClass).append("(").append(literal(property.id)).append(");\n");
+            if (!CHECKBOX.equals(property.elementClass) && !DATE_PICKER.equals(property.elementClass) && !"java.lang.String".equals(property.valueType)) {
+                source.append("        ").append(variable).append(".setValueType(").append(property.valueType).append(".class);\n");
+            }
+            if (property.label != null && !property.label.isEmpty()) {
+                source.append("        ").append(variable).append(".setLabel(").append(literal(property.label)).append(");\n");
+            }
+            if (property.required) {
+                source.append("        ").append(variable).append(".setRequired(true);\n");
+            }
+            source.append("        form.addElement(").append(variable).append(");\n");
+        }
+        source.append("\n        return form;\n");
+        source.append("    }\n\n");
+
+        source.append("    @Override\n");
+        source.append("    public void populate(net.uniform.api.Form form, ").append(beanName).append(" bean) {\n");
+        for (Property property : properties) {
+            String id = literal(property.id);
+            if (CHECKBOX.equals(property.elementClass)) {
+                source.append("        ((").append(CHECKBOX).append(") form.getElement(").append(id).append(")).setChecked(Boolean.TRUE.equals(").append(property.read).append("));\n");
+            } else if (DATE_PICKER.equals(property.elementClass)) {
+                source.append("        {\n");
+                source.append("            java.util.Date value = ").append(property.read).append(";\n");
+                source.append("            if (value != null) {\n");
+                source.append("                ((").append(DATE_PICKER).append(") form.getElement(").append(id).append(")).setValue(value);\n");
+                source.append("            } else {\n");
+                source.append("                form.setElementValue(").append(id).append(", (String) null);\n");
+                source.append("            }\n");
+                source.append("        }\n");
+            } else if (property.primitive) {
+                source.append("        form.setElementValue(").append(id).append(", String.valueOf(").append(property.read).append("));\n");
+            } else {
+                source.append("        {\n");
+                source.append("            ").append(property.valueType).append(" value = ").append(property.read).append(";\n");
+                source.append("            form.setElementValue(").append(id).append(", value != null ? value.toString() : (String) null);\n");
+                source.append("        }\n");
+            }
+        }
+        source.append("    }\n\n");
+
+        source.append("    @Override\n");
+        source.append("    public void fillBean(net.uniform.api.Form form, ").append(beanName).append(" bean) {\n");
+        for (Property property : properties) {
+            String converted = "(" + property.valueType + ") form.getElementValueConvertedToValueType(" + literal(property.id) + ")";
+            if (property.primitive) {
+                source.append("        {\n");
+                source.append("            ").append(property.valueType).append(" value = ").append(converted).append(";\n");
+                source.append("            if (value != null) {\n");
+                source.append("                ").append(write(property, "value")).append(";\n");
+                source.append("            }\n");
+                source.append("        }\n");
+            } else {
+                source.append("        ").append(write(property, converted)).append(";\n");
+            }
+        }
+        source.append("    }\n");
+        source.append("}\n");
+
+        String qualifiedBinderName = packageName != null ? packageName + "." + binderName : binderName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedBinderName, beanType).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            error(beanType, "Could not write " + qualifiedBinderName + ": " + e.getMessage());
+        }
+    }
+
+    private static String write(Property property, String value) {
+        if (property.setter != null) {
+            return "bean." + property.setter + "(" + value + ")";
+        }
+        return "bean." + property.name + " = " + value;
+    }
+
+    private static String binderSimpleName(TypeElement beanType) {
+        StringBuilder name = new StringBuilder(beanType.getSimpleName());
+        Element enclosing = beanType.getEnclosingElement();
+        while (enclosing instanceof TypeElement) {
+            name.insert(0, enclosing.getSimpleName() + "_");
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return name.append(BINDER_SUFFIX).toString();
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String literal(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                case '\n':
+                    literal.append("\\n");
+                    break;
+                case '\r':
+                    literal.append("\\r");
+                    break;
+                default:
+                    if (c < ' ') {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    private static AnnotationMirror findAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(annotationName)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the values explicitly set in an annotation by name. Class values are returned as their type mirror.
+     */
+    private static Map<String, Object> annotationValues(AnnotationMirror mirror) {
+        Map<String, Object> values = new HashMap<>();
+        if (mirror != null) {
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+                values.put(entry.getKey().getSimpleName().toString(), entry.getValue().getValue());
+            }
+        }
+        return values;
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private static final class Property {
+
+        private String name;
+        private String id;
+        private boolean primitive;
+        private String valueType;
+        private String elementClass;
+        private String label;
+        private boolean required;
+        private String read;
+        private String setter;
+    }
+}
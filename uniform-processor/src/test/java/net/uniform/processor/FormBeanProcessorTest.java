@@ -0,0 +1,183 @@
+/* 
+ * Copyright 2015 Eduardo Ramos.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.uniform.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import net.uniform.api.Form;
+import net.uniform.api.FormBeanBinder;
+import net.uniform.html.elements.Checkbox;
+import net.uniform.html.elements.Input;
+import static org.junit.Assert.*;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ *
+ * @author Eduardo Ramos
+ */
+public class FormBeanProcessorTest {
+
+    private static final String SAMPLE_BEAN
+            = "package sample;\n"
+            + "import net.uniform.api.annotations.FormBean;\n"
+            + "import net.uniform.api.annotations.FormField;\n"
+            + "@FormBean\n"
+            + "public class Person {\n"
+            + "    @FormField(label = \"Name\", required = true)\n"
+            + "    private String name;\n"
+            + "    @FormField(id = \"person_age\")\n"
+            + "    int age;\n"
+            + "    @FormField\n"
+            + "    private boolean active;\n"
+            + "    @FormField\n"
+            + "    public java.math.BigDecimal salary;\n"
+            + "    public String getName() { return name; }\n"
+            + "    public void setName(String name) { this.name = name; }\n"
+            + "    public boolean isActive() { return active; }\n"
+            + "    public void setActive(boolean active) { this.active = active; }\n"
+            + "}\n";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private JavaCompiler compiler;
+
+    @Before
+    public void setUp() {
+        compiler = ToolProvider.getSystemJavaCompiler();
+        Assume.assumeNotNull(compiler);
+    }
+
+    @Test
+    public void testGeneratedBinder() throws Exception {
+        File output = compile("sample/Person.java", SAMPLE_BEAN, null);
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toURI().toURL()}, getClass().getClassLoader())) {
+            Class<?> beanClass = loader.loadClass("sample.Person");
+            FormBeanBinder<Object> binder = (FormBeanBinder<Object>) loader.loadClass("sample.PersonFormBinder").newInstance();
+
+            assertEquals(beanClass, binder.getBeanClass());
+
+            Form form = binder.createForm();
+            assertEquals(new HashSet<>(Arrays.asList("name", "person_age", "active", "salary")), form.getElements().keySet());
+            assertTrue(form.getElement("name") instanceof Input);
+            assertEquals("Name", form.getElement("name").getLabel());
+            assertTrue(form.getElement("name").isRequired());
+            assertEquals(Integer.class, form.getElement("person_age").getValueType());
+            assertTrue(form.getElement("active") instanceof Checkbox);
+            assertEquals(BigDecimal.class, form.getElement("salary").getValueType());
+
+            Field age = beanClass.getDeclaredField("age");
+            age.setAccessible(true);
+
+            Object bean = beanClass.newInstance();
+            beanClass.getMethod("setName", String.class).invoke(bean, "John");
+            age.setInt(bean, 30);
+            beanClass.getMethod("setActive", boolean.class).invoke(bean, true);
+            binder.populate(form, bean);
+
+            assertEquals("John", form.getElement("name").getFirstValue());
+            assertEquals("30", form.getElement("person_age").getFirstValue());
+            assertTrue(((Checkbox) form.getElement("active")).isChecked());
+            assertNull(form.getElement("salary").getFirstValue());
+
+            form.setElementValue("name", "Mary");
+            form.setElementValue("person_age", "25");
+            form.setElementValue("salary", "1000.50");
+            ((Checkbox) form.getElement("active")).setChecked(false);
+
+            Object filled = beanClass.newInstance();
+            binder.fillBean(form, filled);
+
+            Method getName = beanClass.getMethod("getName");
+            assertEquals("Mary", getName.invoke(filled));
+            assertEquals(25, age.getInt(filled));
+            assertEquals(Boolean.FALSE, beanClass.getMethod("isActive").invoke(filled));
+            assertEquals(new BigDecimal("1000.50"), beanClass.getField("salary").get(filled));
+        }
+    }
+
+    @Test
+    public void testUnsupportedFieldType() throws Exception {
+        String source
+                = "package sample;\n"
+                + "@net.uniform.api.annotations.FormBean\n"
+                + "public class Invalid {\n"
+                + "    @net.uniform.api.annotations.FormField\n"
+                + "    public java.util.List<String> values;\n"
+                + "}\n";
+
+        StringWriter diagnostics = new StringWriter();
+        assertNull(compile("sample/Invalid.java", source, diagnostics));
+        assertTrue(diagnostics.toString().contains("Unsupported @FormField type"));
+    }
+
+    @Test
+    public void testInaccessibleField() throws Exception {
+        String source
+                = "package sample;\n"
+                + "@net.uniform.api.annotations.FormBean\n"
+                + "public class Hidden {\n"
+                + "    @net.uniform.api.annotations.FormField\n"
+                + "    private String value;\n"
+                + "}\n";
+
+        StringWriter diagnostics = new StringWriter();
+        assertNull(compile("sample/Hidden.java", source, diagnostics));
+        assertTrue(diagnostics.toString().contains("needs a getter"));
+    }
+
+    /**
+     * Compiles a source file with the processor and returns the output folder, or null if compilation failed.
+     */
+    private File compile(String path, String source, StringWriter diagnostics) throws IOException {
+        File sources = folder.newFolder();
+        File output = folder.newFolder();
+        File sourceFile = new File(sources, path);
+        sourceFile.getParentFile().mkdirs();
+        Files.write(sourceFile.toPath(), source.getBytes(StandardCharsets.UTF_8));
+
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(
+                    diagnostics, fileManager, null,
+                    Arrays.asList("-classpath", System.getProperty("java.class.path"), "-d", output.getPath(), "-s", output.getPath()),
+                    null,
+                    fileManager.getJavaFileObjects(sourceFile)
+            );
+            task.setProcessors(Collections.singletonList(new FormBeanProcessor()));
+
+            return task.call() ? output : null;
+        }
+    }
+}